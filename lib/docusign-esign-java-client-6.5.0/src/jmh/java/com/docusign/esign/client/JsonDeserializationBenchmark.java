@@ -0,0 +1,150 @@
+package com.docusign.esign.client;
+
+import com.docusign.esign.model.DateSigned;
+import com.docusign.esign.model.Envelope;
+import com.docusign.esign.model.EnvelopesInformation;
+import com.docusign.esign.model.Recipients;
+import com.docusign.esign.model.SignHere;
+import com.docusign.esign.model.Signer;
+import com.docusign.esign.model.Tabs;
+import com.docusign.esign.model.Text;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deserialization throughput of the SDK {@link JSON} mapper with and without {@link JSON#enableBytecodeAcceleration()}.
+ *
+ * Payloads mimic a listStatusChanges page (envelopes with recipients and tabs included) and a document's Tabs.
+ * Run with: <code>mvn -Pbenchmarks test-compile exec:exec</code>. Not exec:java: JMH forks a new JVM per trial and
+ * takes its classpath from {@code java.class.path}, which exec:java leaves pointing at Maven's own launcher.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JsonDeserializationBenchmark {
+
+  @Param({"plain", "accelerated"})
+  public String mapper;
+
+  @Param({"100", "500"})
+  public int envelopes;
+
+  private ObjectMapper objectMapper;
+  private byte[] envelopesJson;
+  private byte[] tabsJson;
+
+  @Setup
+  public void setUp() throws IOException {
+    JSON json = new JSON();
+    if ("accelerated".equals(mapper) && json.enableBytecodeAcceleration() == null) {
+      throw new IllegalStateException("jackson-module-blackbird/afterburner not on the benchmark classpath");
+    }
+    objectMapper = json.getObjectMapper();
+
+    ObjectMapper writer = new JSON().getObjectMapper();
+    envelopesJson = writer.writeValueAsBytes(envelopesInformation(envelopes));
+    tabsJson = writer.writeValueAsBytes(tabs("1", envelopes));
+  }
+
+  @Benchmark
+  public EnvelopesInformation readEnvelopesInformation() throws IOException {
+    return objectMapper.readValue(envelopesJson, EnvelopesInformation.class);
+  }
+
+  @Benchmark
+  public Tabs readTabs() throws IOException {
+    return objectMapper.readValue(tabsJson, Tabs.class);
+  }
+
+  private static EnvelopesInformation envelopesInformation(int count) {
+    List<Envelope> list = new ArrayList<Envelope>();
+    for (int i = 0; i < count; i++) {
+      Envelope envelope = new Envelope();
+      envelope.setEnvelopeId(String.format("%08d-0000-4000-8000-000000000000", i));
+      envelope.setStatus(i % 3 == 0 ? "completed" : "sent");
+      envelope.setEmailSubject("Please sign agreement #" + i);
+      envelope.setSentDateTime("2024-05-01T10:15:30.0000000Z");
+      envelope.setStatusChangedDateTime("2024-05-02T08:00:00.0000000Z");
+
+      List<Signer> signers = new ArrayList<Signer>();
+      for (int r = 1; r <= 3; r++) {
+        Signer signer = new Signer();
+        signer.setRecipientId(String.valueOf(r));
+        signer.setRoutingOrder(String.valueOf(r));
+        signer.setName("Signer " + r);
+        signer.setEmail("signer" + r + "@example.com");
+        signer.setStatus(r == 1 ? "completed" : "sent");
+        signer.setTabs(tabs(String.valueOf(r), 2));
+        signers.add(signer);
+      }
+      Recipients recipients = new Recipients();
+      recipients.setSigners(signers);
+      envelope.setRecipients(recipients);
+      list.add(envelope);
+    }
+    EnvelopesInformation info = new EnvelopesInformation();
+    info.setEnvelopes(list);
+    info.setResultSetSize(String.valueOf(count));
+    info.setTotalSetSize(String.valueOf(count));
+    return info;
+  }
+
+  private static Tabs tabs(String recipientId, int perType) {
+    List<SignHere> signHere = new ArrayList<SignHere>();
+    List<Text> text = new ArrayList<Text>();
+    List<DateSigned> dateSigned = new ArrayList<DateSigned>();
+    for (int i = 0; i < perType; i++) {
+      SignHere s = new SignHere();
+      s.setDocumentId("1");
+      s.setRecipientId(recipientId);
+      s.setPageNumber(String.valueOf(i + 1));
+      s.setXPosition("100");
+      s.setYPosition("200");
+      s.setTabLabel("sign_" + i);
+      signHere.add(s);
+
+      Text t = new Text();
+      t.setDocumentId("1");
+      t.setRecipientId(recipientId);
+      t.setPageNumber(String.valueOf(i + 1));
+      t.setXPosition("120");
+      t.setYPosition("260");
+      t.setTabLabel("text_" + i);
+      t.setValue("value " + i);
+      text.add(t);
+
+      DateSigned d = new DateSigned();
+      d.setDocumentId("1");
+      d.setRecipientId(recipientId);
+      d.setPageNumber(String.valueOf(i + 1));
+      d.setXPosition("300");
+      d.setYPosition("200");
+      d.setTabLabel("date_" + i);
+      d.setValue("5/2/2024");
+      dateSigned.add(d);
+    }
+    Tabs tabs = new Tabs();
+    tabs.setSignHereTabs(signHere);
+    tabs.setTextTabs(text);
+    tabs.setDateSignedTabs(dateSigned);
+    return tabs;
+  }
+}
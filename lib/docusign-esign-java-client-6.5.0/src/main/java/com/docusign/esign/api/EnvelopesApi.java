@@ -1110,6 +1110,76 @@ public class EnvelopesApi {
     return new ApiResponse<EnvelopeSummary>(apiClient.getStatusCode(), apiClient.getResponseHeaders(), localVarResponse);
   }
 
+  /**
+   * Creates an envelope (asynchronous).
+   * @param accountId The external account number (int) or account ID Guid. (required)
+   * @param envelopeDefinition  (optional)
+   * @return future of ApiResponse&lt;EnvelopeSummary&gt;
+   * @throws ApiException if a required parameter is missing
+   */
+  public java.util.concurrent.CompletableFuture<ApiResponse<EnvelopeSummary>> createEnvelopeAsync(String accountId, EnvelopeDefinition envelopeDefinition) throws ApiException {
+    return createEnvelopeAsync(accountId, envelopeDefinition, null);
+  }
+
+  /**
+   * Creates an envelope (asynchronous).
+   * Runs on the ApiClient's async invoker; see {@link ApiClient#invokeAPIAsync}.
+   * @param accountId The external account number (int) or account ID Guid. (required)
+   * @param envelopeDefinition  (optional)
+   * @param options for modifying the method behavior.
+   * @return future of ApiResponse&lt;EnvelopeSummary&gt;
+   * @throws ApiException if a required parameter is missing
+   */
+  public java.util.concurrent.CompletableFuture<ApiResponse<EnvelopeSummary>> createEnvelopeAsync(String accountId, EnvelopeDefinition envelopeDefinition, EnvelopesApi.CreateEnvelopeOptions options) throws ApiException {
+    Object localVarPostBody = envelopeDefinition;
+    
+    // verify the required parameter 'accountId' is set
+    if (accountId == null) {
+      throw new ApiException(400, "Missing the required parameter 'accountId' when calling createEnvelope");
+    }
+    
+    // create path and map variables
+    String localVarPath = "/v2.1/accounts/{accountId}/envelopes"
+      .replaceAll("\\{" + "accountId" + "\\}", apiClient.escapeString(accountId.toString()));
+
+    // query params
+    java.util.List<Pair> localVarQueryParams = new java.util.ArrayList<Pair>();
+    java.util.List<Pair> localVarCollectionQueryParams = new java.util.ArrayList<Pair>();
+    java.util.Map<String, String> localVarHeaderParams = new java.util.HashMap<String, String>();
+    java.util.Map<String, Object> localVarFormParams = new java.util.HashMap<String, Object>();
+
+    if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("cdse_mode", options.cdseMode));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("change_routing_order", options.changeRoutingOrder));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("completed_documents_only", options.completedDocumentsOnly));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("merge_roles_on_draft", options.mergeRolesOnDraft));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("tab_label_exact_matches", options.tabLabelExactMatches));
+    }
+
+    
+
+    
+
+    final String[] localVarAccepts = {
+      "application/json"
+    };
+    final String localVarAccept = apiClient.selectHeaderAccept(localVarAccepts);
+
+    final String[] localVarContentTypes = {
+      
+    };
+    final String localVarContentType = apiClient.selectHeaderContentType(localVarContentTypes);
+
+    String[] localVarAuthNames = new String[] { "docusignAccessCode" };
+    
+    GenericType<EnvelopeSummary> localVarReturnType = new GenericType<EnvelopeSummary>() {};
+    return apiClient.invokeAPIAsync(localVarPath, "POST", localVarQueryParams, localVarCollectionQueryParams, localVarPostBody, localVarHeaderParams, localVarFormParams, localVarAccept, localVarContentType, localVarAuthNames, localVarReturnType);
+  }
+
   /**
    * Posts a list of comments for authorized user.
    * 
@@ -4842,6 +4912,190 @@ public class EnvelopesApi {
     byte[] localVarResponse = apiClient.invokeAPI(localVarPath, "GET", localVarQueryParams, localVarCollectionQueryParams, localVarPostBody, localVarHeaderParams, localVarFormParams, localVarAccept, localVarContentType, localVarAuthNames, localVarReturnType);
     return new ApiResponse<byte[]>(apiClient.getStatusCode(), apiClient.getResponseHeaders(), localVarResponse);
   }
+
+  /**
+   * Gets a document from an envelope as a stream.
+   * Same request as {@link #getDocument}, but the document is not read into memory. Close the stream to release the connection.
+   * @param accountId The external account number (int) or account ID Guid. (required)
+   * @param envelopeId The envelopeId Guid of the envelope being accessed. (required)
+   * @param documentId The ID of the document being accessed. (required)
+   * @return InputStream
+   * @throws ApiException if fails to make API call
+   */
+  public java.io.InputStream getDocumentStream(String accountId, String envelopeId, String documentId) throws ApiException {
+    return getDocumentStream(accountId, envelopeId, documentId, null);
+  }
+
+  /**
+   * Gets a document from an envelope as a stream.
+   * Same request as {@link #getDocument}, but the document is not read into memory. Close the stream to release the connection.
+   * @param accountId The external account number (int) or account ID Guid. (required)
+   * @param envelopeId The envelopeId Guid of the envelope being accessed. (required)
+   * @param documentId The ID of the document being accessed. (required)
+   * @param options for modifying the method behavior.
+   * @return InputStream
+   * @throws ApiException if fails to make API call
+   */
+  public java.io.InputStream getDocumentStream(String accountId, String envelopeId, String documentId, EnvelopesApi.GetDocumentOptions options) throws ApiException {
+    Object localVarPostBody = "{}";
+    
+    // verify the required parameter 'accountId' is set
+    if (accountId == null) {
+      throw new ApiException(400, "Missing the required parameter 'accountId' when calling getDocument");
+    }
+    
+    // verify the required parameter 'envelopeId' is set
+    if (envelopeId == null) {
+      throw new ApiException(400, "Missing the required parameter 'envelopeId' when calling getDocument");
+    }
+    
+    // verify the required parameter 'documentId' is set
+    if (documentId == null) {
+      throw new ApiException(400, "Missing the required parameter 'documentId' when calling getDocument");
+    }
+    
+    // create path and map variables
+    String localVarPath = "/v2.1/accounts/{accountId}/envelopes/{envelopeId}/documents/{documentId}"
+      .replaceAll("\\{" + "accountId" + "\\}", apiClient.escapeString(accountId.toString()))
+      .replaceAll("\\{" + "envelopeId" + "\\}", apiClient.escapeString(envelopeId.toString()))
+      .replaceAll("\\{" + "documentId" + "\\}", apiClient.escapeString(documentId.toString()));
+
+    // query params
+    java.util.List<Pair> localVarQueryParams = new java.util.ArrayList<Pair>();
+    java.util.List<Pair> localVarCollectionQueryParams = new java.util.ArrayList<Pair>();
+    java.util.Map<String, String> localVarHeaderParams = new java.util.HashMap<String, String>();
+    java.util.Map<String, Object> localVarFormParams = new java.util.HashMap<String, Object>();
+
+    if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("certificate", options.certificate));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("documents_by_userid", options.documentsByUserid));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("encoding", options.encoding));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("encrypt", options.encrypt));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("language", options.language));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("recipient_id", options.recipientId));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("shared_user_id", options.sharedUserId));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("show_changes", options.showChanges));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("watermark", options.watermark));
+    }
+
+    
+
+    
+
+    final String[] localVarAccepts = {
+      "application/pdf"
+    };
+    final String localVarAccept = apiClient.selectHeaderAccept(localVarAccepts);
+
+    final String[] localVarContentTypes = {
+      
+    };
+    final String localVarContentType = apiClient.selectHeaderContentType(localVarContentTypes);
+
+    String[] localVarAuthNames = new String[] { "docusignAccessCode" };
+    
+    return apiClient.invokeAPIStream(localVarPath, "GET", localVarQueryParams, localVarCollectionQueryParams, localVarPostBody, localVarHeaderParams, localVarFormParams, localVarAccept, localVarContentType, localVarAuthNames);
+  }
+
+  /**
+   * Gets a document from an envelope (asynchronous).
+   * @param accountId The external account number (int) or account ID Guid. (required)
+   * @param envelopeId The envelopeId Guid of the envelope being accessed. (required)
+   * @param documentId The ID of the document being accessed. (required)
+   * @return future of ApiResponse&lt;byte[]&gt;
+   * @throws ApiException if a required parameter is missing
+   */
+  public java.util.concurrent.CompletableFuture<ApiResponse<byte[]>> getDocumentAsync(String accountId, String envelopeId, String documentId) throws ApiException {
+    return getDocumentAsync(accountId, envelopeId, documentId, null);
+  }
+
+  /**
+   * Gets a document from an envelope (asynchronous).
+   * Runs on the ApiClient's async invoker; see {@link ApiClient#invokeAPIAsync}.
+   * @param accountId The external account number (int) or account ID Guid. (required)
+   * @param envelopeId The envelopeId Guid of the envelope being accessed. (required)
+   * @param documentId The ID of the document being accessed. (required)
+   * @param options for modifying the method behavior.
+   * @return future of ApiResponse&lt;byte[]&gt;
+   * @throws ApiException if a required parameter is missing
+   */
+  public java.util.concurrent.CompletableFuture<ApiResponse<byte[]>> getDocumentAsync(String accountId, String envelopeId, String documentId, EnvelopesApi.GetDocumentOptions options) throws ApiException {
+    Object localVarPostBody = "{}";
+    
+    // verify the required parameter 'accountId' is set
+    if (accountId == null) {
+      throw new ApiException(400, "Missing the required parameter 'accountId' when calling getDocument");
+    }
+    
+    // verify the required parameter 'envelopeId' is set
+    if (envelopeId == null) {
+      throw new ApiException(400, "Missing the required parameter 'envelopeId' when calling getDocument");
+    }
+    
+    // verify the required parameter 'documentId' is set
+    if (documentId == null) {
+      throw new ApiException(400, "Missing the required parameter 'documentId' when calling getDocument");
+    }
+    
+    // create path and map variables
+    String localVarPath = "/v2.1/accounts/{accountId}/envelopes/{envelopeId}/documents/{documentId}"
+      .replaceAll("\\{" + "accountId" + "\\}", apiClient.escapeString(accountId.toString()))
+      .replaceAll("\\{" + "envelopeId" + "\\}", apiClient.escapeString(envelopeId.toString()))
+      .replaceAll("\\{" + "documentId" + "\\}", apiClient.escapeString(documentId.toString()));
+
+    // query params
+    java.util.List<Pair> localVarQueryParams = new java.util.ArrayList<Pair>();
+    java.util.List<Pair> localVarCollectionQueryParams = new java.util.ArrayList<Pair>();
+    java.util.Map<String, String> localVarHeaderParams = new java.util.HashMap<String, String>();
+    java.util.Map<String, Object> localVarFormParams = new java.util.HashMap<String, Object>();
+
+    if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("certificate", options.certificate));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("documents_by_userid", options.documentsByUserid));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("encoding", options.encoding));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("encrypt", options.encrypt));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("language", options.language));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("recipient_id", options.recipientId));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("shared_user_id", options.sharedUserId));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("show_changes", options.showChanges));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("watermark", options.watermark));
+    }
+
+    
+
+    
+
+    final String[] localVarAccepts = {
+      "application/pdf"
+    };
+    final String localVarAccept = apiClient.selectHeaderAccept(localVarAccepts);
+
+    final String[] localVarContentTypes = {
+      
+    };
+    final String localVarContentType = apiClient.selectHeaderContentType(localVarContentTypes);
+
+    String[] localVarAuthNames = new String[] { "docusignAccessCode" };
+    
+    GenericType<byte[]> localVarReturnType = new GenericType<byte[]>() {};
+    return apiClient.invokeAPIAsync(localVarPath, "GET", localVarQueryParams, localVarCollectionQueryParams, localVarPostBody, localVarHeaderParams, localVarFormParams, localVarAccept, localVarContentType, localVarAuthNames, localVarReturnType);
+  }
   /// <summary>
   /// Gets a page image from an envelope for display. Retrieves a page image for display from the specified envelope.
   /// </summary>
@@ -5386,51 +5640,42 @@ public class EnvelopesApi {
   }
 
   /**
-   * Returns the delayed routing rules for an envelope&#39;s workflow step definition..
-   * 
+   * Gets the status of a envelope (asynchronous).
    * @param accountId The external account number (int) or account ID Guid. (required)
    * @param envelopeId The envelopeId Guid of the envelope being accessed. (required)
-   * @param workflowStepId  (required)
-   * @return DelayedRouting
-   * @throws ApiException if fails to make API call
+   * @return future of ApiResponse&lt;Envelope&gt;
+   * @throws ApiException if a required parameter is missing
    */
-  public DelayedRouting getEnvelopeDelayedRoutingDefinition(String accountId, String envelopeId, String workflowStepId) throws ApiException {
-    ApiResponse<DelayedRouting> localVarResponse = getEnvelopeDelayedRoutingDefinitionWithHttpInfo(accountId, envelopeId, workflowStepId);
-    return localVarResponse.getData();
+  public java.util.concurrent.CompletableFuture<ApiResponse<Envelope>> getEnvelopeAsync(String accountId, String envelopeId) throws ApiException {
+    return getEnvelopeAsync(accountId, envelopeId, null);
   }
 
   /**
-   * Returns the delayed routing rules for an envelope&#39;s workflow step definition.
-   * 
+   * Gets the status of a envelope (asynchronous).
+   * Runs on the ApiClient's async invoker; see {@link ApiClient#invokeAPIAsync}.
    * @param accountId The external account number (int) or account ID Guid. (required)
    * @param envelopeId The envelopeId Guid of the envelope being accessed. (required)
-   * @param workflowStepId  (required)
-   * @return DelayedRouting
-   * @throws ApiException if fails to make API call
+   * @param options for modifying the method behavior.
+   * @return future of ApiResponse&lt;Envelope&gt;
+   * @throws ApiException if a required parameter is missing
    */
-  public ApiResponse<DelayedRouting > getEnvelopeDelayedRoutingDefinitionWithHttpInfo(String accountId, String envelopeId, String workflowStepId) throws ApiException {
+  public java.util.concurrent.CompletableFuture<ApiResponse<Envelope>> getEnvelopeAsync(String accountId, String envelopeId, EnvelopesApi.GetEnvelopeOptions options) throws ApiException {
     Object localVarPostBody = "{}";
     
     // verify the required parameter 'accountId' is set
     if (accountId == null) {
-      throw new ApiException(400, "Missing the required parameter 'accountId' when calling getEnvelopeDelayedRoutingDefinition");
+      throw new ApiException(400, "Missing the required parameter 'accountId' when calling getEnvelope");
     }
     
     // verify the required parameter 'envelopeId' is set
     if (envelopeId == null) {
-      throw new ApiException(400, "Missing the required parameter 'envelopeId' when calling getEnvelopeDelayedRoutingDefinition");
-    }
-    
-    // verify the required parameter 'workflowStepId' is set
-    if (workflowStepId == null) {
-      throw new ApiException(400, "Missing the required parameter 'workflowStepId' when calling getEnvelopeDelayedRoutingDefinition");
+      throw new ApiException(400, "Missing the required parameter 'envelopeId' when calling getEnvelope");
     }
     
     // create path and map variables
-    String localVarPath = "/v2.1/accounts/{accountId}/envelopes/{envelopeId}/workflow/steps/{workflowStepId}/delayedRouting"
+    String localVarPath = "/v2.1/accounts/{accountId}/envelopes/{envelopeId}"
       .replaceAll("\\{" + "accountId" + "\\}", apiClient.escapeString(accountId.toString()))
-      .replaceAll("\\{" + "envelopeId" + "\\}", apiClient.escapeString(envelopeId.toString()))
-      .replaceAll("\\{" + "workflowStepId" + "\\}", apiClient.escapeString(workflowStepId.toString()));
+      .replaceAll("\\{" + "envelopeId" + "\\}", apiClient.escapeString(envelopeId.toString()));
 
     // query params
     java.util.List<Pair> localVarQueryParams = new java.util.ArrayList<Pair>();
@@ -5438,11 +5683,92 @@ public class EnvelopesApi {
     java.util.Map<String, String> localVarHeaderParams = new java.util.HashMap<String, String>();
     java.util.Map<String, Object> localVarFormParams = new java.util.HashMap<String, Object>();
 
-    
-
-    
-
-    
+    if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("advanced_update", options.advancedUpdate));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("include", options.include));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("include_anchor_tab_locations", options.includeAnchorTabLocations));
+    }
+
+    
+
+    
+
+    final String[] localVarAccepts = {
+      "application/json"
+    };
+    final String localVarAccept = apiClient.selectHeaderAccept(localVarAccepts);
+
+    final String[] localVarContentTypes = {
+      
+    };
+    final String localVarContentType = apiClient.selectHeaderContentType(localVarContentTypes);
+
+    String[] localVarAuthNames = new String[] { "docusignAccessCode" };
+    
+    GenericType<Envelope> localVarReturnType = new GenericType<Envelope>() {};
+    return apiClient.invokeAPIAsync(localVarPath, "GET", localVarQueryParams, localVarCollectionQueryParams, localVarPostBody, localVarHeaderParams, localVarFormParams, localVarAccept, localVarContentType, localVarAuthNames, localVarReturnType);
+  }
+
+  /**
+   * Returns the delayed routing rules for an envelope&#39;s workflow step definition..
+   * 
+   * @param accountId The external account number (int) or account ID Guid. (required)
+   * @param envelopeId The envelopeId Guid of the envelope being accessed. (required)
+   * @param workflowStepId  (required)
+   * @return DelayedRouting
+   * @throws ApiException if fails to make API call
+   */
+  public DelayedRouting getEnvelopeDelayedRoutingDefinition(String accountId, String envelopeId, String workflowStepId) throws ApiException {
+    ApiResponse<DelayedRouting> localVarResponse = getEnvelopeDelayedRoutingDefinitionWithHttpInfo(accountId, envelopeId, workflowStepId);
+    return localVarResponse.getData();
+  }
+
+  /**
+   * Returns the delayed routing rules for an envelope&#39;s workflow step definition.
+   * 
+   * @param accountId The external account number (int) or account ID Guid. (required)
+   * @param envelopeId The envelopeId Guid of the envelope being accessed. (required)
+   * @param workflowStepId  (required)
+   * @return DelayedRouting
+   * @throws ApiException if fails to make API call
+   */
+  public ApiResponse<DelayedRouting > getEnvelopeDelayedRoutingDefinitionWithHttpInfo(String accountId, String envelopeId, String workflowStepId) throws ApiException {
+    Object localVarPostBody = "{}";
+    
+    // verify the required parameter 'accountId' is set
+    if (accountId == null) {
+      throw new ApiException(400, "Missing the required parameter 'accountId' when calling getEnvelopeDelayedRoutingDefinition");
+    }
+    
+    // verify the required parameter 'envelopeId' is set
+    if (envelopeId == null) {
+      throw new ApiException(400, "Missing the required parameter 'envelopeId' when calling getEnvelopeDelayedRoutingDefinition");
+    }
+    
+    // verify the required parameter 'workflowStepId' is set
+    if (workflowStepId == null) {
+      throw new ApiException(400, "Missing the required parameter 'workflowStepId' when calling getEnvelopeDelayedRoutingDefinition");
+    }
+    
+    // create path and map variables
+    String localVarPath = "/v2.1/accounts/{accountId}/envelopes/{envelopeId}/workflow/steps/{workflowStepId}/delayedRouting"
+      .replaceAll("\\{" + "accountId" + "\\}", apiClient.escapeString(accountId.toString()))
+      .replaceAll("\\{" + "envelopeId" + "\\}", apiClient.escapeString(envelopeId.toString()))
+      .replaceAll("\\{" + "workflowStepId" + "\\}", apiClient.escapeString(workflowStepId.toString()));
+
+    // query params
+    java.util.List<Pair> localVarQueryParams = new java.util.ArrayList<Pair>();
+    java.util.List<Pair> localVarCollectionQueryParams = new java.util.ArrayList<Pair>();
+    java.util.Map<String, String> localVarHeaderParams = new java.util.HashMap<String, String>();
+    java.util.Map<String, Object> localVarFormParams = new java.util.HashMap<String, Object>();
+
+    
+
+    
+
+    
 
     final String[] localVarAccepts = {
       "application/json"
@@ -8014,6 +8340,80 @@ public class EnvelopesApi {
     Recipients localVarResponse = apiClient.invokeAPI(localVarPath, "GET", localVarQueryParams, localVarCollectionQueryParams, localVarPostBody, localVarHeaderParams, localVarFormParams, localVarAccept, localVarContentType, localVarAuthNames, localVarReturnType);
     return new ApiResponse<Recipients>(apiClient.getStatusCode(), apiClient.getResponseHeaders(), localVarResponse);
   }
+
+  /**
+   * Gets the status of recipients for an envelope (asynchronous).
+   * @param accountId The external account number (int) or account ID Guid. (required)
+   * @param envelopeId The envelopeId Guid of the envelope being accessed. (required)
+   * @return future of ApiResponse&lt;Recipients&gt;
+   * @throws ApiException if a required parameter is missing
+   */
+  public java.util.concurrent.CompletableFuture<ApiResponse<Recipients>> listRecipientsAsync(String accountId, String envelopeId) throws ApiException {
+    return listRecipientsAsync(accountId, envelopeId, null);
+  }
+
+  /**
+   * Gets the status of recipients for an envelope (asynchronous).
+   * Runs on the ApiClient's async invoker; see {@link ApiClient#invokeAPIAsync}.
+   * @param accountId The external account number (int) or account ID Guid. (required)
+   * @param envelopeId The envelopeId Guid of the envelope being accessed. (required)
+   * @param options for modifying the method behavior.
+   * @return future of ApiResponse&lt;Recipients&gt;
+   * @throws ApiException if a required parameter is missing
+   */
+  public java.util.concurrent.CompletableFuture<ApiResponse<Recipients>> listRecipientsAsync(String accountId, String envelopeId, EnvelopesApi.ListRecipientsOptions options) throws ApiException {
+    Object localVarPostBody = "{}";
+    
+    // verify the required parameter 'accountId' is set
+    if (accountId == null) {
+      throw new ApiException(400, "Missing the required parameter 'accountId' when calling listRecipients");
+    }
+    
+    // verify the required parameter 'envelopeId' is set
+    if (envelopeId == null) {
+      throw new ApiException(400, "Missing the required parameter 'envelopeId' when calling listRecipients");
+    }
+    
+    // create path and map variables
+    String localVarPath = "/v2.1/accounts/{accountId}/envelopes/{envelopeId}/recipients"
+      .replaceAll("\\{" + "accountId" + "\\}", apiClient.escapeString(accountId.toString()))
+      .replaceAll("\\{" + "envelopeId" + "\\}", apiClient.escapeString(envelopeId.toString()));
+
+    // query params
+    java.util.List<Pair> localVarQueryParams = new java.util.ArrayList<Pair>();
+    java.util.List<Pair> localVarCollectionQueryParams = new java.util.ArrayList<Pair>();
+    java.util.Map<String, String> localVarHeaderParams = new java.util.HashMap<String, String>();
+    java.util.Map<String, Object> localVarFormParams = new java.util.HashMap<String, Object>();
+
+    if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("include_anchor_tab_locations", options.includeAnchorTabLocations));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("include_extended", options.includeExtended));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("include_metadata", options.includeMetadata));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("include_tabs", options.includeTabs));
+    }
+
+    
+
+    
+
+    final String[] localVarAccepts = {
+      "application/json"
+    };
+    final String localVarAccept = apiClient.selectHeaderAccept(localVarAccepts);
+
+    final String[] localVarContentTypes = {
+      
+    };
+    final String localVarContentType = apiClient.selectHeaderContentType(localVarContentTypes);
+
+    String[] localVarAuthNames = new String[] { "docusignAccessCode" };
+    
+    GenericType<Recipients> localVarReturnType = new GenericType<Recipients>() {};
+    return apiClient.invokeAPIAsync(localVarPath, "GET", localVarQueryParams, localVarCollectionQueryParams, localVarPostBody, localVarHeaderParams, localVarFormParams, localVarAccept, localVarContentType, localVarAuthNames, localVarReturnType);
+  }
   /// <summary>
   /// Gets the envelope status for the specified envelopes. Retrieves the envelope status for the specified envelopes.
   /// </summary>
@@ -9000,6 +9400,243 @@ public class EnvelopesApi {
     EnvelopesInformation localVarResponse = apiClient.invokeAPI(localVarPath, "GET", localVarQueryParams, localVarCollectionQueryParams, localVarPostBody, localVarHeaderParams, localVarFormParams, localVarAccept, localVarContentType, localVarAuthNames, localVarReturnType);
     return new ApiResponse<EnvelopesInformation>(apiClient.getStatusCode(), apiClient.getResponseHeaders(), localVarResponse);
   }
+
+  /**
+   * Gets status changes for one or more envelopes, projected.
+   * Same request as {@link #listStatusChanges}, but each envelope is streamed through {@code projection} instead of
+   * being bound to {@link Envelope}; unused fields are skipped while parsing. See
+   * {@link com.docusign.esign.client.EnvelopeStatusSummary#PROJECTION} for an id/status/recipients projection.
+   * @param <T> The projected envelope type
+   * @param accountId The external account number (int) or account ID Guid. (required)
+   * @param options for modifying the method behavior.
+   * @param projection projection applied to each envelope. (required)
+   * @return java.util.List&lt;T&gt;
+   * @throws ApiException if fails to make API call
+   */
+  public <T> java.util.List<T> listStatusChangesProjected(String accountId, EnvelopesApi.ListStatusChangesOptions options, com.docusign.esign.client.JsonProjection<T> projection) throws ApiException {
+    // verify the required parameter 'projection' is set
+    if (projection == null) {
+      throw new ApiException(400, "Missing the required parameter 'projection' when calling listStatusChangesProjected");
+    }
+    Object localVarPostBody = "{}";
+    
+    // verify the required parameter 'accountId' is set
+    if (accountId == null) {
+      throw new ApiException(400, "Missing the required parameter 'accountId' when calling listStatusChanges");
+    }
+    
+    // create path and map variables
+    String localVarPath = "/v2.1/accounts/{accountId}/envelopes"
+      .replaceAll("\\{" + "accountId" + "\\}", apiClient.escapeString(accountId.toString()));
+
+    // query params
+    java.util.List<Pair> localVarQueryParams = new java.util.ArrayList<Pair>();
+    java.util.List<Pair> localVarCollectionQueryParams = new java.util.ArrayList<Pair>();
+    java.util.Map<String, String> localVarHeaderParams = new java.util.HashMap<String, String>();
+    java.util.Map<String, Object> localVarFormParams = new java.util.HashMap<String, Object>();
+
+    if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("ac_status", options.acStatus));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("block", options.block));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("cdse_mode", options.cdseMode));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("continuation_token", options.continuationToken));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("count", options.count));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("custom_field", options.customField));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("email", options.email));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("envelope_ids", options.envelopeIds));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("exclude", options.exclude));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("folder_ids", options.folderIds));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("folder_types", options.folderTypes));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("from_date", options.fromDate));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("from_to_status", options.fromToStatus));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("include", options.include));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("include_purge_information", options.includePurgeInformation));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("intersecting_folder_ids", options.intersectingFolderIds));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("last_queried_date", options.lastQueriedDate));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("order", options.order));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("order_by", options.orderBy));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("powerformids", options.powerformids));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("query_budget", options.queryBudget));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("requester_date_format", options.requesterDateFormat));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("search_mode", options.searchMode));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("search_text", options.searchText));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("start_position", options.startPosition));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("status", options.status));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("to_date", options.toDate));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("transaction_ids", options.transactionIds));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("user_filter", options.userFilter));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("user_id", options.userId));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("user_name", options.userName));
+    }
+
+    
+
+    
+
+    final String[] localVarAccepts = {
+      "application/json"
+    };
+    final String localVarAccept = apiClient.selectHeaderAccept(localVarAccepts);
+
+    final String[] localVarContentTypes = {
+      
+    };
+    final String localVarContentType = apiClient.selectHeaderContentType(localVarContentTypes);
+
+    String[] localVarAuthNames = new String[] { "docusignAccessCode" };
+    
+    return apiClient.invokeAPIProjection(localVarPath, "GET", localVarQueryParams, localVarCollectionQueryParams, localVarPostBody, localVarHeaderParams, localVarFormParams, localVarAccept, localVarContentType, localVarAuthNames, "envelopes", projection);
+  }
+
+  /**
+   * Gets status changes for one or more envelopes (asynchronous).
+   * @param accountId The external account number (int) or account ID Guid. (required)
+   * @return future of ApiResponse&lt;EnvelopesInformation&gt;
+   * @throws ApiException if a required parameter is missing
+   */
+  public java.util.concurrent.CompletableFuture<ApiResponse<EnvelopesInformation>> listStatusChangesAsync(String accountId) throws ApiException {
+    return listStatusChangesAsync(accountId, null);
+  }
+
+  /**
+   * Gets status changes for one or more envelopes (asynchronous).
+   * Runs on the ApiClient's async invoker; see {@link ApiClient#invokeAPIAsync}.
+   * @param accountId The external account number (int) or account ID Guid. (required)
+   * @param options for modifying the method behavior.
+   * @return future of ApiResponse&lt;EnvelopesInformation&gt;
+   * @throws ApiException if a required parameter is missing
+   */
+  public java.util.concurrent.CompletableFuture<ApiResponse<EnvelopesInformation>> listStatusChangesAsync(String accountId, EnvelopesApi.ListStatusChangesOptions options) throws ApiException {
+    Object localVarPostBody = "{}";
+    
+    // verify the required parameter 'accountId' is set
+    if (accountId == null) {
+      throw new ApiException(400, "Missing the required parameter 'accountId' when calling listStatusChanges");
+    }
+    
+    // create path and map variables
+    String localVarPath = "/v2.1/accounts/{accountId}/envelopes"
+      .replaceAll("\\{" + "accountId" + "\\}", apiClient.escapeString(accountId.toString()));
+
+    // query params
+    java.util.List<Pair> localVarQueryParams = new java.util.ArrayList<Pair>();
+    java.util.List<Pair> localVarCollectionQueryParams = new java.util.ArrayList<Pair>();
+    java.util.Map<String, String> localVarHeaderParams = new java.util.HashMap<String, String>();
+    java.util.Map<String, Object> localVarFormParams = new java.util.HashMap<String, Object>();
+
+    if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("ac_status", options.acStatus));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("block", options.block));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("cdse_mode", options.cdseMode));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("continuation_token", options.continuationToken));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("count", options.count));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("custom_field", options.customField));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("email", options.email));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("envelope_ids", options.envelopeIds));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("exclude", options.exclude));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("folder_ids", options.folderIds));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("folder_types", options.folderTypes));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("from_date", options.fromDate));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("from_to_status", options.fromToStatus));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("include", options.include));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("include_purge_information", options.includePurgeInformation));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("intersecting_folder_ids", options.intersectingFolderIds));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("last_queried_date", options.lastQueriedDate));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("order", options.order));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("order_by", options.orderBy));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("powerformids", options.powerformids));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("query_budget", options.queryBudget));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("requester_date_format", options.requesterDateFormat));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("search_mode", options.searchMode));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("search_text", options.searchText));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("start_position", options.startPosition));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("status", options.status));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("to_date", options.toDate));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("transaction_ids", options.transactionIds));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("user_filter", options.userFilter));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("user_id", options.userId));
+    }if (options != null) {
+      localVarQueryParams.addAll(apiClient.parameterToPair("user_name", options.userName));
+    }
+
+    
+
+    
+
+    final String[] localVarAccepts = {
+      "application/json"
+    };
+    final String localVarAccept = apiClient.selectHeaderAccept(localVarAccepts);
+
+    final String[] localVarContentTypes = {
+      
+    };
+    final String localVarContentType = apiClient.selectHeaderContentType(localVarContentTypes);
+
+    String[] localVarAuthNames = new String[] { "docusignAccessCode" };
+    
+    GenericType<EnvelopesInformation> localVarReturnType = new GenericType<EnvelopesInformation>() {};
+    return apiClient.invokeAPIAsync(localVarPath, "GET", localVarQueryParams, localVarCollectionQueryParams, localVarPostBody, localVarHeaderParams, localVarFormParams, localVarAccept, localVarContentType, localVarAuthNames, localVarReturnType);
+  }
   /// <summary>
   /// Gets the tabs information for a signer or sign-in-person recipient in an envelope. Retrieves information about the tabs associated with a recipient in a draft envelope.
   /// </summary>
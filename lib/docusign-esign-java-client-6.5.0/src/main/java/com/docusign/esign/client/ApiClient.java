@@ -23,6 +23,7 @@ import jakarta.ws.rs.client.*;
 import jakarta.ws.rs.core.*;
 import jakarta.ws.rs.core.Response.Status;
 import jakarta.ws.rs.core.Response.Status.Family;
+import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -42,6 +43,7 @@ import java.security.NoSuchAlgorithmException;
 import java.text.DateFormat;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -78,6 +80,10 @@ public class ApiClient {
 
   protected DateFormat dateFormat;
   private SSLContext sslContext = null;
+  // Opt-in Apache connector pool (see setConnectionPool); null means the default HttpURLConnection connector.
+  private Closeable connectionPool = null;
+  // Threads for invokeAPIAsync (see setAsyncThreadPoolSize); 0 leaves Jersey's default executor.
+  private int asyncThreadPoolSize = 0;
 
   private final String HTTPS = "https://";
 
@@ -436,9 +442,95 @@ public class ApiClient {
     this.debugging = debugging;
     // Rebuild HTTP Client according to the new "debugging" value.
     this.httpClient = buildHttpClient(debugging);
+    // OAuth token requests share the client (and its connection pool).
+    for (Authentication auth : authentications.values()) {
+      if (auth instanceof OAuth) {
+        ((OAuth) auth).setHttpClient(httpClient);
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Use a bounded keep-alive connection pool (Apache HttpClient 5 connector) for API and OAuth calls made
+   * through this client, instead of the default HttpURLConnection connector.
+   * Requires the optional <code>org.glassfish.jersey.connectors:jersey-apache5-connector</code> dependency.
+   *
+   * @param maxTotal Maximum open connections overall
+   * @param maxPerRoute Maximum open connections per host
+   * @param timeToLiveMillis Maximum age of a pooled connection in milliseconds
+   * @return API client
+   */
+  public ApiClient setConnectionPool(int maxTotal, int maxPerRoute, long timeToLiveMillis) {
+    if (maxTotal <= 0 || maxPerRoute <= 0 || timeToLiveMillis <= 0) {
+      throw new IllegalArgumentException("maxTotal, maxPerRoute and timeToLiveMillis must be positive");
+    }
+    Closeable previous = this.connectionPool;
+    this.connectionPool = PooledConnectorSupport.createPool(sslContext, maxTotal, Math.min(maxPerRoute, maxTotal), timeToLiveMillis);
+    rebuildHttpClient();
+    closeQuietly(previous);
     return this;
   }
 
+  /**
+   * Use a bounded keep-alive connection pool, keeping connections for up to 5 minutes.
+   *
+   * @param maxTotal Maximum open connections overall
+   * @param maxPerRoute Maximum open connections per host
+   * @return API client
+   * @see #setConnectionPool(int, int, long)
+   */
+  public ApiClient setConnectionPool(int maxTotal, int maxPerRoute) {
+    return setConnectionPool(maxTotal, maxPerRoute, 5 * 60 * 1000L);
+  }
+
+  /**
+   * Close the connection pool set by {@link #setConnectionPool(int, int, long)} and go back to the default connector.
+   *
+   * @return API client
+   */
+  public ApiClient closeConnectionPool() {
+    Closeable previous = this.connectionPool;
+    if (previous != null) {
+      this.connectionPool = null;
+      rebuildHttpClient();
+      closeQuietly(previous);
+    }
+    return this;
+  }
+
+  /**
+   * Cap the threads that run asynchronous calls ({@link #invokeAPIAsync} and the {@code *Async} API methods).
+   * The connectors this SDK ships are blocking, so every in-flight async call occupies one of these threads until its
+   * response has been read; calls beyond the cap wait in the executor's queue. Without a cap Jersey's default
+   * executor is used, which starts a thread per concurrent call.
+   *
+   * @param size Maximum threads for async calls, or 0 for Jersey's default executor
+   * @return API client
+   */
+  public ApiClient setAsyncThreadPoolSize(int size) {
+    if (size < 0) {
+      throw new IllegalArgumentException("size must not be negative");
+    }
+    this.asyncThreadPoolSize = size;
+    return rebuildHttpClient();
+  }
+
+  public int getAsyncThreadPoolSize() {
+    return asyncThreadPoolSize;
+  }
+
+  private static void closeQuietly(Closeable closeable) {
+    if (closeable == null) {
+      return;
+    }
+    try {
+      closeable.close();
+    } catch (IOException e) {
+      // nothing left to release
+    }
+  }
+
   /**
    * The path of temporary folder used to store downloaded files from endpoints
    * with file response. The default value is <code>null</code>, i.e. using
@@ -642,8 +734,7 @@ public class ApiClient {
       form.put("code", code);
       form.put("grant_type", "authorization_code");
 
-      Client client = buildHttpClient(debugging);
-      WebTarget target = client.target("https://" + getOAuthBasePath() + "/oauth/token");
+      WebTarget target = httpClient.target("https://" + getOAuthBasePath() + "/oauth/token");
       
       Invocation.Builder invocationBuilder = target.request();
       invocationBuilder = invocationBuilder
@@ -702,8 +793,7 @@ public class ApiClient {
       throw new IllegalArgumentException("Cannot find a valid access token. Make sure OAuth is configured before you try again.");
     }
 
-    Client client = buildHttpClient(debugging);
-    WebTarget target = client.target("https://" + getOAuthBasePath() + "/oauth/userinfo");
+    WebTarget target = httpClient.target("https://" + getOAuthBasePath() + "/oauth/userinfo");
     Invocation.Builder invocationBuilder = target.request();
     invocationBuilder = invocationBuilder
         .header("Authorization", "Bearer " + accessToken)
@@ -796,8 +886,7 @@ public class ApiClient {
     form.put("assertion", assertion);
     form.put("grant_type", OAuth.GRANT_TYPE_JWT);
 
-    Client client = buildHttpClient(debugging);
-    WebTarget target = client.target("https://" + oAuthBasePath + "/oauth/token");
+    WebTarget target = httpClient.target("https://" + oAuthBasePath + "/oauth/token");
     Invocation.Builder invocationBuilder = target.request();
     invocationBuilder = invocationBuilder
             .header("Cache-Control", "no-store")
@@ -871,8 +960,7 @@ public class ApiClient {
     form.put("assertion", assertion);
     form.put("grant_type", OAuth.GRANT_TYPE_JWT);
 
-    Client client = buildHttpClient(debugging);
-    WebTarget target = client.target("https://" + getOAuthBasePath() + "/oauth/token");
+    WebTarget target = httpClient.target("https://" + getOAuthBasePath() + "/oauth/token");
     Invocation.Builder invocationBuilder = target.request();
     invocationBuilder = invocationBuilder
             .header("Cache-Control", "no-store")
@@ -936,6 +1024,42 @@ public class ApiClient {
     return this.requestJWTUserToken(clientId, null, scopes, rsaPrivateKey, expiresIn);
   }
 
+  /**
+   * Same as {@link #requestJWTUserToken}, but reuses a token issued earlier in this JVM for the same OAuth host,
+   * client, user, scopes and key until shortly before it expires (see {@link JWTTokenCache}). Suited to background
+   * jobs that would otherwise request a token per run.
+   * @param clientId Docusign OAuth Client Id (AKA Integrator Key)
+   * @param userId Docusign user Id to be impersonated (This is a UUID)
+   * @param scopes the list of requested scopes
+   * @param rsaPrivateKey the byte contents of the RSA private key
+   * @param expiresIn number of seconds remaining before the JWT assertion is considered as invalid
+   * @return OAuth.OAuthToken object.
+   * @throws IllegalArgumentException if one of the arguments is invalid
+   * @throws ApiException if there is an error while exchanging the JWT with an access token
+   * @throws IOException if there is an issue with either the public or private file
+   */
+  public OAuth.OAuthToken getCachedJWTUserToken(final String clientId, final String userId, final java.util.List<String> scopes, final byte[] rsaPrivateKey, final long expiresIn) throws IllegalArgumentException, ApiException, IOException {
+    String formattedScopes = scopes == null ? "" : String.join(" ", scopes);
+    String key = JWTTokenCache.key(getOAuthBasePath(), clientId, userId, formattedScopes, rsaPrivateKey);
+    return JWTTokenCache.get(key, () -> requestJWTUserToken(clientId, userId, scopes, rsaPrivateKey, expiresIn));
+  }
+
+  /**
+   * <b>RESERVED FOR PARTNERS</b> Same as {@link #requestJWTApplicationToken}, but reuses a cached token like
+   * {@link #getCachedJWTUserToken}.
+   * @param clientId Docusign OAuth Client Id (AKA Integrator Key)
+   * @param scopes the list of requested scopes
+   * @param rsaPrivateKey the byte contents of the RSA private key
+   * @param expiresIn number of seconds remaining before the JWT assertion is considered as invalid
+   * @return OAuth.OAuthToken object.
+   * @throws IllegalArgumentException if one of the arguments is invalid
+   * @throws IOException if there is an issue with either the public or private file
+   * @throws ApiException if there is an error while exchanging the JWT with an access token
+   */
+  public OAuth.OAuthToken getCachedJWTApplicationToken(String clientId, java.util.List<String> scopes, byte[] rsaPrivateKey, long expiresIn) throws IllegalArgumentException, IOException, ApiException {
+    return getCachedJWTUserToken(clientId, null, scopes, rsaPrivateKey, expiresIn);
+  }
+
   /**
    * Parse the given string into Date object.
    * @param str String
@@ -1307,7 +1431,7 @@ public class ApiClient {
       Pattern pattern = Pattern.compile("filename=['\"]?([^'\"\\s]+)['\"]?");
       Matcher matcher = pattern.matcher(contentDisposition);
       if (matcher.find()) { 
-        filename = matcher.group(1);
+        filename = sanitizeFilename(matcher.group(1));
       }
     }
 
@@ -1338,6 +1462,23 @@ public class ApiClient {
     }
   }
 
+  /**
+   * Reduce a server-supplied file name to a safe temp file name part: no directories, only [A-Za-z0-9._-].
+   * @param filename File name from the Content-Disposition header
+   * @return Sanitized file name, or null if nothing usable is left
+   */
+  static String sanitizeFilename(String filename) {
+    if (filename == null) {
+      return null;
+    }
+    String name = filename.substring(Math.max(filename.lastIndexOf('/'), filename.lastIndexOf('\\')) + 1);
+    name = name.replaceAll("[^A-Za-z0-9._-]", "_").replaceAll("^\\.+", "");
+    if (name.length() > 100) {
+      name = name.substring(name.length() - 100);
+    }
+    return name.isEmpty() ? null : name;
+  }
+
   /**
    * Invoke API by sending HTTP request with the given options.
    *
@@ -1358,8 +1499,235 @@ public class ApiClient {
    */
   public <T> T invokeAPI(String path, String method, List<Pair> queryParams, List<Pair> collectionQueryParams, Object
                             body, Map<String, String> headerParams, Map<String, Object> formParams, String accept, String contentType, String[] authNames, GenericType<T> returnType) throws ApiException {
-    updateParamsForAuth(authNames, queryParams, headerParams);
+    PreparedRequest request = prepareRequest(path, queryParams, collectionQueryParams, body, headerParams, formParams, accept, contentType, authNames);
+
+    Response response = null;
+
+    try {
+      response = send(request, method);
+
+      statusCode = response.getStatusInfo().getStatusCode();
+      responseHeaders = buildResponseHeaders(response);
+
+      return readResponse(response, returnType);
+    } finally {
+      try {
+        response.close();
+      } catch (Exception e) {
+        // it's not critical, since the response object is local in method invokeAPI; that's fine, just continue
+      }
+    }
+  }
+
+  /**
+   * Invoke API and return the response body as a stream instead of reading it into memory.
+   * The stream must be closed by the caller; closing it releases the underlying connection.
+   * Error responses are read and thrown as {@link ApiException} as in {@link #invokeAPI}.
+   *
+   * @param path The sub-path of the HTTP URL
+   * @param method The request method, one of "GET", "POST", "PUT", "HEAD", "PATCH" and "DELETE"
+   * @param queryParams The query parameters
+   * @param collectionQueryParams The collection query parameters
+   * @param body The request body object
+   * @param headerParams The header parameters
+   * @param formParams The form parameters
+   * @param accept The request's Accept header
+   * @param contentType The request's Content-Type header
+   * @param authNames The authentications to apply
+   * @return The response body stream, empty for 204 No Content
+   * @throws ApiException API exception
+   */
+  public InputStream invokeAPIStream(String path, String method, List<Pair> queryParams, List<Pair> collectionQueryParams, Object
+                            body, Map<String, String> headerParams, Map<String, Object> formParams, String accept, String contentType, String[] authNames) throws ApiException {
+    PreparedRequest request = prepareRequest(path, queryParams, collectionQueryParams, body, headerParams, formParams, accept, contentType, authNames);
+
+    Response response = null;
+    boolean handedOff = false;
+
+    try {
+      response = send(request, method);
+
+      statusCode = response.getStatusInfo().getStatusCode();
+      responseHeaders = buildResponseHeaders(response);
+
+      checkSuccessful(response);
+      if (response.getStatus() == Status.NO_CONTENT.getStatusCode() || !response.hasEntity()) {
+        return new java.io.ByteArrayInputStream(new byte[0]);
+      }
+      final Response owner = response;
+      InputStream stream = new java.io.FilterInputStream(response.readEntity(InputStream.class)) {
+        @Override
+        public void close() throws IOException {
+          try {
+            super.close();
+          } finally {
+            owner.close();
+          }
+        }
+      };
+      handedOff = true;
+      return stream;
+    } finally {
+      if (!handedOff) {
+        try {
+          response.close();
+        } catch (Exception e) {
+          // it's not critical, since the response object is local in method invokeAPIStream; that's fine, just continue
+        }
+      }
+    }
+  }
 
+  /**
+   * Invoke API and stream a JSON object response through a {@link JsonProjection} instead of binding it to the
+   * generated model, reading only the elements of the top-level array field {@code arrayField}.
+   * Everything else in the response is skipped without being materialized.
+   *
+   * @param <T> The projected element type
+   * @param path The sub-path of the HTTP URL
+   * @param method The request method, one of "GET", "POST", "PUT", "HEAD", "PATCH" and "DELETE"
+   * @param queryParams The query parameters
+   * @param collectionQueryParams The collection query parameters
+   * @param body The request body object
+   * @param headerParams The header parameters
+   * @param formParams The form parameters
+   * @param accept The request's Accept header
+   * @param contentType The request's Content-Type header
+   * @param authNames The authentications to apply
+   * @param arrayField Top-level field holding the list, e.g. "envelopes"
+   * @param projection Projection applied to each list element
+   * @return The projected elements, empty if the field is missing or null
+   * @throws ApiException API exception, or an I/O or parse error while reading the response
+   */
+  public <T> List<T> invokeAPIProjection(String path, String method, List<Pair> queryParams, List<Pair> collectionQueryParams, Object
+                            body, Map<String, String> headerParams, Map<String, Object> formParams, String accept, String contentType, String[] authNames,
+                            final String arrayField, final JsonProjection<T> projection) throws ApiException {
+    InputStream in = invokeAPIStream(path, method, queryParams, collectionQueryParams, body, headerParams, formParams, accept, contentType, authNames);
+    try (InputStream stream = in; com.fasterxml.jackson.core.JsonParser parser = json.getObjectMapper().getFactory().createParser(stream)) {
+      final List<T> result = new ArrayList<T>();
+      if (parser.nextToken() == null) {
+        return result;
+      }
+      JsonProjections.readObject(parser, new JsonProjections.FieldVisitor() {
+        @Override
+        public boolean visit(String name, com.fasterxml.jackson.core.JsonParser p) throws IOException {
+          if (!arrayField.equals(name)) {
+            return false;
+          }
+          result.addAll(JsonProjections.readArray(p, projection));
+          return true;
+        }
+      });
+      return result;
+    } catch (IOException e) {
+      throw new ApiException(e);
+    }
+  }
+
+  private Response send(PreparedRequest request, String method) throws ApiException {
+    Invocation.Builder invocationBuilder = request.invocationBuilder;
+    Entity<?> entity = request.entity;
+    if ("GET".equals(method)) {
+      return invocationBuilder.get();
+    } else if ("POST".equals(method)) {
+      return invocationBuilder.post(entity);
+    } else if ("PUT".equals(method)) {
+      return invocationBuilder.put(entity);
+    } else if ("DELETE".equals(method)) {
+      return invocationBuilder.method("DELETE", entity);
+    } else if ("PATCH".equals(method)) {
+      return invocationBuilder.method("PATCH", entity);
+    } else if ("HEAD".equals(method)) {
+      return invocationBuilder.head();
+    } else {
+      throw new ApiException(500, "unknown method type " + method);
+    }
+  }
+
+  /**
+   * Invoke API asynchronously using Jersey's async invoker.
+   * The request is built and authenticated on the calling thread, then sent, read and deserialized on the client's
+   * async executor, so the caller doesn't block. With the blocking connectors this SDK uses, each in-flight call
+   * still occupies one executor thread; use {@link #setAsyncThreadPoolSize(int)} to cap them (further calls queue).
+   * Unlike {@link #invokeAPI}, the status code and headers are only returned in the {@link ApiResponse};
+   * {@link #getStatusCode()} and {@link #getResponseHeaders()} are not updated.
+   *
+   * @param <T> Type
+   * @param path The sub-path of the HTTP URL
+   * @param method The request method, one of "GET", "POST", "PUT", "HEAD", "PATCH" and "DELETE"
+   * @param queryParams The query parameters
+   * @param collectionQueryParams The collection query parameters
+   * @param body The request body object
+   * @param headerParams The header parameters
+   * @param formParams The form parameters
+   * @param accept The request's Accept header
+   * @param contentType The request's Content-Type header
+   * @param authNames The authentications to apply
+   * @param returnType The return type into which to deserialize the response
+   * @return Future completed with the response, or exceptionally with an {@link ApiException}
+   */
+  public <T> CompletableFuture<ApiResponse<T>> invokeAPIAsync(String path, String method, List<Pair> queryParams, List<Pair> collectionQueryParams, Object
+                            body, Map<String, String> headerParams, Map<String, Object> formParams, String accept, String contentType, String[] authNames, final GenericType<T> returnType) {
+    final CompletableFuture<ApiResponse<T>> result = new CompletableFuture<ApiResponse<T>>();
+    PreparedRequest request;
+    try {
+      request = prepareRequest(path, queryParams, collectionQueryParams, body, headerParams, formParams, accept, contentType, authNames);
+    } catch (Exception e) {
+      result.completeExceptionally(e instanceof ApiException ? e : new ApiException(e));
+      return result;
+    }
+
+    InvocationCallback<Response> callback = new InvocationCallback<Response>() {
+      @Override
+      public void completed(Response response) {
+        try {
+          int status = response.getStatusInfo().getStatusCode();
+          Map<String, List<String>> headers = buildResponseHeaders(response);
+          result.complete(new ApiResponse<T>(status, headers, readResponse(response, returnType)));
+        } catch (Throwable e) {
+          result.completeExceptionally(e instanceof ApiException ? e : new ApiException(e));
+        } finally {
+          try {
+            response.close();
+          } catch (Exception e) {
+            // it's not critical, the response is local to this callback
+          }
+        }
+      }
+
+      @Override
+      public void failed(Throwable throwable) {
+        result.completeExceptionally(new ApiException(throwable));
+      }
+    };
+
+    AsyncInvoker invoker = request.invocationBuilder.async();
+    if ("GET".equals(method) || "HEAD".equals(method)) {
+      invoker.method(method, callback);
+    } else if ("POST".equals(method) || "PUT".equals(method) || "DELETE".equals(method) || "PATCH".equals(method)) {
+      invoker.method(method, request.entity, callback);
+    } else {
+      result.completeExceptionally(new ApiException(500, "unknown method type " + method));
+    }
+    return result;
+  }
+
+  private static final class PreparedRequest {
+    final Invocation.Builder invocationBuilder;
+    final Entity<?> entity;
+
+    PreparedRequest(Invocation.Builder invocationBuilder, Entity<?> entity) {
+      this.invocationBuilder = invocationBuilder;
+      this.entity = entity;
+    }
+  }
+
+  /**
+   * Build the request shared by {@link #invokeAPI} and {@link #invokeAPIAsync}: target, headers, auth and body.
+   */
+  private PreparedRequest prepareRequest(String path, List<Pair> queryParams, List<Pair> collectionQueryParams, Object
+                            body, Map<String, String> headerParams, Map<String, Object> formParams, String accept, String contentType, String[] authNames) throws ApiException {
+    updateParamsForAuth(authNames, queryParams, headerParams);
     // Not using `.target(this.basePath).path(path)` below,
     // to support (constant) query string in `path`, e.g. "/posts?draft=1"
     WebTarget target = httpClient.target(this.basePath + path);
@@ -1422,80 +1790,69 @@ public class ApiClient {
     // Add Docusign Tracking Header
     invocationBuilder = invocationBuilder.header("X-DocuSign-SDK", "Java");
 
-    if (body == null && formParams.isEmpty()) {
+    // HttpClient 5 rejects a caller-set Content-Length; it derives the header from the entity itself.
+    if (body == null && formParams.isEmpty() && connectionPool == null) {
         invocationBuilder = invocationBuilder.header("Content-Length", "0");	
-    }	
+    }
 
-    Response response = null;
-    String message = "error";
-    String respBody = null;
+    return new PreparedRequest(invocationBuilder, entity);
+  }
 
-    try {
-      if ("GET".equals(method)) {
-        response = invocationBuilder.get();
-      } else if ("POST".equals(method)) {
-        response = invocationBuilder.post(entity);
-      } else if ("PUT".equals(method)) {
-        response = invocationBuilder.put(entity);
-      } else if ("DELETE".equals(method)) {
-        response = invocationBuilder.method("DELETE", entity);
-      } else if ("PATCH".equals(method)) {
-        response = invocationBuilder.method("PATCH", entity);
-      } else if ("HEAD".equals(method)) {
-        response = invocationBuilder.head();
-      } else {
-        throw new ApiException(500, "unknown method type " + method);
+  /**
+   * Throw an {@link ApiException} carrying the response body unless the response is 2xx.
+   */
+  private void checkSuccessful(Response response) throws ApiException {
+    if (response.getStatusInfo().getFamily() != Family.SUCCESSFUL) {
+      String message = "error";
+      String respBody = null;
+      if (response.hasEntity()) {
+        try {
+          respBody = String.valueOf(response.readEntity(String.class));
+          message = "Error while requesting server, received a non successful HTTP code " + response.getStatusInfo().getStatusCode() + " with response Body: '" + respBody + "'";
+        } catch (RuntimeException e) {
+          // e.printStackTrace();
+        }
       }
+      throw new ApiException(
+        response.getStatusInfo().getStatusCode(),
+        message,
+        buildResponseHeaders(response),
+        respBody);
+    }
+  }
 
-      statusCode = response.getStatusInfo().getStatusCode();
-      responseHeaders = buildResponseHeaders(response);
+  /**
+   * Check the status and deserialize the body of a response; the caller closes the response.
+   */
+  private <T> T readResponse(Response response, GenericType<T> returnType) throws ApiException {
+    String message = "error";
+    String respBody = null;
 
-      if (response.getStatusInfo().getFamily() != Family.SUCCESSFUL) {
-        if (response.hasEntity()) {
-          try {
-            respBody = String.valueOf(response.readEntity(String.class));
-            message = "Error while requesting server, received a non successful HTTP code " + response.getStatusInfo().getStatusCode() + " with response Body: '" + respBody + "'";
-          } catch (RuntimeException e) {
-            // e.printStackTrace();
-          }
-        }
-        throw new ApiException(
-          response.getStatusInfo().getStatusCode(),
-          message,
-          buildResponseHeaders(response),
-          respBody);
-      }
+    checkSuccessful(response);
 
-      if (response.getStatus() == Status.NO_CONTENT.getStatusCode()) {
+    if (response.getStatus() == Status.NO_CONTENT.getStatusCode()) {
+      return null;
+    } else if (response.getStatusInfo().getFamily() == Status.Family.SUCCESSFUL) {
+      if (returnType == null) { 
         return null;
-      } else if (response.getStatusInfo().getFamily() == Status.Family.SUCCESSFUL) {
-        if (returnType == null) { 
-          return null;
-        }
-        else { 
-          return deserialize(response, returnType);
-        }
-      } else {
-        if (response.hasEntity()) {
-          try {
-            respBody = String.valueOf(response.readEntity(String.class));
-            message = respBody;
-          } catch (RuntimeException e) {
-            // e.printStackTrace();
-          }
-        }
-        throw new ApiException(
-          response.getStatus(),
-          message,
-          buildResponseHeaders(response),
-          respBody);
       }
-    } finally {
-      try {
-        response.close();
-      } catch (Exception e) {
-        // it's not critical, since the response object is local in method invokeAPI; that's fine, just continue
+      else { 
+        return deserialize(response, returnType);
       }
+    } else {
+      if (response.hasEntity()) {
+        try {
+          respBody = String.valueOf(response.readEntity(String.class));
+          message = respBody;
+        } catch (RuntimeException e) {
+          // e.printStackTrace();
+        }
+      }
+      throw new ApiException(
+        response.getStatus(),
+        message,
+        buildResponseHeaders(response),
+        respBody);
     }
   }
 
@@ -1595,6 +1952,12 @@ public class ApiClient {
     clientConfig.property(HttpUrlConnectorProvider.SET_METHOD_WORKAROUND, true);
     // turn off compliance validation to be able to send payloads with DELETE calls
     clientConfig.property(ClientProperties.SUPPRESS_HTTP_COMPLIANCE_VALIDATION, true);
+    // keep timeouts across client rebuilds
+    clientConfig.property(ClientProperties.CONNECT_TIMEOUT, connectionTimeout);
+    clientConfig.property(ClientProperties.READ_TIMEOUT, readTimeout);
+    if (asyncThreadPoolSize > 0) {
+      clientConfig.property(ClientProperties.ASYNC_THREADPOOL_SIZE, asyncThreadPoolSize);
+    }
     if (debugging) {
       clientConfig.register(new LoggingFeature(java.util.logging.Logger.getLogger(LoggingFeature.DEFAULT_LOGGER_NAME), java.util.logging.Level.INFO, LoggingFeature.Verbosity.PAYLOAD_ANY, 1024*50 /* Log payloads up to 50K */));
       clientConfig.property(LoggingFeature.LOGGING_FEATURE_VERBOSITY, LoggingFeature.Verbosity.PAYLOAD_ANY);
@@ -1740,6 +2103,9 @@ public class ApiClient {
         return customConnProv.getConnector(client, configuration);
       }
     });
+    if (connectionPool != null) {
+      PooledConnectorSupport.configure(clientConfig, connectionPool);
+    }
 
     return ClientBuilder.newBuilder().
               sslContext(sslContext).
@@ -0,0 +1,120 @@
+package com.docusign.esign.client;
+
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Envelope id, status and recipient statuses: the part of an envelope most status polling needs.
+ * Read with {@link #PROJECTION}, e.g. from EnvelopesApi.listStatusChangesProjected, without building the full
+ * Envelope model (documents, tabs, custom fields are skipped while parsing).
+ */
+public class EnvelopeStatusSummary {
+
+  /** Projection for one element of an envelope list (or a single envelope response). */
+  public static final JsonProjection<EnvelopeStatusSummary> PROJECTION = parser -> {
+    final EnvelopeStatusSummary summary = new EnvelopeStatusSummary();
+    JsonProjections.readObject(parser, (name, p) -> {
+      if ("envelopeId".equals(name)) {
+        summary.envelopeId = JsonProjections.text(p);
+      } else if ("status".equals(name)) {
+        summary.status = JsonProjections.text(p);
+      } else if ("statusChangedDateTime".equals(name)) {
+        summary.statusChangedDateTime = JsonProjections.text(p);
+      } else if ("recipients".equals(name)) {
+        // signers, carbonCopies, certifiedDeliveries, ...: every array under recipients holds recipients
+        JsonProjections.readObject(p, (type, rp) -> {
+          if (rp.currentToken() != JsonToken.START_ARRAY) {
+            return false;
+          }
+          summary.recipients.addAll(JsonProjections.readArray(rp, RecipientStatus.projection(type)));
+          return true;
+        });
+      } else {
+        return false;
+      }
+      return true;
+    });
+    return summary;
+  };
+
+  private String envelopeId;
+  private String status;
+  private String statusChangedDateTime;
+  private final List<RecipientStatus> recipients = new ArrayList<RecipientStatus>();
+
+  public String getEnvelopeId() {
+    return envelopeId;
+  }
+
+  public String getStatus() {
+    return status;
+  }
+
+  public String getStatusChangedDateTime() {
+    return statusChangedDateTime;
+  }
+
+  /**
+   * Recipients when the listing included them (e.g. include=recipients), otherwise empty.
+   *
+   * @return Recipient statuses
+   */
+  public List<RecipientStatus> getRecipients() {
+    return Collections.unmodifiableList(recipients);
+  }
+
+  /**
+   * One recipient's id, type, email and status.
+   */
+  public static class RecipientStatus {
+    private final String recipientType;
+    private String recipientId;
+    private String email;
+    private String status;
+
+    RecipientStatus(String recipientType) {
+      this.recipientType = recipientType;
+    }
+
+    static JsonProjection<RecipientStatus> projection(final String recipientType) {
+      return parser -> {
+        final RecipientStatus recipient = new RecipientStatus(recipientType);
+        JsonProjections.readObject(parser, (name, p) -> {
+          if ("recipientId".equals(name)) {
+            recipient.recipientId = JsonProjections.text(p);
+          } else if ("email".equals(name)) {
+            recipient.email = JsonProjections.text(p);
+          } else if ("status".equals(name)) {
+            recipient.status = JsonProjections.text(p);
+          } else {
+            return false;
+          }
+          return true;
+        });
+        return recipient;
+      };
+    }
+
+    /**
+     * @return The recipients collection the entry came from, e.g. "signers" or "carbonCopies"
+     */
+    public String getRecipientType() {
+      return recipientType;
+    }
+
+    public String getRecipientId() {
+      return recipientId;
+    }
+
+    public String getEmail() {
+      return email;
+    }
+
+    public String getStatus() {
+      return status;
+    }
+  }
+}
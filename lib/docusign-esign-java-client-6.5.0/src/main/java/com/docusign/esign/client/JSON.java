@@ -15,6 +15,12 @@ import jakarta.ws.rs.ext.ContextResolver;
  **/
 
 public class JSON implements ContextResolver<ObjectMapper> {
+  /** System property that turns on {@link #enableBytecodeAcceleration()} for every new instance. */
+  public static final String ACCELERATE_PROPERTY = "docusign.esign.json.accelerate";
+
+  private static final String BLACKBIRD_MODULE = "com.fasterxml.jackson.module.blackbird.BlackbirdModule";
+  private static final String AFTERBURNER_MODULE = "com.fasterxml.jackson.module.afterburner.AfterburnerModule";
+
   private ObjectMapper mapper;
 
  /**
@@ -30,6 +36,38 @@ public class JSON implements ContextResolver<ObjectMapper> {
     mapper.enable(SerializationFeature.WRITE_ENUMS_USING_TO_STRING);
     mapper.enable(DeserializationFeature.READ_ENUMS_USING_TO_STRING);
     mapper.setDateFormat(new RFC3339DateFormat());
+    if (Boolean.getBoolean(ACCELERATE_PROPERTY)) {
+      enableBytecodeAcceleration();
+    }
+  }
+
+  /**
+   * Register a Jackson module that replaces reflective property access on the model classes with generated
+   * accessors: Blackbird on Java 11+, otherwise Afterburner. Neither is a required dependency; add
+   * <code>com.fasterxml.jackson.module:jackson-module-blackbird</code> (or <code>jackson-module-afterburner</code>)
+   * to the classpath. Call this before the first request so no reflective (de)serializers are cached.
+   *
+   * @return the registered module class name, or null if neither module is available
+   */
+  public String enableBytecodeAcceleration() {
+    String[] candidates = isJava11OrLater()
+        ? new String[] { BLACKBIRD_MODULE, AFTERBURNER_MODULE }
+        : new String[] { AFTERBURNER_MODULE };
+    for (String className : candidates) {
+      try {
+        com.fasterxml.jackson.databind.Module module = (com.fasterxml.jackson.databind.Module) Class.forName(className).getDeclaredConstructor().newInstance();
+        mapper.registerModule(module);
+        return className;
+      } catch (ReflectiveOperationException | LinkageError e) {
+        // not on the classpath or not usable on this JVM; try the next one
+      }
+    }
+    return null;
+  }
+
+  private static boolean isJava11OrLater() {
+    String version = System.getProperty("java.specification.version", "1.8");
+    return !version.startsWith("1.") && !"9".equals(version) && !"10".equals(version);
   }
 
   /**
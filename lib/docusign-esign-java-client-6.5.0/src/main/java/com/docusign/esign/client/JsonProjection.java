@@ -0,0 +1,24 @@
+package com.docusign.esign.client;
+
+import com.fasterxml.jackson.core.JsonParser;
+
+import java.io.IOException;
+
+/**
+ * Reads one value from a streaming parser into a caller-defined type, for
+ * {@link ApiClient#invokeAPIProjection} and {@link JsonProjections}.
+ *
+ * @param <T> The projected type
+ */
+public interface JsonProjection<T> {
+
+  /**
+   * Read the value the parser is positioned on (usually START_OBJECT).
+   * Must leave the parser on the last token of that value (END_OBJECT for objects).
+   *
+   * @param parser The parser
+   * @return The projected value, may be null
+   * @throws IOException if the JSON can't be read
+   */
+  T read(JsonParser parser) throws IOException;
+}
@@ -0,0 +1,99 @@
+package com.docusign.esign.client;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Helpers for writing {@link JsonProjection}s: visit only the fields you need and skip everything else with
+ * {@link JsonParser#skipChildren()}, so large subtrees (tabs, documents, custom fields) are never materialized.
+ */
+public final class JsonProjections {
+
+  private JsonProjections() {
+  }
+
+  /**
+   * Receives each field of an object, with the parser positioned on the field's value.
+   */
+  public interface FieldVisitor {
+
+    /**
+     * @param name The field name
+     * @param parser The parser, on the field's value
+     * @return true if the value was consumed, false to have it skipped
+     * @throws IOException if the JSON can't be read
+     */
+    boolean visit(String name, JsonParser parser) throws IOException;
+  }
+
+  /**
+   * Walk the object the parser is positioned on. A null value is accepted and visits nothing.
+   *
+   * @param parser The parser, on START_OBJECT or VALUE_NULL
+   * @param visitor Called for every field; unconsumed values are skipped
+   * @throws IOException if the JSON can't be read or is not an object
+   */
+  public static void readObject(JsonParser parser, FieldVisitor visitor) throws IOException {
+    JsonToken token = parser.currentToken();
+    if (token == JsonToken.VALUE_NULL) {
+      return;
+    }
+    if (token != JsonToken.START_OBJECT) {
+      throw new JsonParseException(parser, "Expected an object but found " + token);
+    }
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String name = parser.getCurrentName();
+      parser.nextToken();
+      if (!visitor.visit(name, parser)) {
+        parser.skipChildren();
+      }
+    }
+  }
+
+  /**
+   * Read the array the parser is positioned on, projecting each element.
+   *
+   * @param <T> The projected type
+   * @param parser The parser, on START_ARRAY or VALUE_NULL
+   * @param element Projection applied to each element
+   * @return The projected elements, empty for null
+   * @throws IOException if the JSON can't be read or is not an array
+   */
+  public static <T> List<T> readArray(JsonParser parser, JsonProjection<T> element) throws IOException {
+    List<T> result = new ArrayList<T>();
+    JsonToken token = parser.currentToken();
+    if (token == JsonToken.VALUE_NULL) {
+      return result;
+    }
+    if (token != JsonToken.START_ARRAY) {
+      throw new JsonParseException(parser, "Expected an array but found " + token);
+    }
+    while (parser.nextToken() != JsonToken.END_ARRAY) {
+      if (parser.currentToken() == null) {
+        throw new JsonParseException(parser, "Unexpected end of input in array");
+      }
+      result.add(element.read(parser));
+    }
+    return result;
+  }
+
+  /**
+   * Read the value the parser is positioned on as text; null for JSON null, objects and arrays (which are skipped).
+   *
+   * @param parser The parser
+   * @return The text value
+   * @throws IOException if the JSON can't be read
+   */
+  public static String text(JsonParser parser) throws IOException {
+    if (parser.currentToken() != null && parser.currentToken().isScalarValue() && parser.currentToken() != JsonToken.VALUE_NULL) {
+      return parser.getValueAsString();
+    }
+    parser.skipChildren();
+    return null;
+  }
+}
@@ -0,0 +1,79 @@
+package com.docusign.esign.client;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.ssl.SSLConnectionSocketFactoryBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.glassfish.jersey.apache5.connector.Apache5ClientProperties;
+import org.glassfish.jersey.apache5.connector.Apache5ConnectorProvider;
+import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.client.ClientProperties;
+import org.glassfish.jersey.client.RequestEntityProcessing;
+
+import javax.net.ssl.SSLContext;
+import java.io.Closeable;
+
+/**
+ * Apache HttpClient 5 connector with a bounded keep-alive pool, used by {@link ApiClient} when
+ * {@link ApiClient#setConnectionPool(int, int, long)} is called.
+ *
+ * Kept in its own class so the optional jersey-apache5-connector dependency is only loaded when pooling is enabled.
+ */
+final class PooledConnectorSupport {
+
+  private PooledConnectorSupport() {
+  }
+
+  /**
+   * Create the connection pool. The pool outlives the Jersey clients built on it (see {@link #configure}), so
+   * rebuilding the client (e.g. {@link ApiClient#setDebugging(boolean)}) keeps warm connections.
+   *
+   * @param sslContext SSL context for HTTPS connections
+   * @param maxTotal Maximum open connections overall
+   * @param maxPerRoute Maximum open connections per host
+   * @param timeToLiveMillis Maximum age of a pooled connection in milliseconds
+   * @return The pool, closed by {@link ApiClient#closeConnectionPool()}
+   */
+  static Closeable createPool(SSLContext sslContext, int maxTotal, int maxPerRoute, long timeToLiveMillis) {
+    return PoolingHttpClientConnectionManagerBuilder.create()
+        .setSSLSocketFactory(SSLConnectionSocketFactoryBuilder.create().setSslContext(sslContext).build())
+        .setMaxConnTotal(maxTotal)
+        .setMaxConnPerRoute(maxPerRoute)
+        .setDefaultConnectionConfig(ConnectionConfig.custom()
+            .setTimeToLive(TimeValue.ofMilliseconds(timeToLiveMillis))
+            // re-check connections that sat idle, so a server-side keep-alive close doesn't fail the next call
+            .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+            .build())
+        .build();
+  }
+
+  /**
+   * Use the Apache connector backed by {@code pool} instead of the HttpURLConnection connector.
+   *
+   * @param clientConfig The client configuration to update
+   * @param pool A pool returned by {@link #createPool}
+   */
+  static void configure(ClientConfig clientConfig, Closeable pool) {
+    clientConfig.connectorProvider(new Apache5ConnectorProvider());
+    clientConfig.property(Apache5ClientProperties.CONNECTION_MANAGER, (PoolingHttpClientConnectionManager) pool);
+    clientConfig.property(Apache5ClientProperties.CONNECTION_MANAGER_SHARED, true);
+    // same wire format as the HttpURLConnection connector: Content-Length instead of chunked bodies
+    clientConfig.property(ClientProperties.REQUEST_ENTITY_PROCESSING, RequestEntityProcessing.BUFFERED);
+
+    String scheme = System.getProperty("https.proxyHost") != null ? "https" : System.getProperty("http.proxyHost") != null ? "http" : null;
+    if (scheme != null) {
+      String host = System.getProperty(scheme + ".proxyHost");
+      Integer port = Integer.getInteger(scheme + ".proxyPort");
+      if (port != null) {
+        clientConfig.property(ClientProperties.PROXY_URI, "http://" + host + ":" + port);
+        String user = System.getProperty(scheme + ".proxyUser");
+        String password = System.getProperty(scheme + ".proxyPassword");
+        if (user != null && password != null) {
+          clientConfig.property(ClientProperties.PROXY_USERNAME, user);
+          clientConfig.property(ClientProperties.PROXY_PASSWORD, password);
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,161 @@
+package com.docusign.esign.client.auth;
+
+import com.docusign.esign.client.ApiException;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process cache of JWT grant access tokens, shared by all {@link com.docusign.esign.client.ApiClient} instances.
+ *
+ * A token is reused until shortly before it expires: {@link #REFRESH_MARGIN_MILLIS} ahead of expiry, or half-way
+ * through its lifetime for short-lived tokens. Lookups of a valid token don't lock; when a token has to be fetched,
+ * concurrent callers for the same key wait on the one request in flight instead of each issuing their own.
+ *
+ * Entries past their refresh time are swept on cache misses (at most once per {@link #SWEEP_INTERVAL_MILLIS}), and
+ * the map is capped at {@link #MAX_ENTRIES} keys, so impersonating many users doesn't grow it for the life of the JVM.
+ */
+public final class JWTTokenCache {
+
+  /** How long before expiry a cached token is replaced. */
+  public static final long REFRESH_MARGIN_MILLIS = 5 * 60 * 1000L;
+
+  /** Most keys kept; past this, stale entries are swept and, if that isn't enough, the cache starts over. */
+  public static final int MAX_ENTRIES = 1000;
+
+  /** Minimum time between sweeps of stale entries. */
+  public static final long SWEEP_INTERVAL_MILLIS = 60 * 1000L;
+
+  private static final ConcurrentHashMap<String, Entry> TOKENS = new ConcurrentHashMap<String, Entry>();
+  private static final AtomicLong LAST_SWEEP_MILLIS = new AtomicLong();
+
+  /**
+   * Issues a new token on a cache miss.
+   */
+  public interface TokenRequest {
+    OAuth.OAuthToken request() throws ApiException, IOException;
+  }
+
+  private static final class Cached {
+    final OAuth.OAuthToken token;
+    final long refreshAtMillis;
+
+    Cached(OAuth.OAuthToken token, long refreshAtMillis) {
+      this.token = token;
+      this.refreshAtMillis = refreshAtMillis;
+    }
+  }
+
+  private static final class Entry {
+    volatile Cached cached;
+  }
+
+  private JWTTokenCache() {
+  }
+
+  /**
+   * Cache key for a token request. The private key is included by digest so a rotated key gets a new token.
+   *
+   * @param oAuthBasePath the OAuth host
+   * @param clientId Docusign OAuth Client Id
+   * @param userId impersonated user Id, or null for an application token
+   * @param scopes space separated scopes
+   * @param rsaPrivateKey the byte contents of the RSA private key
+   * @return the key
+   */
+  public static String key(String oAuthBasePath, String clientId, String userId, String scopes, byte[] rsaPrivateKey) {
+    return oAuthBasePath + '|' + clientId + '|' + (userId == null ? "" : userId) + '|' + scopes + '|' + JWTUtils.sha256Hex(rsaPrivateKey);
+  }
+
+  /**
+   * Return the cached token for {@code key}, or run {@code request} and cache its result.
+   *
+   * @param key a key built by {@link #key}
+   * @param request issues a new token
+   * @return a token that is not about to expire
+   * @throws ApiException if the token request fails
+   * @throws IOException if the private key can't be read
+   */
+  public static OAuth.OAuthToken get(String key, TokenRequest request) throws ApiException, IOException {
+    Entry entry = TOKENS.get(key);
+    if (entry == null) {
+      sweep(System.currentTimeMillis());
+      Entry created = new Entry();
+      entry = TOKENS.putIfAbsent(key, created);
+      if (entry == null) {
+        entry = created;
+      }
+    }
+    Cached cached = entry.cached;
+    if (cached != null && System.currentTimeMillis() < cached.refreshAtMillis) {
+      return cached.token;
+    }
+    synchronized (entry) {
+      cached = entry.cached;
+      if (cached != null && System.currentTimeMillis() < cached.refreshAtMillis) {
+        return cached.token;
+      }
+      OAuth.OAuthToken token;
+      try {
+        token = request.request();
+      } catch (ApiException | IOException | RuntimeException e) {
+        if (entry.cached == null) {
+          // Don't keep an empty entry for a request that never succeeded.
+          TOKENS.remove(key, entry);
+        }
+        throw e;
+      }
+      entry.cached = new Cached(token, refreshAt(System.currentTimeMillis(), token.getExpiresIn()));
+      return token;
+    }
+  }
+
+  /**
+   * Drop entries past their refresh time. Entries still loading (no token yet) are kept.
+   */
+  private static void sweep(long nowMillis) {
+    long last = LAST_SWEEP_MILLIS.get();
+    boolean full = TOKENS.size() >= MAX_ENTRIES;
+    if (!full && nowMillis - last < SWEEP_INTERVAL_MILLIS) {
+      return;
+    }
+    if (!LAST_SWEEP_MILLIS.compareAndSet(last, nowMillis) && !full) {
+      return;
+    }
+    Iterator<Map.Entry<String, Entry>> it = TOKENS.entrySet().iterator();
+    while (it.hasNext()) {
+      Cached cached = it.next().getValue().cached;
+      if (cached != null && nowMillis >= cached.refreshAtMillis) {
+        it.remove();
+      }
+    }
+    if (TOKENS.size() >= MAX_ENTRIES) {
+      // Every entry is still live; start over rather than track usage, as JWTUtils does for parsed keys.
+      TOKENS.clear();
+    }
+  }
+
+  /**
+   * Drop the cached token for {@code key}, e.g. after the API rejected it.
+   *
+   * @param key a key built by {@link #key}
+   */
+  public static void invalidate(String key) {
+    TOKENS.remove(key);
+  }
+
+  /**
+   * Drop all cached tokens.
+   */
+  public static void clear() {
+    TOKENS.clear();
+  }
+
+  static long refreshAt(long nowMillis, Long expiresInSeconds) {
+    long lifetime = expiresInSeconds == null ? 0L : expiresInSeconds * 1000L;
+    return nowMillis + Math.max(0L, Math.max(lifetime - REFRESH_MARGIN_MILLIS, lifetime / 2));
+  }
+}
@@ -10,6 +10,7 @@ import java.io.FileReader;
 import java.io.IOException;
 import java.io.StringReader;
 import java.security.KeyFactory;
+import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.security.NoSuchProviderException;
 import java.security.Security;
@@ -20,6 +21,7 @@ import java.security.spec.InvalidKeySpecException;
 import java.security.spec.PKCS8EncodedKeySpec;
 import java.security.spec.X509EncodedKeySpec;
 import java.util.Date;
+import java.util.concurrent.ConcurrentHashMap;
 import org.bouncycastle.jce.provider.BouncyCastleProvider;
 import org.bouncycastle.util.io.pem.PemObject;
 import org.bouncycastle.util.io.pem.PemReader;
@@ -30,6 +32,24 @@ import org.bouncycastle.util.io.pem.PemReader;
  */
 public class JWTUtils {
 
+  // Parsed signing keys by SHA-256 of the PEM bytes; parsing through KeyFactory costs more than signing.
+  private static final int MAX_CACHED_KEYS = 16;
+  private static final ConcurrentHashMap<String, Algorithm> SIGNING_ALGORITHMS =
+      new ConcurrentHashMap<String, Algorithm>();
+
+  /** Registers the BouncyCastle provider once instead of on every key read. */
+  private static final class BouncyCastle {
+    static {
+      if (Security.getProvider("BC") == null) {
+        Security.addProvider(new BouncyCastleProvider());
+      }
+    }
+
+    static void ensureRegistered() {
+      // class initialization does the work
+    }
+  }
+
   /**
    * Helper method to create a JWT token for the JWT flow.
    *
@@ -67,8 +87,7 @@ public class JWTUtils {
       throw new IllegalArgumentException("One of the arguments is null or empty");
     }
 
-    RSAPrivateKey privateKey = readPrivateKeyFromByteArray(rsaPrivateKey, "RSA");
-    Algorithm algorithm = Algorithm.RSA256(null, privateKey);
+    Algorithm algorithm = signingAlgorithm(rsaPrivateKey);
     long now = System.currentTimeMillis();
     JWTCreator.Builder builder =
         JWT.create()
@@ -173,6 +192,51 @@ public class JWTUtils {
     return token;
   }
 
+  /**
+   * RS256 signing algorithm for the given PEM private key, parsed once and then reused.
+   *
+   * @param rsaPrivateKey the byte contents of the RSA private key
+   * @return the signing algorithm
+   * @throws IOException if the PEM content can't be read
+   */
+  static Algorithm signingAlgorithm(byte[] rsaPrivateKey) throws IOException {
+    String digest = sha256Hex(rsaPrivateKey);
+    Algorithm algorithm = SIGNING_ALGORITHMS.get(digest);
+    if (algorithm != null) {
+      return algorithm;
+    }
+    RSAPrivateKey privateKey = readPrivateKeyFromByteArray(rsaPrivateKey, "RSA");
+    algorithm = Algorithm.RSA256(null, privateKey);
+    if (privateKey != null) {
+      // Few distinct keys are expected; start over rather than track usage.
+      if (SIGNING_ALGORITHMS.size() >= MAX_CACHED_KEYS) {
+        SIGNING_ALGORITHMS.clear();
+      }
+      SIGNING_ALGORITHMS.put(digest, algorithm);
+    }
+    return algorithm;
+  }
+
+  /**
+   * Forget parsed private keys, e.g. after a key rotation.
+   */
+  public static void clearKeyCache() {
+    SIGNING_ALGORITHMS.clear();
+  }
+
+  static String sha256Hex(byte[] bytes) {
+    try {
+      byte[] hash = MessageDigest.getInstance("SHA-256").digest(bytes);
+      StringBuilder sb = new StringBuilder(hash.length * 2);
+      for (byte b : hash) {
+        sb.append(String.format("%02x", b));
+      }
+      return sb.toString();
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 not available", e);
+    }
+  }
+
   private static RSAPublicKey readPublicKeyFromFile(String filepath, String algorithm)
       throws IOException {
     File pemFile = new File(filepath);
@@ -215,7 +279,7 @@ public class JWTUtils {
       byte[] bytes = pemObject.getContent();
       RSAPrivateKey privateKey = null;
       try {
-        Security.addProvider(new BouncyCastleProvider());
+        BouncyCastle.ensureRegistered();
         KeyFactory kf = KeyFactory.getInstance(algorithm, "BC");
         EncodedKeySpec keySpec = new PKCS8EncodedKeySpec(bytes);
         privateKey = (RSAPrivateKey) kf.generatePrivate(keySpec);
@@ -242,7 +306,7 @@ public class JWTUtils {
       byte[] bytes = pemObject.getContent();
       RSAPrivateKey privateKey = null;
       try {
-        Security.addProvider(new BouncyCastleProvider());
+        BouncyCastle.ensureRegistered();
         KeyFactory kf = KeyFactory.getInstance(algorithm, "BC");
         EncodedKeySpec keySpec = new PKCS8EncodedKeySpec(bytes);
         privateKey = (RSAPrivateKey) kf.generatePrivate(keySpec);
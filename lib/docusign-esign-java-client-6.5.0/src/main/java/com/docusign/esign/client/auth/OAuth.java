@@ -4,6 +4,8 @@ import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.text.DateFormat;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
 
 import com.docusign.esign.client.RFC3339DateFormat;
 
@@ -65,13 +67,15 @@ public class OAuth implements Authentication {
     private String scope = null;
     private OAuthFlow grantType = null;
 
-    private volatile String accessToken;
     private volatile String refreshToken;
     private volatile String authCode;
     private volatile String jwtAssertion;
 
-    private Long expirationTimeMillis;
-    private AccessTokenListener accessTokenListener;
+    // Token and expiry change together, so readers never see one without the other and never take a lock.
+    private final AtomicReference<TokenState> token = new AtomicReference<TokenState>(TokenState.EMPTY);
+    // Held only while a token request runs; callers that find the token expired wait here for that one request.
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private volatile AccessTokenListener accessTokenListener;
 
     private Client httpClient;
 
@@ -86,6 +90,15 @@ public class OAuth implements Authentication {
         this.httpClient = httpClient;
     }
 
+   /**
+    * Sets the client used for token requests, e.g. after the owning ApiClient rebuilt its client.
+    *
+    * @param httpClient The client to use
+    */
+    public void setHttpClient(Client httpClient) {
+        this.httpClient = httpClient;
+    }
+
    /**
     * OAuth constructor.
     * 
@@ -123,16 +136,35 @@ public class OAuth implements Authentication {
     */
     @Override
     public void applyToParams(List<Pair> queryParams, Map<String, String> headerParams) {
+        TokenState state = token.get();
         // If first time, get the token
-        if (expirationTimeMillis == null || System.currentTimeMillis() >= expirationTimeMillis) {
+        if (state.isExpired()) {
+            state = refreshExpired(state);
+        }
+        if (state.accessToken != null) {
+            headerParams.put("Authorization", "Bearer " + state.accessToken);
+        }
+    }
+
+    /**
+     * Refresh the token unless another thread already did (or tried to) while we waited for the lock.
+     */
+    private TokenState refreshExpired(TokenState expired) {
+        refreshLock.lock();
+        try {
+            TokenState current = token.get();
+            if (current != expired) {
+                return current;
+            }
             try {
                 updateAccessToken();
             } catch (ApiException e) {
-                accessToken = null;
+                TokenState failed = token.get();
+                token.compareAndSet(failed, new TokenState(null, failed.expirationTimeMillis));
             }
-        }
-        if (accessToken != null) {
-            headerParams.put("Authorization", "Bearer " + accessToken);
+            return token.get();
+        } finally {
+            refreshLock.unlock();
         }
     }
 
@@ -140,7 +172,16 @@ public class OAuth implements Authentication {
     * updateAccessToken method.
     *
     */
-    public synchronized void updateAccessToken() throws ApiException {
+    public void updateAccessToken() throws ApiException {
+        refreshLock.lock();
+        try {
+            doUpdateAccessToken();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private void doUpdateAccessToken() throws ApiException {
         OAuthToken oauthToken = null;
         try {
             switch (getGrantType()) {
@@ -166,8 +207,9 @@ public class OAuth implements Authentication {
             }
 
             setAccessToken(oauthToken.getAccessToken(), Long.valueOf(oauthToken.getExpiresIn()));
-            if (this.accessTokenListener != null) {
-                this.accessTokenListener.notify(oauthToken);
+            AccessTokenListener listener = this.accessTokenListener;
+            if (listener != null) {
+                listener.notify(oauthToken);
             }
         } else {
             // in case of HTTP error codes accessTokenResponse is null, thus no check of accessTokenResponse.getResponseCode() possible :-(
@@ -304,7 +346,7 @@ public class OAuth implements Authentication {
     *
     * @param accessTokenListener The access token listener
     */
-    public synchronized void registerAccessTokenListener(AccessTokenListener accessTokenListener) {
+    public void registerAccessTokenListener(AccessTokenListener accessTokenListener) {
         this.accessTokenListener = accessTokenListener;
     }
 
@@ -313,21 +355,42 @@ public class OAuth implements Authentication {
     *
     * @return String
     */
-    public synchronized String getAccessToken() {
-        return accessToken;
+    public String getAccessToken() {
+        return token.get().accessToken;
     }
 
     public Long getExpirationTimeMillis() {
-        return expirationTimeMillis;
+        return token.get().expirationTimeMillis;
     }
 
     public void setExpirationTimeMillis(Long expirationTimeMillis) {
-        this.expirationTimeMillis = expirationTimeMillis;
+        TokenState current;
+        do {
+            current = token.get();
+        } while (!token.compareAndSet(current, new TokenState(current.accessToken, expirationTimeMillis)));
+    }
+
+    public void setAccessToken(String accessToken, Long expiresIn) {
+        token.set(new TokenState(accessToken, System.currentTimeMillis() + expiresIn * MILLIS_PER_SECOND));
     }
 
-    public synchronized void setAccessToken(String accessToken, Long expiresIn) {
-        this.accessToken = accessToken;
-        this.expirationTimeMillis = System.currentTimeMillis() + expiresIn * MILLIS_PER_SECOND;
+    /**
+     * An access token with its expiry, replaced as a whole.
+     */
+    private static final class TokenState {
+        static final TokenState EMPTY = new TokenState(null, null);
+
+        final String accessToken;
+        final Long expirationTimeMillis;
+
+        TokenState(String accessToken, Long expirationTimeMillis) {
+            this.accessToken = accessToken;
+            this.expirationTimeMillis = expirationTimeMillis;
+        }
+
+        boolean isExpired() {
+            return expirationTimeMillis == null || System.currentTimeMillis() >= expirationTimeMillis;
+        }
     }
 
     public String getClientId() {
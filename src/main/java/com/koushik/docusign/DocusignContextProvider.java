@@ -21,10 +21,8 @@ import java.nio.charset.StandardCharsets;
 import java.util.Base64;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 public class DocusignContextProvider implements ContextProvider {
 
@@ -43,7 +41,14 @@ public class DocusignContextProvider implements ContextProvider {
         
         try {
             Issue issue = (Issue) context.get("issue");
-            if (issue != null) {
+            if (issue != null && isLazyPanel()) {
+                // Lazy mode: render only the shell; the panel script loads state, attachments and candidates over REST
+                // once it is shown, so none of the work below runs during the view-issue render.
+                putDefaults(map);
+                map.put("lazyPanel", true);
+                map.put("issueKey", issue.getKey() != null ? issue.getKey() : "");
+                map.put("assigneeUserKey", issue.getAssignee() != null && issue.getAssignee().getKey() != null ? issue.getAssignee().getKey() : "");
+            } else if (issue != null) {
                 String issueKey = issue.getKey();
                 map.put("issueKey", issueKey != null ? issueKey : "");
                 
@@ -105,29 +110,12 @@ public class DocusignContextProvider implements ContextProvider {
                 try {
                     JiraUserService userService = new JiraUserService();
                     List<Map<String, Object>> projectUsers = new ArrayList<>();
-                    for (JiraUserService.JiraUser jiraUser : userService.getAssignableUsersForIssue(issue)) {
+                    for (JiraUserService.SignerCandidate candidate : userService.getPanelCandidates(issue, user)) {
                         Map<String, Object> userInfo = new HashMap<>();
-                        userInfo.put("userKey", jiraUser.getUserKey());
-                        userInfo.put("displayName", jiraUser.getDisplayName());
+                        userInfo.put("userKey", candidate.getUserKey());
+                        userInfo.put("displayName", candidate.getDisplayName());
                         projectUsers.add(userInfo);
                     }
-                    // Ensure assignee/reporter/current user are always present (common Jira setups use groups, so role expansion can miss them).
-                    Set<String> existing = new HashSet<>();
-                    for (Map<String, Object> u : projectUsers) {
-                        if (u == null) continue;
-                        Object key = u.get("userKey");
-                        if (key != null) {
-                            existing.add(String.valueOf(key));
-                        }
-                    }
-                    List<Map<String, Object>> pinned = new ArrayList<>();
-                    addIfMissing(pinned, existing, issue.getAssignee());
-                    addIfMissing(pinned, existing, issue.getReporter());
-                    addIfMissing(pinned, existing, user);
-                    if (!pinned.isEmpty()) {
-                        pinned.addAll(projectUsers);
-                        projectUsers = pinned;
-                    }
                     map.put("projectUsers", projectUsers);
                     try {
                         // Use JSON to avoid Velocity foreach comma issues and to ensure safe JS parsing.
@@ -144,61 +132,43 @@ public class DocusignContextProvider implements ContextProvider {
                     map.put("projectUsersJsonB64", "");
                 }
             } else {
-                map.put("issueKey", "");
-                map.put("attachments", new ArrayList<>());
-                map.put("projectUsers", new ArrayList<>());
-                map.put("projectUsersJsonJs", "");
-                map.put("projectUsersJsonB64", "");
-                map.put("signerUiState", "");
-                map.put("envelopeStatus", "");
-                map.put("envelopeId", "");
-                map.put("signerUiStateJs", "");
-                map.put("envelopeStatusJs", "");
-                map.put("envelopeIdJs", "");
-                map.put("webhookEnabled", isWebhookEnabled());
-                map.put("assigneeUserKey", "");
+                putDefaults(map);
             }
         } catch (Exception e) {
             // If anything fails, return safe defaults
-            map.put("issueKey", "");
-            map.put("attachments", new ArrayList<>());
-            map.put("projectUsers", new ArrayList<>());
-            map.put("projectUsersJsonJs", "");
-            map.put("projectUsersJsonB64", "");
-            map.put("signerUiState", "");
-            map.put("envelopeStatus", "");
-            map.put("envelopeId", "");
-            map.put("signerUiStateJs", "");
-            map.put("envelopeStatusJs", "");
-            map.put("envelopeIdJs", "");
-            map.put("webhookEnabled", isWebhookEnabled());
-            map.put("assigneeUserKey", "");
+            putDefaults(map);
         }
 
         return map;
     }
 
+    private void putDefaults(Map<String, Object> map) {
+        map.put("issueKey", "");
+        map.put("lazyPanel", false);
+        map.put("attachments", new ArrayList<>());
+        map.put("projectUsers", new ArrayList<>());
+        map.put("projectUsersJsonJs", "");
+        map.put("projectUsersJsonB64", "");
+        map.put("signerUiState", "");
+        map.put("envelopeStatus", "");
+        map.put("envelopeId", "");
+        map.put("signerUiStateJs", "");
+        map.put("envelopeStatusJs", "");
+        map.put("envelopeIdJs", "");
+        map.put("webhookEnabled", isWebhookEnabled());
+        map.put("assigneeUserKey", "");
+    }
+
+    private boolean isLazyPanel() {
+        String v = DocusignConfig.getString("DOCUSIGN_PANEL_LAZY", "false");
+        return v != null && "true".equalsIgnoreCase(v.trim());
+    }
+
     private boolean isWebhookEnabled() {
         String v = DocusignConfig.getString("DOCUSIGN_WEBHOOK_URL", "");
         return v != null && !v.trim().isEmpty();
     }
 
-    private void addIfMissing(List<Map<String, Object>> into, Set<String> existingKeys, ApplicationUser user) {
-        if (into == null || existingKeys == null || user == null) {
-            return;
-        }
-        String userKey = user.getKey();
-        if (userKey == null || userKey.trim().isEmpty() || existingKeys.contains(userKey)) {
-            return;
-        }
-        Map<String, Object> userInfo = new HashMap<>();
-        userInfo.put("userKey", userKey);
-        String displayName = user.getDisplayName();
-        userInfo.put("displayName", displayName != null ? displayName : userKey);
-        into.add(userInfo);
-        existingKeys.add(userKey);
-    }
-
     private String readIssueProperty(IssuePropertyService service, ApplicationUser user, Long issueId, String key) {
         if (service == null || issueId == null || key == null) {
             return "";
@@ -0,0 +1,50 @@
+package com.koushik.docusign.ao;
+
+import net.java.ao.Entity;
+import net.java.ao.Preload;
+import net.java.ao.schema.Indexed;
+import net.java.ao.schema.NotNull;
+import net.java.ao.schema.StringLength;
+import net.java.ao.schema.Table;
+
+import java.util.Date;
+
+/**
+ * Queued "attach signed documents" work for a completed envelope (PENDING -> RUNNING -> DONE / FAILED).
+ */
+@Preload
+@Table("DOCUSIGN_ATTACH_JOB")
+public interface AoDocusignAttachJob extends Entity {
+
+    @NotNull
+    @Indexed
+    String getIssueKey();
+    void setIssueKey(String issueKey);
+
+    @NotNull
+    @Indexed
+    String getEnvelopeId();
+    void setEnvelopeId(String envelopeId);
+
+    @NotNull
+    @Indexed
+    String getState();
+    void setState(String state);
+
+    Integer getAttempts();
+    void setAttempts(Integer attempts);
+
+    @Indexed
+    Date getNextRunAt();
+    void setNextRunAt(Date nextRunAt);
+
+    @StringLength(StringLength.UNLIMITED)
+    String getLastError();
+    void setLastError(String lastError);
+
+    Date getCreatedAt();
+    void setCreatedAt(Date createdAt);
+
+    Date getUpdatedAt();
+    void setUpdatedAt(Date updatedAt);
+}
@@ -0,0 +1,41 @@
+package com.koushik.docusign.ao;
+
+import net.java.ao.Entity;
+import net.java.ao.Preload;
+import net.java.ao.schema.Indexed;
+import net.java.ao.schema.NotNull;
+import net.java.ao.schema.Table;
+
+import java.util.Date;
+
+/**
+ * Jira attachment created from a signed envelope document, so it can be found by id instead of scanning attachments.
+ */
+@Preload
+@Table("DOCUSIGN_SIGNED_ATT")
+public interface AoDocusignSignedAttachment extends Entity {
+
+    @NotNull
+    @Indexed
+    String getIssueKey();
+    void setIssueKey(String issueKey);
+
+    @NotNull
+    @Indexed
+    String getEnvelopeId();
+    void setEnvelopeId(String envelopeId);
+
+    String getDocumentId();
+    void setDocumentId(String documentId);
+
+    @NotNull
+    @Indexed
+    Long getAttachmentId();
+    void setAttachmentId(Long attachmentId);
+
+    String getFilename();
+    void setFilename(String filename);
+
+    Date getCreatedAt();
+    void setCreatedAt(Date createdAt);
+}
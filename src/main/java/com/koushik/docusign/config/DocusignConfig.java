@@ -60,6 +60,39 @@ public final class DocusignConfig {
         return v.trim();
     }
 
+    /**
+     * Positive integer setting; {@code def} when unset, unparseable or not positive.
+     */
+    public static int getInt(String key, int def) {
+        return getInt(key, def, 1);
+    }
+
+    /**
+     * Integer setting of at least {@code min}; {@code def} when unset, unparseable or below {@code min}.
+     */
+    public static int getInt(String key, int def, int min) {
+        long n = getLong(key, def, min);
+        return n > Integer.MAX_VALUE ? def : (int) n;
+    }
+
+    /**
+     * Positive long setting; {@code def} when unset, unparseable or not positive.
+     */
+    public static long getLong(String key, long def) {
+        return getLong(key, def, 1L);
+    }
+
+    private static long getLong(String key, long def, long min) {
+        String v = getString(key, null);
+        if (v == null) return def;
+        try {
+            long n = Long.parseLong(v);
+            return n >= min ? n : def;
+        } catch (NumberFormatException ignore) {
+            return def;
+        }
+    }
+
     public static void setGlobalString(String key, String value) {
         PluginSettings settings = getGlobalSettings();
         if (settings == null) {
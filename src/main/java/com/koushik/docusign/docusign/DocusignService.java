@@ -5,8 +5,12 @@ package com.koushik.docusign.docusign;
 import com.koushik.docusign.config.DocusignConfig;
 import com.google.gson.Gson;
 import com.google.gson.JsonObject;
+import com.koushik.docusign.http.DocusignCircuitBreaker;
 import com.koushik.docusign.http.DocusignHttpClientFactory;
+import com.koushik.docusign.http.DocusignRetryPolicy;
+import com.koushik.docusign.http.DocusignRequestScheduler;
 import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.entity.ContentType;
 import org.apache.http.entity.StringEntity;
@@ -15,10 +19,13 @@ import org.apache.http.util.EntityUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.UUID;
 
 
 
@@ -35,6 +42,9 @@ public class DocusignService {
     private static final Gson GSON = new Gson();
     private static final Logger log = LoggerFactory.getLogger(DocusignService.class);
 
+    /** Envelope custom field holding the client-generated idempotency marker for each send. */
+    public static final String SEND_ID_FIELD = "jiraSendId";
+
 
 
     private final String accountId;
@@ -74,15 +84,44 @@ public class DocusignService {
 
 
 
-        JsonObject envelope = buildEnvelope(issueKey, documents, signers);
+        // Client-generated idempotency marker: lets us detect whether an ambiguous (timed out / 5xx) POST
+        // actually created the envelope before we retry it.
+        String sendId = UUID.randomUUID().toString();
+        JsonObject envelope = buildEnvelope(issueKey, documents, signers, sendId);
         org.slf4j.LoggerFactory.getLogger(DocusignService.class)
                 .info("DocuSign envelope payload: {}", envelope.toString());
 
 
 
         String url = restBase + "/v2.1/accounts/" + accountId + "/envelopes";
-
-        JsonObject resp = httpPostJson(url, accessToken, envelope);
+        long startedAtMs = System.currentTimeMillis();
+        // This loop owns all retries of the POST (the scheduler makes a single attempt), so an ambiguous failure is
+        // always checked against the sendId before the envelope is sent again.
+        DocusignRetryPolicy policy = DocusignRetryPolicy.singleAttempt();
+        long delayMs = 0;
+        JsonObject resp;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                resp = httpPostJson(url, accessToken, envelope, policy);
+                break;
+            } catch (Exception e) {
+                boolean ambiguous = isAmbiguousSendFailure(e);
+                if (!(ambiguous || isUnsentSendFailure(e)) || attempt >= DocusignRetryPolicy.maxAttempts()) {
+                    throw e;
+                }
+                if (ambiguous) {
+                    String existing = findEnvelopeIdBySendId(sendId, accessToken, startedAtMs);
+                    if (existing != null) {
+                        log.info("DocuSign envelope {} already created for sendId {} (attempt {} failed: {})", existing, sendId, attempt, e.getMessage());
+                        return existing;
+                    }
+                }
+                delayMs = policy.nextDelayMs(delayMs, -1);
+                log.warn("DocuSign envelope send failed (attempt {}): {}; no envelope created for sendId {}, retrying in {} ms",
+                        attempt, e.getMessage(), sendId, delayMs);
+                Thread.sleep(delayMs);
+            }
+        }
 
 
 
@@ -207,10 +246,12 @@ public class DocusignService {
 
     private JsonObject buildEnvelope(String issueKey,
                                     List<DocusignDocument> documents,
-                                    List<DocusignSigner> signers) {
+                                    List<DocusignSigner> signers,
+                                    String sendId) {
 
         String safeIssueKey = sanitize(issueKey);
         JsonObject env = new JsonObject();
+        com.google.gson.JsonArray textCustomFields = new com.google.gson.JsonArray();
 
         env.addProperty("emailSubject", "Please sign documents (Jira: " + safeIssueKey + ")");
 
@@ -270,13 +311,22 @@ public class DocusignService {
             env.add("eventNotification", eventNotification);
 
             // Also store issue key as envelope custom field (useful if query param is removed).
-            JsonObject envelopeCustomFields = new JsonObject();
-            com.google.gson.JsonArray fields = new com.google.gson.JsonArray();
             JsonObject field = new JsonObject();
             field.addProperty("name", "jiraIssueKey");
             field.addProperty("value", safeIssueKey);
-            fields.add(field);
-            envelopeCustomFields.add("textCustomFields", fields);
+            textCustomFields.add(field);
+        }
+
+        if (sendId != null) {
+            JsonObject field = new JsonObject();
+            field.addProperty("name", SEND_ID_FIELD);
+            field.addProperty("value", sendId);
+            field.addProperty("show", "false");
+            textCustomFields.add(field);
+        }
+        if (textCustomFields.size() > 0) {
+            JsonObject envelopeCustomFields = new JsonObject();
+            envelopeCustomFields.add("textCustomFields", textCustomFields);
             env.add("customFields", envelopeCustomFields);
         }
 
@@ -431,7 +481,75 @@ public class DocusignService {
 
 
 
-    private JsonObject httpPostJson(String url, String bearerToken, JsonObject jsonBody) throws Exception {
+    /**
+     * A send failure is ambiguous when DocuSign may have created the envelope anyway: the request was sent but
+     * the response was lost (non-connect IO error) or DocuSign answered with a transient 5xx.
+     */
+    private static boolean isAmbiguousSendFailure(Exception e) {
+        if (e instanceof DocusignCircuitBreaker.OpenException) return false;
+        if (e instanceof IOException) return !DocusignRetryPolicy.isConnectFailure((IOException) e);
+        String msg = e.getMessage();
+        if (msg == null || !msg.startsWith("HTTP ")) return false;
+        try {
+            int code = Integer.parseInt(msg.substring(5, msg.indexOf(' ', 5)));
+            return DocusignRetryPolicy.isTransientStatus(code);
+        } catch (Exception ignore) {
+            return false;
+        }
+    }
+
+    /**
+     * Failures where DocuSign provably didn't create the envelope: the connection was never made, or the request was
+     * rate limited (429). Safe to resend without a lookup.
+     */
+    private static boolean isUnsentSendFailure(Exception e) {
+        if (e instanceof DocusignCircuitBreaker.OpenException) return false;
+        if (e instanceof IOException) return DocusignRetryPolicy.isConnectFailure((IOException) e);
+        String msg = e.getMessage();
+        return msg != null && msg.startsWith("HTTP 429 ");
+    }
+
+    /**
+     * Look up an envelope created since {@code sinceMs} carrying our {@code jiraSendId} custom field.
+     * Returns null when none exists (or the lookup itself fails).
+     */
+    private String findEnvelopeIdBySendId(String sendId, String accessToken, long sinceMs) {
+        // Allow for clock skew between Jira and DocuSign.
+        String fromDate = Instant.ofEpochMilli(sinceMs - 15 * 60_000L).toString();
+        String url = restBase + "/v2.1/accounts/" + accountId + "/envelopes"
+                + "?from_date=" + encodeUrl(fromDate)
+                + "&custom_field=" + encodeUrl(SEND_ID_FIELD + "=" + sendId);
+        try (CloseableHttpClient client = DocusignHttpClientFactory.create()) {
+            HttpGet get = new HttpGet(url);
+            get.setHeader("Authorization", "Bearer " + accessToken);
+            get.setHeader("Accept", "application/json");
+            try (CloseableHttpResponse resp = DocusignRequestScheduler.execute(client, get, accountId)) {
+                int code = resp.getStatusLine().getStatusCode();
+                String body = EntityUtils.toString(resp.getEntity(), StandardCharsets.UTF_8);
+                if (code < 200 || code >= 300) {
+                    log.warn("DocuSign envelope lookup by sendId failed (HTTP {}): {}", code, body);
+                    return null;
+                }
+                JsonObject json = GSON.fromJson(body, JsonObject.class);
+                if (json == null || !json.has("envelopes") || !json.get("envelopes").isJsonArray()) {
+                    return null;
+                }
+                for (com.google.gson.JsonElement el : json.getAsJsonArray("envelopes")) {
+                    if (el.isJsonObject() && el.getAsJsonObject().has("envelopeId")) {
+                        return el.getAsJsonObject().get("envelopeId").getAsString();
+                    }
+                }
+                return null;
+            }
+        } catch (Exception e) {
+            log.warn("DocuSign envelope lookup by sendId failed: {}", e.getMessage());
+            return null;
+        }
+    }
+
+
+
+    private JsonObject httpPostJson(String url, String bearerToken, JsonObject jsonBody, DocusignRetryPolicy policy) throws Exception {
 
         try (CloseableHttpClient client = DocusignHttpClientFactory.create()) {
 
@@ -449,7 +567,7 @@ public class DocusignService {
 
 
 
-            try (CloseableHttpResponse resp = client.execute(post)) {
+            try (CloseableHttpResponse resp = DocusignRequestScheduler.execute(client, post, accountId, policy)) {
 
                 int code = resp.getStatusLine().getStatusCode();
 
@@ -0,0 +1,139 @@
+package com.koushik.docusign.http;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.koushik.docusign.config.DocusignConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-host circuit breaker for DocuSign calls.
+ *
+ * After {@code DOCUSIGN_CIRCUIT_FAILURE_THRESHOLD} consecutive failures (IO errors or transient 5xx) the circuit
+ * opens and calls fail fast for {@code DOCUSIGN_CIRCUIT_OPEN_MS} instead of tying up Jira threads until socket
+ * timeouts fire. After that a single probe call is let through; success closes the circuit, failure re-opens it.
+ */
+public final class DocusignCircuitBreaker {
+
+    private static final Logger log = LoggerFactory.getLogger(DocusignCircuitBreaker.class);
+    private static final Map<String, DocusignCircuitBreaker> BREAKERS = new ConcurrentHashMap<>();
+
+    public static final String DEGRADED_MESSAGE = "DocuSign degraded";
+
+    /**
+     * Thrown when the circuit is open and the call was not attempted.
+     */
+    public static final class OpenException extends IOException {
+        public OpenException(String message) {
+            super(message);
+        }
+    }
+
+    private enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final String host;
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAtMs;
+    private long openUntilMs;
+    private boolean probeInFlight;
+    private long rejectedTotal;
+
+    private DocusignCircuitBreaker(String host) {
+        this.host = host;
+    }
+
+    public static DocusignCircuitBreaker forHost(String host) {
+        String key = host != null && !host.trim().isEmpty() ? host.trim().toLowerCase(Locale.ROOT) : "unknown";
+        return BREAKERS.computeIfAbsent(key, DocusignCircuitBreaker::new);
+    }
+
+    /**
+     * True while any DocuSign host has an open circuit.
+     */
+    public static boolean anyOpen() {
+        for (DocusignCircuitBreaker b : BREAKERS.values()) {
+            if (b.isOpen()) return true;
+        }
+        return false;
+    }
+
+    public static JsonArray snapshot() {
+        JsonArray arr = new JsonArray();
+        for (DocusignCircuitBreaker b : BREAKERS.values()) {
+            arr.add(b.toJson());
+        }
+        return arr;
+    }
+
+    /**
+     * Admit a call, or throw {@link OpenException} when the circuit is open.
+     */
+    public synchronized void acquire() throws OpenException {
+        long now = System.currentTimeMillis();
+        if (state == State.CLOSED) return;
+        if (state == State.OPEN && now >= openUntilMs) {
+            state = State.HALF_OPEN;
+            probeInFlight = false;
+        }
+        if (state == State.HALF_OPEN && !probeInFlight) {
+            probeInFlight = true;
+            return;
+        }
+        rejectedTotal++;
+        long retryInSec = Math.max(1L, (openUntilMs - now + 999L) / 1000L);
+        throw new OpenException(DEGRADED_MESSAGE + ": too many recent failures talking to " + host
+                + "; retry in ~" + retryInSec + "s");
+    }
+
+    public synchronized void recordSuccess() {
+        if (state != State.CLOSED) {
+            log.info("DocuSign circuit for {} closed after successful probe", host);
+        }
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        probeInFlight = false;
+    }
+
+    public synchronized void recordFailure() {
+        consecutiveFailures++;
+        int threshold = Math.max(1, DocusignConfig.getInt("DOCUSIGN_CIRCUIT_FAILURE_THRESHOLD", 5, 0));
+        if (state == State.HALF_OPEN || consecutiveFailures >= threshold) {
+            long now = System.currentTimeMillis();
+            if (state != State.OPEN) {
+                log.warn("DocuSign circuit for {} opened after {} consecutive failures", host, consecutiveFailures);
+            }
+            state = State.OPEN;
+            openedAtMs = now;
+            openUntilMs = now + DocusignConfig.getInt("DOCUSIGN_CIRCUIT_OPEN_MS", 30_000, 0);
+            probeInFlight = false;
+        }
+    }
+
+    public synchronized boolean isOpen() {
+        return state != State.CLOSED;
+    }
+
+    private synchronized JsonObject toJson() {
+        JsonObject o = new JsonObject();
+        o.addProperty("host", host);
+        o.addProperty("state", state.name());
+        o.addProperty("consecutiveFailures", consecutiveFailures);
+        o.addProperty("openedAtMs", openedAtMs);
+        o.addProperty("openUntilMs", openUntilMs);
+        o.addProperty("rejectedTotal", rejectedTotal);
+        if (state != State.CLOSED) {
+            o.addProperty("message", DEGRADED_MESSAGE);
+        }
+        return o;
+    }
+}
@@ -14,9 +14,9 @@ public final class DocusignHttpClientFactory {
     private DocusignHttpClientFactory() {}
 
     public static CloseableHttpClient create() {
-        int connectTimeoutMs = readInt("DOCUSIGN_HTTP_CONNECT_TIMEOUT_MS", 10_000);
-        int socketTimeoutMs = readInt("DOCUSIGN_HTTP_SOCKET_TIMEOUT_MS", 30_000);
-        int requestTimeoutMs = readInt("DOCUSIGN_HTTP_CONNECTION_REQUEST_TIMEOUT_MS", 5_000);
+        int connectTimeoutMs = DocusignConfig.getInt("DOCUSIGN_HTTP_CONNECT_TIMEOUT_MS", 10_000);
+        int socketTimeoutMs = DocusignConfig.getInt("DOCUSIGN_HTTP_SOCKET_TIMEOUT_MS", 30_000);
+        int requestTimeoutMs = DocusignConfig.getInt("DOCUSIGN_HTTP_CONNECTION_REQUEST_TIMEOUT_MS", 5_000);
 
         RequestConfig cfg = RequestConfig.custom()
                 .setConnectTimeout(connectTimeoutMs)
@@ -30,18 +30,5 @@ public final class DocusignHttpClientFactory {
                 .setUserAgent("jira-docusign-plugin")
                 .build();
     }
-
-    private static int readInt(String key, int def) {
-        try {
-            String v = DocusignConfig.getString(key, null);
-            if (v == null) return def;
-            v = v.trim();
-            if (v.isEmpty()) return def;
-            int n = Integer.parseInt(v);
-            return n > 0 ? n : def;
-        } catch (Exception ignore) {
-            return def;
-        }
-    }
 }
 
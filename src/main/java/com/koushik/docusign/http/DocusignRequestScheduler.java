@@ -0,0 +1,322 @@
+package com.koushik.docusign.http;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.koushik.docusign.config.DocusignConfig;
+import org.apache.http.Header;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.util.EntityUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Central gate for outbound DocuSign REST API calls.
+ *
+ * DocuSign enforces per-account hourly and burst limits and reports the remaining budget in
+ * {@code X-RateLimit-Remaining} / {@code X-RateLimit-Reset} (and {@code X-BurstLimit-Remaining}).
+ * Every REST call goes through {@link #execute} so the budget is tracked per account from the response headers.
+ *
+ * Interactive calls (user-facing REST requests) are never delayed. Background work (bulk refresh, attach jobs,
+ * token refresh) runs via {@link #runInBackground} and is held back when the remaining budget drops below a
+ * reserve, and is limited to a single in-flight call while interactive calls are running for the same account.
+ * Transient failures are retried per {@link DocusignRetryPolicy} behind a per-host {@link DocusignCircuitBreaker}.
+ */
+public final class DocusignRequestScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(DocusignRequestScheduler.class);
+
+    public enum Priority {
+        INTERACTIVE,
+        BACKGROUND
+    }
+
+    private static final ThreadLocal<Priority> PRIORITY = new ThreadLocal<>();
+    private static final Map<String, AccountBudget> BUDGETS = new ConcurrentHashMap<>();
+    private static final String UNKNOWN_ACCOUNT = "unknown";
+
+    private DocusignRequestScheduler() {}
+
+    /**
+     * Run {@code work} with background priority: DocuSign calls made on this thread yield to interactive sends
+     * and are delayed while the account's remaining budget is low.
+     */
+    public static <T> T runInBackground(Callable<T> work) throws Exception {
+        Priority previous = PRIORITY.get();
+        PRIORITY.set(Priority.BACKGROUND);
+        try {
+            return work.call();
+        } finally {
+            if (previous != null) {
+                PRIORITY.set(previous);
+            } else {
+                PRIORITY.remove();
+            }
+        }
+    }
+
+    public static Priority currentPriority() {
+        Priority p = PRIORITY.get();
+        return p != null ? p : Priority.INTERACTIVE;
+    }
+
+    /**
+     * Execute a DocuSign REST request for {@code accountId}, applying priority/budget admission and recording
+     * rate-limit headers from the response. Retries follow {@link DocusignRetryPolicy#forMethod} for the request
+     * method. The caller owns (and must close) the returned response.
+     */
+    public static CloseableHttpResponse execute(CloseableHttpClient client, HttpUriRequest request, String accountId) throws IOException {
+        return execute(client, request, accountId, DocusignRetryPolicy.forMethod(request.getMethod()));
+    }
+
+    public static CloseableHttpResponse execute(CloseableHttpClient client, HttpUriRequest request, String accountId,
+                                                DocusignRetryPolicy policy) throws IOException {
+        AccountBudget budget = budgetFor(accountId);
+        Priority priority = currentPriority();
+        DocusignCircuitBreaker breaker = DocusignCircuitBreaker.forHost(request.getURI() != null ? request.getURI().getHost() : null);
+        long delayMs = 0;
+        for (int attempt = 1; ; attempt++) {
+            // Budget first: admit() may wait or throw, and must not do so while holding the breaker's half-open probe.
+            budget.admit(priority);
+            try {
+                breaker.acquire();
+            } catch (IOException | RuntimeException e) {
+                budget.release(priority);
+                throw e;
+            }
+            CloseableHttpResponse resp;
+            try {
+                resp = client.execute(request);
+            } catch (IOException e) {
+                breaker.recordFailure();
+                if (!policy.shouldRetry(e, attempt)) {
+                    throw e;
+                }
+                delayMs = policy.nextDelayMs(delayMs, -1);
+                log.warn("DocuSign {} {} failed (attempt {}): {}; retrying in {} ms",
+                        request.getMethod(), request.getURI().getPath(), attempt, e.toString(), delayMs);
+                sleep(delayMs);
+                continue;
+            } catch (RuntimeException e) {
+                // Not retried, but it must still release a half-open probe.
+                breaker.recordFailure();
+                throw e;
+            } finally {
+                budget.release(priority);
+            }
+            budget.update(resp);
+
+            int code = resp.getStatusLine() != null ? resp.getStatusLine().getStatusCode() : 0;
+            if (DocusignRetryPolicy.isTransientStatus(code)) {
+                breaker.recordFailure();
+            } else {
+                breaker.recordSuccess();
+            }
+            if (!policy.shouldRetry(code, attempt)) {
+                return resp;
+            }
+            long retryAfterMs = DocusignRetryPolicy.retryAfterMs(resp);
+            if (retryAfterMs > DocusignRetryPolicy.maxRetryAfterMs()) {
+                return resp;
+            }
+            delayMs = policy.nextDelayMs(delayMs, retryAfterMs);
+            log.warn("DocuSign {} {} returned HTTP {} (attempt {}); retrying in {} ms",
+                    request.getMethod(), request.getURI().getPath(), code, attempt, delayMs);
+            EntityUtils.consumeQuietly(resp.getEntity());
+            resp.close();
+            sleep(delayMs);
+        }
+    }
+
+    private static void sleep(long ms) throws IOException {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while backing off DocuSign retry");
+        }
+    }
+
+    /**
+     * Snapshot of tracked budgets and queue depth (for {@code /send/diag}).
+     */
+    public static JsonObject snapshot() {
+        JsonObject out = new JsonObject();
+        out.addProperty("backgroundReserve", reserve());
+        out.addProperty("backgroundConcurrency", backgroundConcurrency());
+        JsonArray accounts = new JsonArray();
+        int queued = 0;
+        for (Map.Entry<String, AccountBudget> e : BUDGETS.entrySet()) {
+            // toJson() reads the counters under the budget's lock; take the queue depth from that copy.
+            JsonObject a = e.getValue().toJson();
+            a.addProperty("accountId", e.getKey());
+            queued += a.get("backgroundQueued").getAsInt();
+            accounts.add(a);
+        }
+        out.addProperty("backgroundQueued", queued);
+        out.add("accounts", accounts);
+        return out;
+    }
+
+    private static AccountBudget budgetFor(String accountId) {
+        String key = (accountId != null && !accountId.trim().isEmpty()) ? accountId.trim() : UNKNOWN_ACCOUNT;
+        return BUDGETS.computeIfAbsent(key, k -> new AccountBudget());
+    }
+
+    private static int reserve() {
+        return DocusignConfig.getInt("DOCUSIGN_RATE_LIMIT_RESERVE", 100, 0);
+    }
+
+    private static int burstReserve() {
+        return DocusignConfig.getInt("DOCUSIGN_BURST_LIMIT_RESERVE", 5, 0);
+    }
+
+    private static int backgroundConcurrency() {
+        return DocusignConfig.getInt("DOCUSIGN_BACKGROUND_CONCURRENCY", 4, 0);
+    }
+
+    private static long maxBackgroundDelayMs() {
+        return DocusignConfig.getInt("DOCUSIGN_BACKGROUND_MAX_DELAY_MS", 120_000, 0);
+    }
+
+    private static final class AccountBudget {
+        private final Object lock = new Object();
+
+        // -1 = unknown (no response headers seen yet)
+        private long remaining = -1;
+        private long limit = -1;
+        private long resetAtMs = 0;
+        private long burstRemaining = -1;
+
+        private int interactiveInFlight;
+        private int backgroundInFlight;
+        private int backgroundWaiting;
+        private long backgroundDelayed;
+
+        void admit(Priority priority) throws IOException {
+            synchronized (lock) {
+                if (priority != Priority.BACKGROUND) {
+                    interactiveInFlight++;
+                    return;
+                }
+                long deadline = System.currentTimeMillis() + maxBackgroundDelayMs();
+                boolean counted = false;
+                backgroundWaiting++;
+                try {
+                    while (true) {
+                        long now = System.currentTimeMillis();
+                        long waitMs = backgroundWaitMs(now);
+                        if (waitMs <= 0) {
+                            backgroundInFlight++;
+                            return;
+                        }
+                        if (!counted) {
+                            backgroundDelayed++;
+                            counted = true;
+                        }
+                        long left = deadline - now;
+                        if (left <= 0) {
+                            throw new IOException("DocuSign API budget is low; background request deferred (remaining="
+                                    + remaining + ", resetAtMs=" + resetAtMs + ")");
+                        }
+                        try {
+                            lock.wait(Math.max(1L, Math.min(waitMs, left)));
+                        } catch (InterruptedException ie) {
+                            Thread.currentThread().interrupt();
+                            throw new IOException("Interrupted while waiting for DocuSign API budget", ie);
+                        }
+                    }
+                } finally {
+                    backgroundWaiting--;
+                }
+            }
+        }
+
+        /**
+         * Returns how long a background call should wait, or 0 when it may proceed. Caller holds {@link #lock}.
+         */
+        private long backgroundWaitMs(long now) {
+            boolean windowOpen = resetAtMs > now;
+            if (windowOpen && remaining >= 0 && remaining <= reserve()) {
+                return resetAtMs - now;
+            }
+            if (burstRemaining >= 0 && burstRemaining <= burstReserve()) {
+                // Burst window is short (seconds); re-check soon.
+                burstRemaining = -1;
+                return 1_000L;
+            }
+            int cap = interactiveInFlight > 0 ? 1 : Math.max(1, backgroundConcurrency());
+            if (backgroundInFlight >= cap) {
+                return 250L;
+            }
+            return 0L;
+        }
+
+        void release(Priority priority) {
+            synchronized (lock) {
+                if (priority != Priority.BACKGROUND) {
+                    if (interactiveInFlight > 0) interactiveInFlight--;
+                } else {
+                    if (backgroundInFlight > 0) backgroundInFlight--;
+                }
+                lock.notifyAll();
+            }
+        }
+
+        void update(HttpResponse resp) {
+            if (resp == null) return;
+            long rem = headerLong(resp, "X-RateLimit-Remaining");
+            long lim = headerLong(resp, "X-RateLimit-Limit");
+            long resetSec = headerLong(resp, "X-RateLimit-Reset");
+            long burst = headerLong(resp, "X-BurstLimit-Remaining");
+            int code = resp.getStatusLine() != null ? resp.getStatusLine().getStatusCode() : 0;
+            synchronized (lock) {
+                if (rem >= 0) remaining = rem;
+                if (lim >= 0) limit = lim;
+                if (resetSec > 0) resetAtMs = resetSec * 1000L;
+                if (burst >= 0) burstRemaining = burst;
+                if (code == 429) {
+                    remaining = 0;
+                    if (resetAtMs <= System.currentTimeMillis()) {
+                        resetAtMs = System.currentTimeMillis() + 60_000L;
+                    }
+                    log.warn("DocuSign rate limit hit (HTTP 429); background calls paused until {}", resetAtMs);
+                }
+                lock.notifyAll();
+            }
+        }
+
+        JsonObject toJson() {
+            synchronized (lock) {
+                JsonObject o = new JsonObject();
+                o.addProperty("remaining", remaining);
+                o.addProperty("limit", limit);
+                o.addProperty("resetAtMs", resetAtMs);
+                o.addProperty("burstRemaining", burstRemaining);
+                o.addProperty("interactiveInFlight", interactiveInFlight);
+                o.addProperty("backgroundInFlight", backgroundInFlight);
+                o.addProperty("backgroundQueued", backgroundWaiting);
+                o.addProperty("backgroundDelayedTotal", backgroundDelayed);
+                return o;
+            }
+        }
+    }
+
+    private static long headerLong(HttpResponse resp, String name) {
+        try {
+            Header h = resp.getFirstHeader(name);
+            if (h == null || h.getValue() == null) return -1;
+            return Long.parseLong(h.getValue().trim());
+        } catch (Exception ignore) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.koushik.docusign.http;
+
+import com.koushik.docusign.config.DocusignConfig;
+import org.apache.http.Header;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.utils.DateUtils;
+import org.apache.http.conn.ConnectTimeoutException;
+import org.apache.http.conn.HttpHostConnectException;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.util.Date;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Retry rules for outbound DocuSign calls.
+ *
+ * GET/HEAD requests are idempotent and are retried on IO errors, 429 and transient 5xx responses.
+ * Other methods (e.g. POST envelope) are only retried when the request provably never reached DocuSign
+ * (connect failure) or was rejected by rate limiting (429); ambiguous failures are left to the caller,
+ * which can use its own idempotency marker to check whether the write happened.
+ *
+ * Callers that run their own retry loop (e.g. the envelope send, which checks its idempotency marker between
+ * attempts) pass {@link #singleAttempt()} so the two layers don't multiply.
+ *
+ * Delays use decorrelated jitter ({@code sleep = min(cap, random(base, prev * 3))}) and honour {@code Retry-After}.
+ */
+public final class DocusignRetryPolicy {
+
+    private final boolean idempotent;
+    // 0 = DOCUSIGN_RETRY_MAX_ATTEMPTS
+    private final int attemptLimit;
+
+    private DocusignRetryPolicy(boolean idempotent, int attemptLimit) {
+        this.idempotent = idempotent;
+        this.attemptLimit = attemptLimit;
+    }
+
+    public static DocusignRetryPolicy idempotent() {
+        return new DocusignRetryPolicy(true, 0);
+    }
+
+    public static DocusignRetryPolicy nonIdempotent() {
+        return new DocusignRetryPolicy(false, 0);
+    }
+
+    /**
+     * No retries: every failure goes straight back to the caller.
+     */
+    public static DocusignRetryPolicy singleAttempt() {
+        return new DocusignRetryPolicy(false, 1);
+    }
+
+    public static DocusignRetryPolicy forMethod(String method) {
+        String m = method != null ? method.trim().toUpperCase(Locale.ROOT) : "";
+        return ("GET".equals(m) || "HEAD".equals(m)) ? idempotent() : nonIdempotent();
+    }
+
+    public boolean isIdempotent() {
+        return idempotent;
+    }
+
+    public static int maxAttempts() {
+        return Math.max(1, DocusignConfig.getInt("DOCUSIGN_RETRY_MAX_ATTEMPTS", 3, 0));
+    }
+
+    public boolean shouldRetry(int statusCode, int attempt) {
+        if (attempt >= attemptLimit()) return false;
+        if (statusCode == 429) return true;
+        return idempotent && isTransientStatus(statusCode);
+    }
+
+    public boolean shouldRetry(IOException e, int attempt) {
+        if (attempt >= attemptLimit()) return false;
+        if (e instanceof DocusignCircuitBreaker.OpenException) return false;
+        return idempotent || isConnectFailure(e);
+    }
+
+    private int attemptLimit() {
+        return attemptLimit > 0 ? attemptLimit : maxAttempts();
+    }
+
+    /**
+     * Next backoff delay using decorrelated jitter, or the server's {@code Retry-After} when it asks for longer.
+     */
+    public long nextDelayMs(long previousDelayMs, long retryAfterMs) {
+        long base = Math.max(1L, DocusignConfig.getInt("DOCUSIGN_RETRY_BASE_DELAY_MS", 250, 0));
+        long cap = Math.max(base, DocusignConfig.getInt("DOCUSIGN_RETRY_MAX_DELAY_MS", 5_000, 0));
+        long upper = Math.max(base, previousDelayMs * 3L);
+        long delay = Math.min(cap, base + (long) (ThreadLocalRandom.current().nextDouble() * (upper - base)));
+        return retryAfterMs > delay ? retryAfterMs : delay;
+    }
+
+    /**
+     * Longest {@code Retry-After} we are willing to sleep for inside a single call before giving up.
+     */
+    public static long maxRetryAfterMs() {
+        return DocusignConfig.getInt("DOCUSIGN_RETRY_MAX_RETRY_AFTER_MS", 10_000, 0);
+    }
+
+    public static boolean isTransientStatus(int statusCode) {
+        return statusCode == 500 || statusCode == 502 || statusCode == 503 || statusCode == 504;
+    }
+
+    public static boolean isConnectFailure(IOException e) {
+        return e instanceof ConnectException
+                || e instanceof ConnectTimeoutException
+                || e instanceof HttpHostConnectException;
+    }
+
+    /**
+     * Parse {@code Retry-After} (delta-seconds or HTTP-date). Returns -1 when absent or unparseable.
+     */
+    public static long retryAfterMs(HttpResponse resp) {
+        if (resp == null) return -1;
+        Header h = resp.getFirstHeader("Retry-After");
+        if (h == null || h.getValue() == null) return -1;
+        String v = h.getValue().trim();
+        if (v.isEmpty()) return -1;
+        try {
+            return Math.max(0L, Long.parseLong(v) * 1000L);
+        } catch (NumberFormatException ignore) {
+            // fall through to HTTP-date
+        }
+        Date d = DateUtils.parseDate(v);
+        if (d == null) return -1;
+        return Math.max(0L, d.getTime() - System.currentTimeMillis());
+    }
+}
@@ -0,0 +1,107 @@
+package com.koushik.docusign.oauth;
+
+import com.atlassian.plugin.spring.scanner.annotation.imports.ComponentImport;
+import com.atlassian.scheduler.JobRunner;
+import com.atlassian.scheduler.JobRunnerRequest;
+import com.atlassian.scheduler.JobRunnerResponse;
+import com.atlassian.scheduler.SchedulerService;
+import com.atlassian.scheduler.config.JobConfig;
+import com.atlassian.scheduler.config.JobId;
+import com.atlassian.scheduler.config.JobRunnerKey;
+import com.atlassian.scheduler.config.RunMode;
+import com.atlassian.scheduler.config.Schedule;
+import com.koushik.docusign.config.DocusignConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+import javax.inject.Named;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Renews DocuSign access tokens shortly before they expire, for users who used DocuSign recently, so interactive
+ * requests never wait on the token endpoint (or on another request holding the per-user refresh lock).
+ *
+ * Runs once per cluster on a fixed interval. Each user's refresh window is shortened by a random jitter so refreshes
+ * spread across runs. Each refresh takes the same per-user cluster lock as interactive refreshes (see
+ * {@link DocusignTokenStore#refreshIfExpiringWithin}); a user whose lock is busy is skipped until the next run.
+ *
+ * Config (plugin setting / -D / env):
+ *   DOCUSIGN_TOKEN_REFRESH_ENABLED        (default true)
+ *   DOCUSIGN_TOKEN_REFRESH_INTERVAL_MS    (default 300000)
+ *   DOCUSIGN_TOKEN_REFRESH_WINDOW_MS      (default 900000)  refresh tokens expiring within this window
+ *   DOCUSIGN_TOKEN_REFRESH_JITTER_MS      (default 300000)  random per-user reduction of the window
+ *   DOCUSIGN_TOKEN_REFRESH_ACTIVE_MS      (default 86400000) only users active within this period
+ */
+@Named
+public class DocusignTokenRefreshJob implements JobRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(DocusignTokenRefreshJob.class);
+
+    private static final JobRunnerKey JOB_RUNNER_KEY = JobRunnerKey.of(DocusignTokenRefreshJob.class.getName());
+    private static final JobId JOB_ID = JobId.of(DocusignTokenRefreshJob.class.getName() + ".job");
+
+    private final SchedulerService schedulerService;
+
+    @Inject
+    public DocusignTokenRefreshJob(@ComponentImport SchedulerService schedulerService) {
+        this.schedulerService = schedulerService;
+    }
+
+    @PostConstruct
+    public void onStart() {
+        schedulerService.registerJobRunner(JOB_RUNNER_KEY, this);
+        long intervalMs = DocusignConfig.getLong("DOCUSIGN_TOKEN_REFRESH_INTERVAL_MS", 5 * 60_000L);
+        // Random first run so nodes/restarts don't line up.
+        Date firstRun = new Date(System.currentTimeMillis() + 60_000L + ThreadLocalRandom.current().nextLong(intervalMs));
+        try {
+            schedulerService.scheduleJob(JOB_ID, JobConfig.forJobRunnerKey(JOB_RUNNER_KEY)
+                    .withRunMode(RunMode.RUN_ONCE_PER_CLUSTER)
+                    .withSchedule(Schedule.forInterval(intervalMs, firstRun)));
+        } catch (Exception e) {
+            log.error("Failed to schedule DocuSign token refresh job: {}", e.getMessage(), e);
+        }
+    }
+
+    @PreDestroy
+    public void onStop() {
+        schedulerService.unregisterJobRunner(JOB_RUNNER_KEY);
+    }
+
+    @Override
+    public JobRunnerResponse runJob(JobRunnerRequest request) {
+        if (!"true".equalsIgnoreCase(DocusignConfig.getString("DOCUSIGN_TOKEN_REFRESH_ENABLED", "true").trim())) {
+            return JobRunnerResponse.aborted("Disabled via DOCUSIGN_TOKEN_REFRESH_ENABLED");
+        }
+        long windowMs = DocusignConfig.getLong("DOCUSIGN_TOKEN_REFRESH_WINDOW_MS", 15 * 60_000L);
+        long jitterMs = Math.min(windowMs, DocusignConfig.getLong("DOCUSIGN_TOKEN_REFRESH_JITTER_MS", 5 * 60_000L));
+        long activeMs = DocusignConfig.getLong("DOCUSIGN_TOKEN_REFRESH_ACTIVE_MS", 24 * 60 * 60_000L);
+        long now = System.currentTimeMillis();
+
+        List<String> userKeys = DocusignTokenStore.listConnectedUserKeys();
+        Collections.shuffle(userKeys);
+        int refreshed = 0;
+        int failed = 0;
+        for (String userKey : userKeys) {
+            if (request.isCancellationRequested()) break;
+            Long lastUsed = DocusignTokenStore.getLastUsedAtMs(userKey);
+            if (lastUsed == null || now - lastUsed > activeMs) continue;
+
+            long userWindowMs = windowMs - (jitterMs > 0 ? ThreadLocalRandom.current().nextLong(jitterMs) : 0L);
+            try {
+                if (DocusignTokenStore.refreshIfExpiringWithin(userKey, userWindowMs)) {
+                    refreshed++;
+                }
+            } catch (Exception e) {
+                failed++;
+                log.warn("Background DocuSign token refresh failed for user {}: {}", userKey, e.getMessage());
+            }
+        }
+        return JobRunnerResponse.success("Refreshed " + refreshed + " DocuSign token(s), " + failed + " failed");
+    }
+}
@@ -1,5 +1,7 @@
 package com.koushik.docusign.oauth;
 
+import com.atlassian.beehive.ClusterLock;
+import com.atlassian.beehive.ClusterLockService;
 import com.atlassian.jira.component.ComponentAccessor;
 import com.atlassian.jira.security.JiraAuthenticationContext;
 import com.atlassian.jira.user.ApplicationUser;
@@ -20,14 +22,21 @@ import org.apache.http.util.EntityUtils;
 
 import javax.servlet.http.HttpSession;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Stores DocuSign OAuth tokens per Jira user.
  *
  * NOTE: This uses Jira global plugin settings (stored in DB) for persistence.
  * Tokens are encrypted at rest using {@link com.koushik.docusign.security.DocusignCrypto}.
+ *
+ * DocuSign rotates the refresh token on every refresh, so a refresh (interactive or background) runs under a per-user
+ * cluster lock and re-reads the record once it holds it; two nodes never spend the same refresh token. The connected
+ * user index is a read-modify-write of one setting and is guarded by a cluster lock too.
  */
 public final class DocusignTokenStore {
 
@@ -35,7 +44,18 @@ public final class DocusignTokenStore {
     private static final String PREFIX = PLUGIN_KEY + ".oauth.";
     private static final Gson GSON = new Gson();
 
+    // Not under PREFIX + userKey so these can never collide with a token record.
+    private static final String USER_INDEX_KEY = PLUGIN_KEY + ".oauthIndex.users";
+    private static final String LAST_USED_PREFIX = PLUGIN_KEY + ".oauthLastUsed.";
+    private static final long LAST_USED_PERSIST_INTERVAL_MS = 15 * 60_000L;
+
+    private static final String REFRESH_LOCK_PREFIX = "com.koushik.docusign.tokenRefresh.";
+    private static final String USER_INDEX_CLUSTER_LOCK = "com.koushik.docusign.tokenIndex";
+    private static final long REFRESH_LOCK_WAIT_MS = 30_000L;
+
     private static final Map<String, Object> USER_LOCKS = new ConcurrentHashMap<>();
+    private static final Map<String, Long> LAST_USED_PERSISTED = new ConcurrentHashMap<>();
+    private static final Object USER_INDEX_LOCK = new Object();
 
     private DocusignTokenStore() {}
 
@@ -60,6 +80,7 @@ public final class DocusignTokenStore {
 
     private static String getValidAccessToken(ApplicationUser user, HttpSession session, boolean allowRefresh) {
         if (user == null) return null;
+        touchLastUsed(user.getKey());
 
         // 1) Session token (fast path)
         String token = getSessionTokenIfValid(session);
@@ -86,30 +107,194 @@ public final class DocusignTokenStore {
 
         Object lock = USER_LOCKS.computeIfAbsent(user.getKey(), k -> new Object());
         synchronized (lock) {
-            // Re-check after acquiring lock (another thread may have refreshed)
-            TokenRecord rec2 = readTokenRecord(user.getKey());
-            String persistedAccessToken2 = decryptToken(rec2 != null ? rec2.accessTokenEnc : null, rec2 != null ? rec2.accessToken : null);
-            if (rec2 != null && persistedAccessToken2 != null && rec2.expiresAtMs != null) {
-                if (System.currentTimeMillis() < rec2.expiresAtMs) {
-                    setSessionToken(session, user.getKey(), persistedAccessToken2, rec2.expiresAtMs);
-                    return persistedAccessToken2;
+            ClusterLock clusterLock = clusterLock(REFRESH_LOCK_PREFIX + user.getKey());
+            if (clusterLock != null && !tryLock(clusterLock, REFRESH_LOCK_WAIT_MS)) {
+                throw new RuntimeException("Timed out waiting for another node to refresh the DocuSign token");
+            }
+            try {
+                return refreshLocked(user, session, refreshToken);
+            } finally {
+                if (clusterLock != null) {
+                    clusterLock.unlock();
                 }
             }
-            TokenResponse refreshed = refreshAccessToken(refreshToken);
-            long expiresAtMs = System.currentTimeMillis() + (refreshed.expiresInSec * 1000L);
-            TokenRecord next = new TokenRecord();
-            next.accessTokenEnc = encryptToken(refreshed.accessToken);
-            next.refreshTokenEnc = encryptToken((refreshed.refreshToken != null && !refreshed.refreshToken.trim().isEmpty())
-                    ? refreshed.refreshToken
-                    : refreshToken);
-            next.expiresAtMs = expiresAtMs;
-            // Preserve non-secret account context across refreshes.
-            next.accountId = rec2 != null ? rec2.accountId : null;
-            next.restBase = rec2 != null ? rec2.restBase : null;
-            writeTokenRecord(user.getKey(), next);
-            String nextAccessToken = decryptToken(next.accessTokenEnc, null);
-            setSessionToken(session, user.getKey(), nextAccessToken, next.expiresAtMs);
-            return nextAccessToken;
+        }
+    }
+
+    /** Caller holds the user's JVM and cluster locks. */
+    private static String refreshLocked(ApplicationUser user, HttpSession session, String refreshToken) {
+        // Re-check after acquiring lock (another thread or node may have refreshed)
+        TokenRecord rec2 = readTokenRecord(user.getKey());
+        String persistedAccessToken2 = decryptToken(rec2 != null ? rec2.accessTokenEnc : null, rec2 != null ? rec2.accessToken : null);
+        if (rec2 != null && persistedAccessToken2 != null && rec2.expiresAtMs != null) {
+            if (System.currentTimeMillis() < rec2.expiresAtMs) {
+                setSessionToken(session, user.getKey(), persistedAccessToken2, rec2.expiresAtMs);
+                return persistedAccessToken2;
+            }
+        }
+        String refreshToken2 = decryptToken(rec2 != null ? rec2.refreshTokenEnc : null, rec2 != null ? rec2.refreshToken : null);
+        TokenRecord next = refreshAndStore(user.getKey(), refreshToken2 != null ? refreshToken2 : refreshToken, rec2);
+        String nextAccessToken = decryptToken(next.accessTokenEnc, null);
+        setSessionToken(session, user.getKey(), nextAccessToken, next.expiresAtMs);
+        return nextAccessToken;
+    }
+
+    /**
+     * Refresh the persisted token for {@code userKey} if it expires within {@code windowMs}.
+     * Used by the background refresher so interactive requests find a valid token and never wait on the token endpoint.
+     * Skips the user (returns false) when another thread or node already holds the user's refresh lock.
+     *
+     * @return true if a refresh was performed
+     */
+    public static boolean refreshIfExpiringWithin(String userKey, long windowMs) {
+        if (userKey == null || userKey.trim().isEmpty()) return false;
+        Object lock = USER_LOCKS.computeIfAbsent(userKey, k -> new Object());
+        synchronized (lock) {
+            ClusterLock clusterLock = clusterLock(REFRESH_LOCK_PREFIX + userKey);
+            if (clusterLock != null && !clusterLock.tryLock()) return false;
+            try {
+                TokenRecord rec = readTokenRecord(userKey);
+                if (rec == null) return false;
+                if (rec.expiresAtMs != null && rec.expiresAtMs - System.currentTimeMillis() > windowMs) {
+                    return false;
+                }
+                String refreshToken = decryptToken(rec.refreshTokenEnc, rec.refreshToken);
+                if (refreshToken == null || refreshToken.trim().isEmpty()) return false;
+                refreshAndStore(userKey, refreshToken, rec);
+                return true;
+            } finally {
+                if (clusterLock != null) {
+                    clusterLock.unlock();
+                }
+            }
+        }
+    }
+
+    /**
+     * User keys with persisted tokens (maintained on connect/disconnect and on first use after upgrade).
+     */
+    public static List<String> listConnectedUserKeys() {
+        PluginSettings settings = getGlobalSettings();
+        if (settings == null) return new ArrayList<>();
+        Object raw = settings.get(USER_INDEX_KEY);
+        List<String> out = new ArrayList<>();
+        if (raw instanceof List) {
+            for (Object o : (List<?>) raw) {
+                if (o != null && !String.valueOf(o).trim().isEmpty()) out.add(String.valueOf(o).trim());
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Last time a token was requested for this user (persisted with {@link #LAST_USED_PERSIST_INTERVAL_MS} granularity).
+     */
+    public static Long getLastUsedAtMs(String userKey) {
+        if (userKey == null || userKey.trim().isEmpty()) return null;
+        PluginSettings settings = getGlobalSettings();
+        if (settings == null) return null;
+        Object raw = settings.get(LAST_USED_PREFIX + userKey);
+        if (raw == null) return null;
+        try {
+            return Long.parseLong(String.valueOf(raw).trim());
+        } catch (Exception ignore) {
+            return null;
+        }
+    }
+
+    /** Caller must hold the user's JVM and cluster locks. */
+    private static TokenRecord refreshAndStore(String userKey, String refreshToken, TokenRecord previous) {
+        TokenResponse refreshed = refreshAccessToken(refreshToken);
+        long expiresAtMs = System.currentTimeMillis() + (refreshed.expiresInSec * 1000L);
+        TokenRecord next = new TokenRecord();
+        next.accessTokenEnc = encryptToken(refreshed.accessToken);
+        next.refreshTokenEnc = encryptToken((refreshed.refreshToken != null && !refreshed.refreshToken.trim().isEmpty())
+                ? refreshed.refreshToken
+                : refreshToken);
+        next.expiresAtMs = expiresAtMs;
+        // Preserve non-secret account context across refreshes.
+        next.accountId = previous != null ? previous.accountId : null;
+        next.restBase = previous != null ? previous.restBase : null;
+        writeTokenRecord(userKey, next);
+        return next;
+    }
+
+    /**
+     * Record that this user is active. Persisted at most every {@link #LAST_USED_PERSIST_INTERVAL_MS} per node
+     * to avoid a DB write on every request.
+     */
+    private static void touchLastUsed(String userKey) {
+        if (userKey == null || userKey.trim().isEmpty()) return;
+        long now = System.currentTimeMillis();
+        Long last = LAST_USED_PERSISTED.get(userKey);
+        if (last != null && now - last < LAST_USED_PERSIST_INTERVAL_MS) return;
+        LAST_USED_PERSISTED.put(userKey, now);
+        try {
+            PluginSettings settings = getGlobalSettings();
+            if (settings == null) return;
+            if (settings.get(PREFIX + userKey) == null) return;
+            settings.put(LAST_USED_PREFIX + userKey, String.valueOf(now));
+            // Tokens stored before the index existed get picked up here.
+            addToUserIndex(userKey);
+        } catch (Exception ignore) {
+        }
+    }
+
+    private static void addToUserIndex(String userKey) {
+        updateUserIndex(keys -> {
+            if (keys.contains(userKey)) return false;
+            keys.add(userKey);
+            return true;
+        });
+    }
+
+    private static void removeFromUserIndex(String userKey) {
+        updateUserIndex(keys -> keys.remove(userKey));
+    }
+
+    private interface IndexUpdate {
+        /** @return true when {@code keys} changed and must be written back */
+        boolean apply(List<String> keys);
+    }
+
+    /**
+     * Read-modify-write of the user index under a cluster lock, so concurrent connects on different nodes don't
+     * overwrite each other's additions.
+     */
+    private static void updateUserIndex(IndexUpdate update) {
+        synchronized (USER_INDEX_LOCK) {
+            ClusterLock clusterLock = clusterLock(USER_INDEX_CLUSTER_LOCK);
+            if (clusterLock != null) {
+                clusterLock.lock();
+            }
+            try {
+                List<String> keys = listConnectedUserKeys();
+                if (!update.apply(keys)) return;
+                PluginSettings settings = getGlobalSettings();
+                if (settings != null) settings.put(USER_INDEX_KEY, keys);
+            } finally {
+                if (clusterLock != null) {
+                    clusterLock.unlock();
+                }
+            }
+        }
+    }
+
+    private static ClusterLock clusterLock(String name) {
+        try {
+            ClusterLockService service = ComponentAccessor.getComponent(ClusterLockService.class);
+            return service != null ? service.getLockForName(name) : null;
+        } catch (Exception ignore) {
+            return null;
+        }
+    }
+
+    private static boolean tryLock(ClusterLock lock, long waitMs) {
+        try {
+            return lock.tryLock(waitMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
         }
     }
 
@@ -133,6 +318,7 @@ public final class DocusignTokenStore {
         rec.accountId = (accountId != null && !accountId.trim().isEmpty()) ? accountId.trim() : null;
         rec.restBase = (restBase != null && !restBase.trim().isEmpty()) ? restBase.trim() : null;
         writeTokenRecord(user.getKey(), rec);
+        addToUserIndex(user.getKey());
         setSessionToken(session, user.getKey(), accessToken, expiresAtMs);
     }
 
@@ -141,7 +327,11 @@ public final class DocusignTokenStore {
         PluginSettings settings = getGlobalSettings();
         if (settings != null) {
             settings.remove(PREFIX + user.getKey());
+            settings.remove(LAST_USED_PREFIX + user.getKey());
         }
+        removeFromUserIndex(user.getKey());
+        LAST_USED_PERSISTED.remove(user.getKey());
+        DocusignCallbackServlet.removeToken(user.getKey());
         if (session != null) {
             session.removeAttribute(DocusignCallbackServlet.SESSION_ACCESS_TOKEN);
             session.removeAttribute(DocusignCallbackServlet.SESSION_EXPIRES_AT);
@@ -174,15 +364,6 @@ public final class DocusignTokenStore {
     }
 
     private static String getTokenFromInMemoryStore(ApplicationUser user) {
-        try {
-            String name = user.getName();
-            if (name != null && !name.trim().isEmpty()) {
-                String byName = DocusignCallbackServlet.getAccessToken(name.trim());
-                if (byName != null && !byName.trim().isEmpty()) {
-                    return byName;
-                }
-            }
-        } catch (Exception ignore) {}
         try {
             String key = user.getKey();
             if (key != null && !key.trim().isEmpty()) {
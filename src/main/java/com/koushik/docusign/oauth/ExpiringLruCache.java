@@ -0,0 +1,110 @@
+package com.koushik.docusign.oauth;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Small thread-safe in-memory cache with a hard size bound (least-recently-used eviction) and per-entry expiry.
+ *
+ * Expired entries are never returned; they are dropped on access and swept before any live entry is evicted,
+ * so neither the number of distinct keys ever seen nor stale entries can grow the map beyond {@code maxEntries}.
+ */
+public final class ExpiringLruCache<K, V> {
+
+    private static final class Entry<V> {
+        final V value;
+        final long expiresAtMs;
+
+        Entry(V value, long expiresAtMs) {
+            this.value = value;
+            this.expiresAtMs = expiresAtMs;
+        }
+    }
+
+    private final int maxEntries;
+    private final LongSupplier clock;
+    private final LinkedHashMap<K, Entry<V>> map;
+    // Lower bound on the earliest expiry in the map; lets put() skip the sweep when nothing can have expired.
+    private long earliestExpiryMs = Long.MAX_VALUE;
+
+    public ExpiringLruCache(int maxEntries) {
+        this(maxEntries, System::currentTimeMillis);
+    }
+
+    public ExpiringLruCache(int maxEntries, LongSupplier clock) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be > 0");
+        }
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+        this.map = new LinkedHashMap<K, Entry<V>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > ExpiringLruCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Store {@code value} until {@code expiresAtMs} (epoch millis). Entries already expired are not stored.
+     */
+    public synchronized void put(K key, V value, long expiresAtMs) {
+        if (key == null || value == null) return;
+        long now = clock.getAsLong();
+        if (map.size() >= maxEntries && now >= earliestExpiryMs) {
+            // Prefer dropping expired entries over evicting a live least-recently-used one.
+            purgeExpired(now);
+        }
+        if (expiresAtMs <= now) {
+            map.remove(key);
+            return;
+        }
+        map.put(key, new Entry<>(value, expiresAtMs));
+        earliestExpiryMs = Math.min(earliestExpiryMs, expiresAtMs);
+    }
+
+    public synchronized V get(K key) {
+        if (key == null) return null;
+        Entry<V> e = map.get(key);
+        if (e == null) return null;
+        if (clock.getAsLong() >= e.expiresAtMs) {
+            map.remove(key);
+            return null;
+        }
+        return e.value;
+    }
+
+    public synchronized void remove(K key) {
+        if (key == null) return;
+        map.remove(key);
+    }
+
+    public synchronized void clear() {
+        map.clear();
+        earliestExpiryMs = Long.MAX_VALUE;
+    }
+
+    public synchronized int size() {
+        return map.size();
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    private void purgeExpired(long now) {
+        long earliest = Long.MAX_VALUE;
+        Iterator<Entry<V>> it = map.values().iterator();
+        while (it.hasNext()) {
+            long exp = it.next().expiresAtMs;
+            if (now >= exp) {
+                it.remove();
+            } else if (exp < earliest) {
+                earliest = exp;
+            }
+        }
+        earliestExpiryMs = earliest;
+    }
+}
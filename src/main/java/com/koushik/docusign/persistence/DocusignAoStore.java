@@ -6,9 +6,11 @@ import com.atlassian.jira.user.ApplicationUser;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
+import com.koushik.docusign.ao.AoDocusignAttachJob;
 import com.koushik.docusign.ao.AoDocusignDocument;
 import com.koushik.docusign.ao.AoDocusignEnvelope;
 import com.koushik.docusign.ao.AoDocusignEvent;
+import com.koushik.docusign.ao.AoDocusignSignedAttachment;
 import com.koushik.docusign.ao.AoDocusignSigner;
 import com.koushik.docusign.ao.AoDocusignTab;
 import com.koushik.docusign.docusign.DocusignService;
@@ -17,8 +19,13 @@ import net.java.ao.DBParam;
 import net.java.ao.Query;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Active Objects-backed persistence for DocuSign envelopes/signers/tabs.
@@ -51,6 +58,73 @@ public final class DocusignAoStore {
         }
     }
 
+    public static final class EnvelopeRef {
+        public final String issueKey;
+        public final String envelopeId;
+        public final String status;
+
+        public EnvelopeRef(String issueKey, String envelopeId, String status) {
+            this.issueKey = issueKey;
+            this.envelopeId = envelopeId;
+            this.status = status;
+        }
+    }
+
+    public static final class SignerRecord {
+        public final String name;
+        public final String email;
+        public final String status;
+        public final int routingOrder;
+
+        public SignerRecord(String name, String email, String status, int routingOrder) {
+            this.name = name;
+            this.email = email;
+            this.status = status;
+            this.routingOrder = routingOrder;
+        }
+    }
+
+    public static final class CompletedEnvelope {
+        public final String issueKey;
+        public final String envelopeId;
+        public final String senderName;
+        public final String senderEmail;
+        public final Date sentAt;
+        public final Date completedAt;
+        public final List<SignerRecord> signers = new ArrayList<>();
+
+        public CompletedEnvelope(String issueKey, String envelopeId, String senderName, String senderEmail, Date sentAt, Date completedAt) {
+            this.issueKey = issueKey;
+            this.envelopeId = envelopeId;
+            this.senderName = senderName;
+            this.senderEmail = senderEmail;
+            this.sentAt = sentAt;
+            this.completedAt = completedAt;
+        }
+    }
+
+    public static final class AttachJob {
+        public final int id;
+        public final String issueKey;
+        public final String envelopeId;
+        public final int attempts;
+
+        public AttachJob(int id, String issueKey, String envelopeId, int attempts) {
+            this.id = id;
+            this.issueKey = issueKey;
+            this.envelopeId = envelopeId;
+            this.attempts = attempts;
+        }
+    }
+
+    public static final String ATTACH_JOB_PENDING = "PENDING";
+    public static final String ATTACH_JOB_RUNNING = "RUNNING";
+    public static final String ATTACH_JOB_DONE = "DONE";
+    public static final String ATTACH_JOB_FAILED = "FAILED";
+
+    /** ATTACHMENT_ID of document rows that have no source Jira attachment (e.g. learned from DocuSign). */
+    public static final long NO_ATTACHMENT_ID = 0L;
+
     private static ActiveObjects ao() {
         return DocusignAoProvider.get();
     }
@@ -126,11 +200,10 @@ public final class DocusignAoStore {
                 for (DocusignService.DocusignDocument d : documents) {
                     if (d == null) continue;
                     Long attId = findAttachmentId(attachmentIds, d);
-                    if (attId == null) continue;
                     String docId = req(d.documentId, "1");
                     AoDocusignDocument doc = ao.create(AoDocusignDocument.class,
                             new DBParam("ENVELOPE_ID", env.getID()),
-                            new DBParam("ATTACHMENT_ID", attId),
+                            new DBParam("ATTACHMENT_ID", attId != null ? attId : NO_ATTACHMENT_ID),
                             new DBParam("DOCUMENT_ID", docId));
                     doc.setFilename(safe(d.filename));
                     doc.setCreatedAt(now);
@@ -489,6 +562,92 @@ public final class DocusignAoStore {
         return out;
     }
 
+    /**
+     * Resolve the active envelope for many issues at once.
+     * Uses one IN query per chunk of keys instead of a lookup per issue; issues without an active envelope are omitted.
+     */
+    public static List<EnvelopeRef> loadActiveEnvelopes(Collection<String> issueKeys) {
+        Map<String, EnvelopeRef> out = new LinkedHashMap<>();
+        ActiveObjects ao = ao();
+        if (ao == null || issueKeys == null || issueKeys.isEmpty()) return new ArrayList<>();
+
+        List<String> keys = new ArrayList<>();
+        for (String k : issueKeys) {
+            if (k != null && !k.trim().isEmpty()) keys.add(k.trim());
+        }
+        // Stay well below the bind-parameter limits of the supported databases (Oracle: 1000 IN items).
+        final int chunkSize = 500;
+        for (int i = 0; i < keys.size(); i += chunkSize) {
+            List<String> chunk = keys.subList(i, Math.min(keys.size(), i + chunkSize));
+            Object[] params = chunk.toArray(new Object[chunk.size() + 1]);
+            params[chunk.size()] = Boolean.TRUE;
+            AoDocusignEnvelope[] envs = ao.find(AoDocusignEnvelope.class,
+                    Query.select().where("ISSUE_KEY IN (" + placeholders(chunk.size()) + ") AND ACTIVE = ?", params).order("ID ASC"));
+            if (envs == null) continue;
+            for (AoDocusignEnvelope env : envs) {
+                if (env == null) continue;
+                String envId = safe(env.getEnvelopeId());
+                if (envId == null || envId.trim().isEmpty()) continue;
+                // Ordered by ID ascending, so the newest active envelope wins (matches loadActiveIssueState).
+                out.put(env.getIssueKey(), new EnvelopeRef(env.getIssueKey(), envId.trim(), safe(env.getStatus())));
+            }
+        }
+        return new ArrayList<>(out.values());
+    }
+
+    /**
+     * Every completed envelope (active or superseded) of the given issues, with its signers in routing order.
+     * Ordered by issue key, then oldest envelope first. {@code completedAt} is the last AO status update.
+     */
+    public static List<CompletedEnvelope> loadCompletedEnvelopes(Collection<String> issueKeys) {
+        List<CompletedEnvelope> out = new ArrayList<>();
+        ActiveObjects ao = ao();
+        if (ao == null || issueKeys == null || issueKeys.isEmpty()) return out;
+
+        List<String> keys = new ArrayList<>();
+        for (String k : issueKeys) {
+            if (k != null && !k.trim().isEmpty()) keys.add(k.trim());
+        }
+        final int chunkSize = 500;
+        Map<Integer, CompletedEnvelope> byId = new LinkedHashMap<>();
+        for (int i = 0; i < keys.size(); i += chunkSize) {
+            List<String> chunk = keys.subList(i, Math.min(keys.size(), i + chunkSize));
+            // Statuses are stored as received: the REST API and JSON Connect send "completed", legacy XML Connect
+            // sends "Completed".
+            Object[] params = chunk.toArray(new Object[chunk.size() + 2]);
+            params[chunk.size()] = "completed";
+            params[chunk.size() + 1] = "Completed";
+            AoDocusignEnvelope[] envs = ao.find(AoDocusignEnvelope.class,
+                    Query.select().where("ISSUE_KEY IN (" + placeholders(chunk.size()) + ") AND STATUS IN (?, ?)", params).order("ISSUE_KEY ASC, ID ASC"));
+            if (envs == null) continue;
+            for (AoDocusignEnvelope env : envs) {
+                if (env == null) continue;
+                String envId = safe(env.getEnvelopeId());
+                if (envId == null || envId.isEmpty()) continue;
+                CompletedEnvelope ce = new CompletedEnvelope(env.getIssueKey(), envId, safe(env.getSenderDisplayName()),
+                        safe(env.getSenderEmail()), env.getCreatedAt(), env.getUpdatedAt());
+                byId.put(env.getID(), ce);
+                out.add(ce);
+            }
+        }
+
+        List<Integer> envIds = new ArrayList<>(byId.keySet());
+        for (int i = 0; i < envIds.size(); i += chunkSize) {
+            List<Integer> chunk = envIds.subList(i, Math.min(envIds.size(), i + chunkSize));
+            AoDocusignSigner[] signers = ao.find(AoDocusignSigner.class,
+                    Query.select().where("ENVELOPE_ID IN (" + placeholders(chunk.size()) + ")", chunk.toArray()).order("ROUTING_ORDER ASC, ID ASC"));
+            if (signers == null) continue;
+            for (AoDocusignSigner s : signers) {
+                if (s == null || s.getEnvelope() == null) continue;
+                CompletedEnvelope ce = byId.get(s.getEnvelope().getID());
+                if (ce == null) continue;
+                ce.signers.add(new SignerRecord(safe(s.getName()), safe(s.getEmail()), safe(s.getStatus()),
+                        s.getRoutingOrder() != null ? s.getRoutingOrder() : 0));
+            }
+        }
+        return out;
+    }
+
     public static void clearActiveEnvelope(String issueKey) {
         ActiveObjects ao = ao();
         if (ao == null || issueKey == null || issueKey.trim().isEmpty()) return;
@@ -563,6 +722,273 @@ public final class DocusignAoStore {
         return out;
     }
 
+    /**
+     * Store envelope document metadata fetched from DocuSign, so later attach runs don't need to list or guess ids.
+     * Existing documentIds are left untouched; returns false when the envelope isn't tracked in AO.
+     */
+    public static boolean recordEnvelopeDocuments(String issueKey, String envelopeId, List<DocumentMeta> documents) {
+        ActiveObjects ao = ao();
+        if (ao == null || documents == null || documents.isEmpty()) return false;
+        if (issueKey == null || issueKey.trim().isEmpty()) return false;
+        if (envelopeId == null || envelopeId.trim().isEmpty()) return false;
+        final String key = issueKey.trim();
+        final String envId = envelopeId.trim();
+
+        return ao.executeInTransaction(() -> {
+            AoDocusignEnvelope[] envs = ao.find(
+                    AoDocusignEnvelope.class,
+                    Query.select().where("ISSUE_KEY = ? AND ENVELOPE_ID = ?", key, envId).order("ID DESC").limit(1)
+            );
+            if (envs == null || envs.length == 0) return false;
+            AoDocusignEnvelope env = envs[0];
+
+            Set<String> known = new HashSet<>();
+            for (AoDocusignDocument d : ao.find(AoDocusignDocument.class, Query.select().where("ENVELOPE_ID = ?", env.getID()))) {
+                if (d != null && d.getDocumentId() != null) known.add(d.getDocumentId().trim());
+            }
+            Date now = new Date();
+            for (DocumentMeta m : documents) {
+                if (m == null) continue;
+                String docId = safe(m.documentId);
+                if (docId == null || docId.isEmpty() || !known.add(docId)) continue;
+                AoDocusignDocument doc = ao.create(AoDocusignDocument.class,
+                        new DBParam("ENVELOPE_ID", env.getID()),
+                        new DBParam("ATTACHMENT_ID", NO_ATTACHMENT_ID),
+                        new DBParam("DOCUMENT_ID", docId));
+                doc.setFilename(safe(m.filename));
+                doc.setCreatedAt(now);
+                doc.save();
+            }
+            return true;
+        });
+    }
+
+    /**
+     * Remember the Jira attachment created for a signed envelope document. Idempotent per attachment id.
+     */
+    public static void recordSignedAttachment(String issueKey, String envelopeId, String documentId, Long attachmentId, String filename) {
+        ActiveObjects ao = ao();
+        if (ao == null || attachmentId == null) return;
+        if (issueKey == null || issueKey.trim().isEmpty()) return;
+        if (envelopeId == null || envelopeId.trim().isEmpty()) return;
+        final String key = issueKey.trim();
+        final String envId = envelopeId.trim();
+        ao.executeInTransaction(() -> {
+            AoDocusignSignedAttachment[] existing = ao.find(AoDocusignSignedAttachment.class,
+                    Query.select().where("ATTACHMENT_ID = ?", attachmentId).limit(1));
+            if (existing != null && existing.length > 0) {
+                return null;
+            }
+            AoDocusignSignedAttachment row = ao.create(AoDocusignSignedAttachment.class,
+                    new DBParam("ISSUE_KEY", key),
+                    new DBParam("ENVELOPE_ID", envId),
+                    new DBParam("ATTACHMENT_ID", attachmentId));
+            row.setDocumentId(safe(documentId));
+            row.setFilename(safe(filename));
+            row.setCreatedAt(new Date());
+            row.save();
+            return null;
+        });
+    }
+
+    /**
+     * Attachment ids of signed documents recorded for an issue, oldest first.
+     */
+    public static List<Long> loadSignedAttachmentIds(String issueKey) {
+        List<Long> out = new ArrayList<>();
+        ActiveObjects ao = ao();
+        if (ao == null || issueKey == null || issueKey.trim().isEmpty()) return out;
+        AoDocusignSignedAttachment[] rows = ao.find(AoDocusignSignedAttachment.class,
+                Query.select().where("ISSUE_KEY = ?", issueKey.trim()).order("ID ASC"));
+        if (rows == null) return out;
+        for (AoDocusignSignedAttachment row : rows) {
+            if (row != null && row.getAttachmentId() != null) {
+                out.add(row.getAttachmentId());
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Jira attachment ids recorded for one envelope of an issue, oldest first.
+     */
+    public static List<Long> loadSignedAttachmentIds(String issueKey, String envelopeId) {
+        List<Long> out = new ArrayList<>();
+        ActiveObjects ao = ao();
+        if (ao == null || issueKey == null || issueKey.trim().isEmpty()) return out;
+        if (envelopeId == null || envelopeId.trim().isEmpty()) return out;
+        AoDocusignSignedAttachment[] rows = ao.find(AoDocusignSignedAttachment.class,
+                Query.select().where("ISSUE_KEY = ? AND ENVELOPE_ID = ?", issueKey.trim(), envelopeId.trim()).order("ID ASC"));
+        if (rows == null) return out;
+        for (AoDocusignSignedAttachment row : rows) {
+            if (row != null && row.getAttachmentId() != null) {
+                out.add(row.getAttachmentId());
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Forget an attachment that no longer exists in Jira (e.g. deleted by a user).
+     */
+    public static void removeSignedAttachment(Long attachmentId) {
+        ActiveObjects ao = ao();
+        if (ao == null || attachmentId == null) return;
+        ao.executeInTransaction(() -> {
+            AoDocusignSignedAttachment[] rows = ao.find(AoDocusignSignedAttachment.class,
+                    Query.select().where("ATTACHMENT_ID = ?", attachmentId));
+            if (rows != null && rows.length > 0) {
+                ao.delete(rows);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Sender (Jira user key) recorded when the envelope was sent from Jira, or null.
+     */
+    public static String findEnvelopeSenderUserKey(String issueKey, String envelopeId) {
+        ActiveObjects ao = ao();
+        if (ao == null) return null;
+        if (issueKey == null || issueKey.trim().isEmpty()) return null;
+        if (envelopeId == null || envelopeId.trim().isEmpty()) return null;
+        try {
+            AoDocusignEnvelope[] envs = ao.find(AoDocusignEnvelope.class,
+                    Query.select().where("ISSUE_KEY = ? AND ENVELOPE_ID = ?", issueKey.trim(), envelopeId.trim()).order("ID DESC").limit(1));
+            if (envs == null || envs.length == 0) return null;
+            return safe(envs[0].getSenderUserKey());
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Queue an attach job for a completed envelope. A job already pending, running or done for the same envelope wins
+     * (webhook retries and pollers may report "completed" many times); a failed job is re-armed.
+     *
+     * @return true if work was queued
+     */
+    public static boolean enqueueAttachJob(String issueKey, String envelopeId) {
+        ActiveObjects ao = ao();
+        if (ao == null) return false;
+        if (issueKey == null || issueKey.trim().isEmpty()) return false;
+        if (envelopeId == null || envelopeId.trim().isEmpty()) return false;
+        final String key = issueKey.trim();
+        final String envId = envelopeId.trim();
+
+        Boolean queued = ao.executeInTransaction(() -> {
+            Date now = new Date();
+            AoDocusignAttachJob[] existing = ao.find(AoDocusignAttachJob.class,
+                    Query.select().where("ISSUE_KEY = ? AND ENVELOPE_ID = ?", key, envId).order("ID DESC").limit(1));
+            if (existing != null && existing.length > 0) {
+                AoDocusignAttachJob job = existing[0];
+                if (!ATTACH_JOB_FAILED.equals(job.getState())) {
+                    return Boolean.FALSE;
+                }
+                job.setState(ATTACH_JOB_PENDING);
+                job.setAttempts(0);
+                job.setNextRunAt(now);
+                job.setUpdatedAt(now);
+                job.save();
+                return Boolean.TRUE;
+            }
+            AoDocusignAttachJob job = ao.create(AoDocusignAttachJob.class,
+                    new DBParam("ISSUE_KEY", key),
+                    new DBParam("ENVELOPE_ID", envId),
+                    new DBParam("STATE", ATTACH_JOB_PENDING));
+            job.setAttempts(0);
+            job.setNextRunAt(now);
+            job.setCreatedAt(now);
+            job.setUpdatedAt(now);
+            job.save();
+            return Boolean.TRUE;
+        });
+        return queued != null && queued.booleanValue();
+    }
+
+    /**
+     * Claim up to {@code limit} due attach jobs (marks them RUNNING and counts the attempt).
+     * Jobs left RUNNING for longer than {@code staleRunningMs} (node died mid-job) are made due again first.
+     * Callers must serialize claims across the cluster.
+     */
+    public static List<AttachJob> claimAttachJobs(int limit, long staleRunningMs) {
+        ActiveObjects ao = ao();
+        if (ao == null || limit <= 0) return new ArrayList<>();
+        return ao.executeInTransaction(() -> {
+            Date now = new Date();
+            Date staleBefore = new Date(now.getTime() - staleRunningMs);
+            for (AoDocusignAttachJob stale : ao.find(AoDocusignAttachJob.class,
+                    Query.select().where("STATE = ? AND UPDATED_AT < ?", ATTACH_JOB_RUNNING, staleBefore))) {
+                stale.setState(ATTACH_JOB_PENDING);
+                stale.setNextRunAt(now);
+                stale.setUpdatedAt(now);
+                stale.save();
+            }
+
+            List<AttachJob> out = new ArrayList<>();
+            AoDocusignAttachJob[] due = ao.find(AoDocusignAttachJob.class,
+                    Query.select().where("STATE = ? AND NEXT_RUN_AT <= ?", ATTACH_JOB_PENDING, now).order("NEXT_RUN_AT ASC").limit(limit));
+            if (due == null) return out;
+            for (AoDocusignAttachJob job : due) {
+                int attempts = (job.getAttempts() != null ? job.getAttempts() : 0) + 1;
+                job.setState(ATTACH_JOB_RUNNING);
+                job.setAttempts(attempts);
+                job.setUpdatedAt(now);
+                job.save();
+                out.add(new AttachJob(job.getID(), job.getIssueKey(), job.getEnvelopeId(), attempts));
+            }
+            return out;
+        });
+    }
+
+    public static void completeAttachJob(int jobId) {
+        updateAttachJob(jobId, ATTACH_JOB_DONE, null, null);
+    }
+
+    /**
+     * Put a claimed job back in the queue to run again at {@code nextRunAtMs}.
+     */
+    public static void retryAttachJob(int jobId, String error, long nextRunAtMs) {
+        updateAttachJob(jobId, ATTACH_JOB_PENDING, error, new Date(nextRunAtMs));
+    }
+
+    public static void failAttachJob(int jobId, String error) {
+        updateAttachJob(jobId, ATTACH_JOB_FAILED, error, null);
+    }
+
+    /**
+     * Number of attach jobs per state (for diagnostics).
+     */
+    public static JsonObject countAttachJobs() {
+        JsonObject out = new JsonObject();
+        ActiveObjects ao = ao();
+        if (ao == null) return out;
+        for (String state : new String[]{ATTACH_JOB_PENDING, ATTACH_JOB_RUNNING, ATTACH_JOB_DONE, ATTACH_JOB_FAILED}) {
+            try {
+                out.addProperty(state.toLowerCase(), ao.count(AoDocusignAttachJob.class, Query.select().where("STATE = ?", state)));
+            } catch (Exception ignore) {
+            }
+        }
+        return out;
+    }
+
+    private static void updateAttachJob(int jobId, String state, String error, Date nextRunAt) {
+        ActiveObjects ao = ao();
+        if (ao == null) return;
+        ao.executeInTransaction(() -> {
+            AoDocusignAttachJob job = ao.get(AoDocusignAttachJob.class, jobId);
+            if (job == null) return null;
+            job.setState(state);
+            job.setLastError(error);
+            if (nextRunAt != null) {
+                job.setNextRunAt(nextRunAt);
+            }
+            job.setUpdatedAt(new Date());
+            job.save();
+            return null;
+        });
+    }
+
     private static void createTab(ActiveObjects ao,
                                   AoDocusignSigner signer,
                                   String documentId,
@@ -604,6 +1030,15 @@ public final class DocusignAoStore {
         return !requestedAttachmentIds.isEmpty() ? requestedAttachmentIds.get(0) : null;
     }
 
+    private static String placeholders(int n) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < n; i++) {
+            if (i > 0) sb.append(", ");
+            sb.append('?');
+        }
+        return sb.toString();
+    }
+
     private static int parseIntSafe(String val, int def) {
         try {
             if (val == null) return def;
@@ -26,10 +26,18 @@ import com.koushik.docusign.docusign.DocusignService;
 import com.koushik.docusign.docusign.DocusignService.DocusignDocument;
 import com.koushik.docusign.docusign.DocusignService.DocusignSigner;
 import com.koushik.docusign.persistence.DocusignAoStore;
+import com.koushik.docusign.service.DocusignAutoAttachJob;
+import com.koushik.docusign.service.DocusignBulkRefreshService;
+import com.koushik.docusign.service.DocusignDocumentCache;
 import com.koushik.docusign.service.DocusignDocumentDownloadService;
 import com.koushik.docusign.service.DocusignDocumentFetchService;
+import com.koushik.docusign.service.DocusignPdfPreviewService;
 import com.koushik.docusign.service.DocusignRecipientStatusService;
 import com.koushik.docusign.service.DocusignRecipientStatusService.RecipientStatus;
+import com.koushik.docusign.service.DocusignSignedAttachService;
+import com.koushik.docusign.service.DocusignSignedExportService;
+import com.koushik.docusign.service.IssueAttachmentIndex;
+import com.koushik.docusign.service.JiraUserService;
 import com.koushik.docusign.oauth.DocusignTokenStore;
 import org.apache.commons.io.IOUtils;
 import org.apache.http.client.methods.CloseableHttpResponse;
@@ -48,6 +56,7 @@ import javax.ws.rs.*;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
 import javax.xml.XMLConstants;
@@ -57,6 +66,7 @@ import javax.xml.xpath.XPath;
 import javax.xml.xpath.XPathConstants;
 import javax.xml.xpath.XPathFactory;
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
@@ -64,6 +74,7 @@ import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
@@ -73,7 +84,9 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.zip.GZIPInputStream;
+import com.koushik.docusign.http.DocusignCircuitBreaker;
 import com.koushik.docusign.http.DocusignHttpClientFactory;
+import com.koushik.docusign.http.DocusignRequestScheduler;
 
 /**
  * REST resource for sending Jira attachments to DocuSign for e-signature.
@@ -92,7 +105,9 @@ public class DocusignRestResource {
     private final JiraAuthenticationContext authContext = ComponentAccessor.getJiraAuthenticationContext();
     private final PermissionManager permissionManager = ComponentAccessor.getPermissionManager();
     private final DocusignDocumentDownloadService documentDownloadService = new DocusignDocumentDownloadService();
+    private final DocusignSignedAttachService signedAttachService = new DocusignSignedAttachService(documentDownloadService);
     private static final Gson GSON = new Gson();
+    private static final int STREAM_BUFFER_BYTES = 64 * 1024;
     private final String restBase = readCfg("DOCUSIGN_REST_BASE", false, "https://demo.docusign.net/restapi");
     private final String accountId = readCfg("DOCUSIGN_ACCOUNT_ID", false, null);
     @Context
@@ -601,6 +616,14 @@ public class DocusignRestResource {
         } catch (Exception e) {
             obj.addProperty("issuePropertyMaxLen", -1);
         }
+        obj.add("rateLimit", DocusignRequestScheduler.snapshot());
+        boolean degraded = DocusignCircuitBreaker.anyOpen();
+        obj.addProperty("docusignStatus", degraded ? DocusignCircuitBreaker.DEGRADED_MESSAGE : "OK");
+        obj.add("circuitBreakers", DocusignCircuitBreaker.snapshot());
+        try {
+            obj.add("autoAttachQueue", DocusignAoStore.countAttachJobs());
+        } catch (Exception ignore) {
+        }
         return Response.ok(obj.toString()).build();
     }
 
@@ -673,6 +696,171 @@ public class DocusignRestResource {
         }
     }
 
+    /**
+     * Attachments of an issue ({id, filename}) for the lazily loaded panel.
+     */
+    @GET
+    @Path("/attachments")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response getIssueAttachments(@QueryParam("issueKey") String issueKey) {
+        try {
+            if (issueKey == null || issueKey.trim().isEmpty()) {
+                return Response.status(Response.Status.BAD_REQUEST)
+                        .entity(errorJson("issueKey is required"))
+                        .build();
+            }
+            Issue issue = issueManager.getIssueObject(issueKey);
+            if (issue == null) {
+                return Response.status(Response.Status.BAD_REQUEST)
+                        .entity(errorJson("Invalid issue key: " + issueKey))
+                        .build();
+            }
+
+            ApplicationUser user = authContext != null ? authContext.getLoggedInUser() : null;
+            if (user == null) {
+                return Response.status(Response.Status.UNAUTHORIZED)
+                        .entity(errorJson("Login required"))
+                        .build();
+            }
+            if (!permissionManager.hasPermission(Permissions.BROWSE, issue, user)) {
+                return Response.status(Response.Status.FORBIDDEN)
+                        .entity(errorJson("You don't have permission to view this issue"))
+                        .build();
+            }
+
+            JsonArray arr = new JsonArray();
+            List<Attachment> attachments = ComponentAccessor.getAttachmentManager().getAttachments(issue);
+            if (attachments != null) {
+                for (Attachment a : attachments) {
+                    if (a == null) continue;
+                    JsonObject obj = new JsonObject();
+                    obj.addProperty("id", a.getId());
+                    obj.addProperty("filename", a.getFilename() != null ? a.getFilename() : "");
+                    arr.add(obj);
+                }
+            }
+            JsonObject resp = new JsonObject();
+            resp.addProperty("issueKey", issue.getKey());
+            resp.add("attachments", arr);
+            return Response.ok(resp.toString()).build();
+        } catch (Exception e) {
+            log.error("Failed to load issue attachments", e);
+            String msg = e.getMessage() != null ? e.getMessage() : "Failed to load issue attachments";
+            return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
+                    .entity(errorJson(msg))
+                    .build();
+        }
+    }
+
+    /**
+     * Jira users offered in the signer picker ({userKey, displayName}; no emails) for the lazily loaded panel.
+     */
+    @GET
+    @Path("/candidates")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response getSignerCandidates(@QueryParam("issueKey") String issueKey) {
+        try {
+            if (issueKey == null || issueKey.trim().isEmpty()) {
+                return Response.status(Response.Status.BAD_REQUEST)
+                        .entity(errorJson("issueKey is required"))
+                        .build();
+            }
+            Issue issue = issueManager.getIssueObject(issueKey);
+            if (issue == null) {
+                return Response.status(Response.Status.BAD_REQUEST)
+                        .entity(errorJson("Invalid issue key: " + issueKey))
+                        .build();
+            }
+
+            ApplicationUser user = authContext != null ? authContext.getLoggedInUser() : null;
+            if (user == null) {
+                return Response.status(Response.Status.UNAUTHORIZED)
+                        .entity(errorJson("Login required"))
+                        .build();
+            }
+            if (!permissionManager.hasPermission(Permissions.BROWSE, issue, user)) {
+                return Response.status(Response.Status.FORBIDDEN)
+                        .entity(errorJson("You don't have permission to view this issue"))
+                        .build();
+            }
+
+            JsonArray users = new JsonArray();
+            for (JiraUserService.SignerCandidate c : new JiraUserService().getPanelCandidates(issue, user)) {
+                JsonObject obj = new JsonObject();
+                obj.addProperty("userKey", c.getUserKey());
+                obj.addProperty("displayName", c.getDisplayName());
+                users.add(obj);
+            }
+            JsonObject resp = new JsonObject();
+            resp.addProperty("issueKey", issue.getKey());
+            resp.add("users", users);
+            return Response.ok(resp.toString()).build();
+        } catch (Exception e) {
+            log.error("Failed to load signer candidates", e);
+            String msg = e.getMessage() != null ? e.getMessage() : "Failed to load signer candidates";
+            return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
+                    .entity(errorJson(msg))
+                    .build();
+        }
+    }
+
+    /**
+     * Typeahead for the signer picker: project candidates whose display name, name word or username starts with
+     * {@code q}, ordered by display name ({userKey, displayName}; no emails or usernames).
+     */
+    @GET
+    @Path("/users/search")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response searchSignerCandidates(@QueryParam("issueKey") String issueKey,
+                                           @QueryParam("q") String q,
+                                           @QueryParam("limit") Integer limit) {
+        try {
+            if (issueKey == null || issueKey.trim().isEmpty()) {
+                return Response.status(Response.Status.BAD_REQUEST)
+                        .entity(errorJson("issueKey is required"))
+                        .build();
+            }
+            Issue issue = issueManager.getIssueObject(issueKey);
+            if (issue == null) {
+                return Response.status(Response.Status.BAD_REQUEST)
+                        .entity(errorJson("Invalid issue key: " + issueKey))
+                        .build();
+            }
+
+            ApplicationUser user = authContext != null ? authContext.getLoggedInUser() : null;
+            if (user == null) {
+                return Response.status(Response.Status.UNAUTHORIZED)
+                        .entity(errorJson("Login required"))
+                        .build();
+            }
+            if (!permissionManager.hasPermission(Permissions.BROWSE, issue, user)) {
+                return Response.status(Response.Status.FORBIDDEN)
+                        .entity(errorJson("You don't have permission to view this issue"))
+                        .build();
+            }
+
+            int max = limit == null || limit <= 0 ? 20 : Math.min(limit, 50);
+            String query = q != null && q.length() > 100 ? q.substring(0, 100) : q;
+            JsonArray users = new JsonArray();
+            for (JiraUserService.SignerCandidate c : new JiraUserService().searchCandidates(issue, query, max)) {
+                JsonObject obj = new JsonObject();
+                obj.addProperty("userKey", c.getUserKey());
+                obj.addProperty("displayName", c.getDisplayName());
+                users.add(obj);
+            }
+            JsonObject resp = new JsonObject();
+            resp.addProperty("issueKey", issue.getKey());
+            resp.add("users", users);
+            return Response.ok(resp.toString()).build();
+        } catch (Exception e) {
+            log.error("Failed to search signer candidates", e);
+            String msg = e.getMessage() != null ? e.getMessage() : "Failed to search signer candidates";
+            return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
+                    .entity(errorJson(msg))
+                    .build();
+        }
+    }
+
     @GET
     @Path("/state/history")
     @Produces(MediaType.APPLICATION_JSON)
@@ -1033,6 +1221,10 @@ public class DocusignRestResource {
             }
 
             // AO persistence already handled above for idempotency.
+
+            if ("completed".equals(statusLower)) {
+                DocusignAutoAttachJob.enqueue(issueKey, envelopeId);
+            }
         } catch (Exception e) {
             log.error("DocuSign webhook: failed to persist state for issue {}: {}", issueKey, e.getMessage(), e);
             // Always return 2xx so DocuSign doesn't retry forever on a permanent failure.
@@ -1180,9 +1372,14 @@ public class DocusignRestResource {
                 if ("completed".equalsIgnoreCase(envelopeStatus)) {
                     String signedAttached = readIssueProperty(issue, "docusign.signedAttached");
                     if (signedAttached == null || !Boolean.parseBoolean(signedAttached)) {
-                        byte[] pdf = new DocusignDocumentFetchService(resolvedRestBase, resolvedAccountId).fetchSignedPdf(envelopeId, accessToken);
-                        documentDownloadService.attachSignedPdfIfMissing(issue, pdf, issue.getKey() + ".pdf");
-                        Attachment signed = findSignedAttachment(issue);
+                        Attachment created;
+                        try (DocusignDocumentFetchService.DownloadedFile pdf = new DocusignDocumentFetchService(resolvedRestBase, resolvedAccountId).downloadSignedPdfToFile(envelopeId, accessToken)) {
+                            created = documentDownloadService.attachSignedPdfIfMissing(IssueAttachmentIndex.build(issue), pdf.file, issue.getKey() + ".pdf");
+                        }
+                        if (created != null) {
+                            DocusignAoStore.recordSignedAttachment(issue.getKey(), envelopeId, "combined", created.getId(), created.getFilename());
+                        }
+                        Attachment signed = created != null ? created : findSignedAttachment(issue);
                         if (signed != null) {
                             signedName = signed.getFilename();
                             signedId = signed.getId();
@@ -1252,7 +1449,7 @@ public class DocusignRestResource {
                         resp.addProperty("signedDownloadUrl", downloadUrl);
                     }
                     if (signedName == null) {
-                        resp.addProperty("signedAttachmentName", defaultSignedFileName(issue, envelopeId));
+                        resp.addProperty("signedAttachmentName", DocusignSignedAttachService.defaultSignedFileName(issue, envelopeId));
                     }
                 }
                 resp.add("signers", signerArr);
@@ -1276,6 +1473,84 @@ public class DocusignRestResource {
         }
     }
 
+    public static class BulkRefreshRequest {
+        private String jql;
+        private Boolean includeFinal;
+        private String resumeJobId;
+        public String getJql() { return jql; }
+        public void setJql(String jql) { this.jql = jql; }
+        public Boolean getIncludeFinal() { return includeFinal; }
+        public void setIncludeFinal(Boolean includeFinal) { this.includeFinal = includeFinal; }
+        public String getResumeJobId() { return resumeJobId; }
+        public void setResumeJobId(String resumeJobId) { this.resumeJobId = resumeJobId; }
+    }
+
+    /**
+     * Admin-only: re-sync DocuSign status for every issue matched by a JQL query.
+     * Runs asynchronously; poll {@code GET /status/refresh-bulk?jobId=...} for progress.
+     * Pass {@code resumeJobId} to continue an interrupted job from its checkpoint.
+     */
+    @POST
+    @Path("/status/refresh-bulk")
+    @Consumes(MediaType.APPLICATION_JSON)
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response refreshStatusBulk(BulkRefreshRequest req) {
+        ApplicationUser user = authContext != null ? authContext.getLoggedInUser() : null;
+        if (user == null) {
+            return Response.status(Response.Status.UNAUTHORIZED).entity(errorJson("Login required")).build();
+        }
+        if (!permissionManager.hasPermission(Permissions.ADMINISTER, user)) {
+            return Response.status(Response.Status.FORBIDDEN).entity(errorJson("Admin permission required")).build();
+        }
+        if (req == null || ((req.getJql() == null || req.getJql().trim().isEmpty())
+                && (req.getResumeJobId() == null || req.getResumeJobId().trim().isEmpty()))) {
+            return Response.status(Response.Status.BAD_REQUEST).entity(errorJson("jql or resumeJobId is required")).build();
+        }
+        String accessToken = resolveAccessTokenForUser(user);
+        if (accessToken == null || accessToken.trim().isEmpty()) {
+            return Response.status(Response.Status.UNAUTHORIZED)
+                    .entity(errorJson("DocuSign is not connected or token expired. Please click 'Connect DocuSign' and try again."))
+                    .build();
+        }
+        try {
+            DocusignBulkRefreshService.Job job = DocusignBulkRefreshService.start(user, req.getJql(),
+                    Boolean.TRUE.equals(req.getIncludeFinal()), req.getResumeJobId(),
+                    resolveRestBaseForUser(user), requireAccountIdForUser(user));
+            JsonObject progress = DocusignBulkRefreshService.progress(job.getJobId());
+            return Response.status(Response.Status.ACCEPTED).entity(progress != null ? progress.toString() : "{}").build();
+        } catch (IllegalArgumentException e) {
+            return Response.status(Response.Status.BAD_REQUEST).entity(errorJson(e.getMessage())).build();
+        } catch (IllegalStateException e) {
+            return Response.status(Response.Status.CONFLICT).entity(errorJson(e.getMessage())).build();
+        } catch (Exception e) {
+            log.error("Failed to start bulk refresh", e);
+            return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
+                    .entity(errorJson(e.getMessage() != null ? e.getMessage() : "Failed to start bulk refresh"))
+                    .build();
+        }
+    }
+
+    @GET
+    @Path("/status/refresh-bulk")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response refreshStatusBulkProgress(@QueryParam("jobId") String jobId) {
+        ApplicationUser user = authContext != null ? authContext.getLoggedInUser() : null;
+        if (user == null) {
+            return Response.status(Response.Status.UNAUTHORIZED).entity(errorJson("Login required")).build();
+        }
+        if (!permissionManager.hasPermission(Permissions.ADMINISTER, user)) {
+            return Response.status(Response.Status.FORBIDDEN).entity(errorJson("Admin permission required")).build();
+        }
+        if (jobId == null || jobId.trim().isEmpty()) {
+            return Response.status(Response.Status.BAD_REQUEST).entity(errorJson("jobId is required")).build();
+        }
+        JsonObject progress = DocusignBulkRefreshService.progress(jobId);
+        if (progress == null) {
+            return Response.status(Response.Status.NOT_FOUND).entity(errorJson("Unknown jobId: " + jobId)).build();
+        }
+        return Response.ok(progress.toString()).build();
+    }
+
     @GET
     @Path("/status/live")
     @Produces(MediaType.APPLICATION_JSON)
@@ -1377,7 +1652,7 @@ public class DocusignRestResource {
                     resp.addProperty("signedDownloadUrl", downloadUrl);
                 }
                 if (signedName == null) {
-                    resp.addProperty("signedAttachmentName", defaultSignedFileName(issue, resolvedEnvelopeId));
+                    resp.addProperty("signedAttachmentName", DocusignSignedAttachService.defaultSignedFileName(issue, resolvedEnvelopeId));
                 }
             }
 
@@ -1432,124 +1707,8 @@ public class DocusignRestResource {
                     String mode = req.getMode();
                     boolean combined = mode != null && "combined".equalsIgnoreCase(mode.trim());
 
-                    DocusignDocumentFetchService fetch = new DocusignDocumentFetchService(resolvedRestBase, resolvedAccountId);
-                    JsonArray attachedArr = new JsonArray();
-
-                    if (combined) {
-                        byte[] pdf = fetch.fetchSignedPdf(envelopeId, accessToken);
-                        String fn = defaultSignedFileName(issue, envelopeId);
-                        boolean ok = documentDownloadService.attachPdfIfMissing(issue, pdf, fn);
-                        Attachment a = ok ? findAttachmentByFilename(issue, fn) : null;
-                        if (a != null) {
-                            attached = true;
-                            JsonObject obj = new JsonObject();
-                            obj.addProperty("id", a.getId());
-                            obj.addProperty("name", a.getFilename());
-                            attachedArr.add(obj);
-                        }
-                    } else {
-                        // Default: attach one PDF per envelope document (not combined).
-                        List<DocusignAoStore.DocumentMeta> docs = null;
-                        try {
-                            docs = DocusignAoStore.loadEnvelopeDocuments(issue.getKey(), envelopeId);
-                        } catch (Exception ignore) {
-                            docs = null;
-                        }
-                        if (docs == null || docs.isEmpty()) {
-                            docs = new ArrayList<>();
-                            try {
-                                for (DocusignDocumentFetchService.EnvelopeDocument d : fetch.listEnvelopeDocuments(envelopeId, accessToken)) {
-                                    if (d == null) continue;
-                                    docs.add(new DocusignAoStore.DocumentMeta(d.documentId, d.name));
-                                }
-                            } catch (Exception ignore) {
-                                docs = new ArrayList<>();
-                            }
-                        }
-
-                        List<DocusignAoStore.DocumentMeta> contentDocs = new ArrayList<>();
-                        for (DocusignAoStore.DocumentMeta d : docs) {
-                            if (d == null || d.documentId == null) continue;
-                            String id = d.documentId.trim();
-                            if (id.isEmpty()) continue;
-                            String lid = id.toLowerCase(Locale.ROOT);
-                            if ("combined".equals(lid) || "certificate".equals(lid) || "summary".equals(lid)) continue;
-                            contentDocs.add(d);
-                        }
-
-                        if (contentDocs.isEmpty()) {
-                            // Fallback: try numeric documentIds (1..10). If this yields at least one doc, keep them.
-                            int maxTry = 10;
-                            for (int i = 1; i <= maxTry; i++) {
-                                String docId = String.valueOf(i);
-                                try {
-                                    DocusignDocumentFetchService.DownloadedDocument doc = downloadEnvelopeDocumentWithFallback(fetch, envelopeId, docId, accessToken);
-                                    byte[] bytes = doc != null ? doc.bytes : null;
-                                    if (bytes == null || bytes.length == 0) {
-                                        continue;
-                                    }
-                                    String ext = detectExtension(bytes, "document-" + docId);
-                                    String base = stripExtension("document-" + docId);
-                                    String fn = signedFileBaseNameForDoc(issue, envelopeId, docId, base) + "." + ext;
-                                    boolean ok = documentDownloadService.attachFileIfMissing(issue, bytes, fn, (doc != null && doc.contentType != null) ? doc.contentType : contentTypeForExt(ext));
-                                    Attachment a = ok ? findAttachmentByFilename(issue, fn) : null;
-                                    if (a != null) {
-                                        attached = true;
-                                        JsonObject obj = new JsonObject();
-                                        obj.addProperty("id", a.getId());
-                                        obj.addProperty("name", a.getFilename());
-                                        attachedArr.add(obj);
-                                    }
-                                } catch (Exception ignore) {
-                                    // stop once numeric ids stop working
-                                    break;
-                                }
-                            }
-
-                            if (attachedArr.size() == 0) {
-                                // Last resort: attach the combined doc if DocuSign doesn't expose documentIds.
-                                byte[] pdf = fetch.fetchSignedPdf(envelopeId, accessToken);
-                                String fn = defaultSignedFileName(issue, envelopeId);
-                                boolean ok = documentDownloadService.attachPdfIfMissing(issue, pdf, fn);
-                                Attachment a = ok ? findAttachmentByFilename(issue, fn) : null;
-                                if (a != null) {
-                                    attached = true;
-                                    JsonObject obj = new JsonObject();
-                                    obj.addProperty("id", a.getId());
-                                    obj.addProperty("name", a.getFilename());
-                                    attachedArr.add(obj);
-                                }
-                            }
-                        } else {
-                            for (DocusignAoStore.DocumentMeta d : contentDocs) {
-                                String docName = d.filename != null ? d.filename : ("document-" + d.documentId);
-                                DocusignDocumentFetchService.DownloadedDocument doc = downloadEnvelopeDocumentWithFallback(fetch, envelopeId, d.documentId, accessToken);
-                                byte[] bytes = doc != null ? doc.bytes : null;
-                                if (bytes == null || bytes.length == 0) continue;
-                                String ext = detectExtension(bytes, docName);
-                                String base = stripExtension(docName);
-                                String fn = signedFileBaseNameForDoc(issue, envelopeId, d.documentId, base) + "." + ext;
-                                boolean ok = documentDownloadService.attachFileIfMissing(issue, bytes, fn, (doc != null && doc.contentType != null) ? doc.contentType : contentTypeForExt(ext));
-                                Attachment a = ok ? findAttachmentByFilename(issue, fn) : null;
-                                if (a != null) {
-                                    attached = true;
-                                    JsonObject obj = new JsonObject();
-                                    obj.addProperty("id", a.getId());
-                                    obj.addProperty("name", a.getFilename());
-                                    attachedArr.add(obj);
-                                }
-                            }
-                        }
-                    }
-
-                    if (attachedArr.size() > 0) {
-                        try {
-                            ApplicationUser userCtx = resolveUser();
-                            setIssuePropertyJson(userCtx, issue, "docusign.signedAttachments", attachedArr.toString());
-                            setIssuePropertyJson(userCtx, issue, "docusign.signedAttached", wrapValueJson(Boolean.TRUE));
-                        } catch (Exception ignore) {
-                        }
-                    }
+                    JsonArray attachedArr = signedAttachService.attachSigned(issue, envelopeId, accessToken, resolvedRestBase, resolvedAccountId, combined);
+                    attached = attachedArr.size() > 0;
 
                     // Compatibility: surface the first signed attachment.
                     if (attachedArr.size() > 0) {
@@ -1615,7 +1774,7 @@ public class DocusignRestResource {
                     resp.addProperty("signedDownloadUrl", downloadUrl);
                 }
                 if (signedName == null) {
-                    resp.addProperty("signedAttachmentName", defaultSignedFileName(issue, envelopeId));
+                    resp.addProperty("signedAttachmentName", DocusignSignedAttachService.defaultSignedFileName(issue, envelopeId));
                 }
             }
             return Response.ok(resp.toString()).build();
@@ -1633,7 +1792,9 @@ public class DocusignRestResource {
     @Produces({MediaType.APPLICATION_OCTET_STREAM, MediaType.APPLICATION_JSON})
     public Response downloadSigned(@QueryParam("envelopeId") String envelopeId,
                                    @QueryParam("issueKey") String issueKey,
-                                   @QueryParam("documentId") String documentId) {
+                                   @QueryParam("documentId") String documentId,
+                                   @HeaderParam("Range") String range,
+                                   @HeaderParam("If-Range") String ifRange) {
         try {
             String resolvedId = sanitizeEnvelopeId(envelopeId);
             Issue issue = null;
@@ -1670,8 +1831,55 @@ public class DocusignRestResource {
             String resolvedAccountId = requireAccountIdForUser(user);
             String docId = (documentId != null && !documentId.trim().isEmpty()) ? documentId.trim() : "combined";
             DocusignDocumentFetchService fetch = new DocusignDocumentFetchService(resolvedRestBase, resolvedAccountId);
+            String filename = "combined".equalsIgnoreCase(docId) ? DocusignSignedAttachService.defaultSignedFileName(issue, resolvedId) : DocusignSignedAttachService.signedFileNameForDocPdf(issue, resolvedId, docId, "document-" + docId);
+            boolean combinedDoc = "combined".equalsIgnoreCase(docId);
+            if (DocusignDocumentCache.isEnabled() && canReadCachedEnvelope(resolvedId, user)) {
+                // Completed envelopes never change: serve repeat downloads from the shared-home cache.
+                DocusignDocumentCache.CachedDocument cached = DocusignDocumentCache.lookup(resolvedAccountId, resolvedId, docId);
+                if (cached == null && (combinedDoc || fetch.isEnvelopeCompleted(resolvedId, accessToken))) {
+                    try (DocusignDocumentFetchService.DownloadedFile f = combinedDoc
+                            ? fetch.downloadSignedPdfToFile(resolvedId, accessToken)
+                            : fetch.downloadEnvelopeDocumentToFile(resolvedId, docId, accessToken, "application/pdf")) {
+                        cached = DocusignDocumentCache.store(resolvedAccountId, resolvedId, docId, f.file, f.contentType);
+                    }
+                }
+                if (cached != null) {
+                    return cachedDocumentResponse(cached, filename, range, ifRange);
+                }
+            }
+            if (isDownloadStreamingEnabled()) {
+                // Pipe DocuSign's response straight to the client: constant heap per download regardless of PDF size.
+                // The DocuSign connection is only opened once the container writes the body, so a response that is
+                // never written (client gone, filter error) holds no connection. Check completion up front so that
+                // failure still gets a JSON error.
+                if (combinedDoc) {
+                    fetch.requireCompleted(resolvedId, accessToken);
+                }
+                String streamEnvelopeId = resolvedId;
+                StreamingOutput body = out -> {
+                    DocusignDocumentFetchService.DocumentStream ds;
+                    try {
+                        ds = fetch.openDocumentStream(streamEnvelopeId, docId, accessToken, "application/pdf");
+                    } catch (IOException | RuntimeException e) {
+                        throw e;
+                    } catch (Exception e) {
+                        throw new IOException(e.getMessage(), e);
+                    }
+                    try (DocusignDocumentFetchService.DocumentStream in = ds) {
+                        byte[] buf = new byte[STREAM_BUFFER_BYTES];
+                        int n;
+                        while ((n = in.content.read(buf)) != -1) {
+                            out.write(buf, 0, n);
+                        }
+                        out.flush();
+                    }
+                };
+                return Response.ok(body)
+                        .type("application/pdf")
+                        .header("Content-Disposition", "inline; filename=\"" + filename + "\"")
+                        .build();
+            }
             byte[] pdf = "combined".equalsIgnoreCase(docId) ? fetch.fetchSignedPdf(resolvedId, accessToken) : fetch.fetchDocumentPdf(resolvedId, docId, accessToken);
-            String filename = "combined".equalsIgnoreCase(docId) ? defaultSignedFileName(issue, resolvedId) : signedFileNameForDocPdf(issue, resolvedId, docId, "document-" + docId);
             return Response.ok(pdf)
                     .type("application/pdf")
                     .header("Content-Disposition", "inline; filename=\"" + filename + "\"")
@@ -1686,6 +1894,306 @@ public class DocusignRestResource {
         }
     }
 
+    /**
+     * Page count and displayed page sizes (PDF points) of a PDF attachment, for the signature placement modal.
+     */
+    @GET
+    @Path("/attachments/{attachmentId}/pages")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response getAttachmentPages(@PathParam("attachmentId") Long attachmentId) {
+        Object resolved = resolvePreviewAttachment(attachmentId);
+        if (resolved instanceof Response) {
+            return (Response) resolved;
+        }
+        Attachment attachment = (Attachment) resolved;
+        try {
+            DocusignPdfPreviewService.PdfInfo info = DocusignPdfPreviewService.info(attachment);
+            JsonObject obj = new JsonObject();
+            obj.addProperty("attachmentId", attachment.getId());
+            obj.addProperty("pageCount", info.getPageCount());
+            JsonArray pages = new JsonArray();
+            for (int i = 0; i < info.pages.size(); i++) {
+                DocusignPdfPreviewService.PageSize p = info.pages.get(i);
+                JsonObject page = new JsonObject();
+                page.addProperty("page", i + 1);
+                page.addProperty("width", p.width);
+                page.addProperty("height", p.height);
+                pages.add(page);
+            }
+            obj.add("pages", pages);
+            return Response.ok(obj.toString())
+                    .header("Cache-Control", "private, max-age=86400")
+                    .build();
+        } catch (DocusignPdfPreviewService.BusyException e) {
+            return previewBusy(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return previewBusy(new DocusignPdfPreviewService.BusyException("Interrupted while waiting to render"));
+        } catch (Exception e) {
+            log.warn("Failed to read PDF pages of attachment {}: {}", attachmentId, e.getMessage());
+            return Response.status(422)
+                    .entity(errorJson("Unable to read PDF: " + (e.getMessage() != null ? e.getMessage() : "unknown error")))
+                    .build();
+        }
+    }
+
+    /**
+     * Low-resolution PNG of one page (1-based) of a PDF attachment. {@code width} is in pixels and is rounded up to a
+     * multiple of 100 between 100 and 1200.
+     */
+    @GET
+    @Path("/attachments/{attachmentId}/pages/{page}/thumbnail")
+    @Produces({"image/png", MediaType.APPLICATION_JSON})
+    public Response getAttachmentPageThumbnail(@PathParam("attachmentId") Long attachmentId,
+                                               @PathParam("page") int page,
+                                               @QueryParam("width") Integer width) {
+        Object resolved = resolvePreviewAttachment(attachmentId);
+        if (resolved instanceof Response) {
+            return (Response) resolved;
+        }
+        Attachment attachment = (Attachment) resolved;
+        try {
+            byte[] png = DocusignPdfPreviewService.thumbnail(attachment, page, width != null ? width : 600);
+            if (png == null) {
+                return Response.status(Response.Status.NOT_FOUND)
+                        .type(MediaType.APPLICATION_JSON)
+                        .entity(errorJson("Page " + page + " does not exist"))
+                        .build();
+            }
+            return Response.ok(png)
+                    .type("image/png")
+                    .header("Cache-Control", "private, max-age=86400")
+                    .build();
+        } catch (DocusignPdfPreviewService.BusyException e) {
+            return previewBusy(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return previewBusy(new DocusignPdfPreviewService.BusyException("Interrupted while waiting to render"));
+        } catch (Exception e) {
+            log.warn("Failed to render page {} of attachment {}: {}", page, attachmentId, e.getMessage());
+            return Response.status(422)
+                    .type(MediaType.APPLICATION_JSON)
+                    .entity(errorJson("Unable to render PDF page: " + (e.getMessage() != null ? e.getMessage() : "unknown error")))
+                    .build();
+        }
+    }
+
+    private Response previewBusy(DocusignPdfPreviewService.BusyException e) {
+        return Response.status(Response.Status.SERVICE_UNAVAILABLE)
+                .type(MediaType.APPLICATION_JSON)
+                .header("Retry-After", String.valueOf(e.getRetryAfterSeconds()))
+                .entity(errorJson(e.getMessage()))
+                .build();
+    }
+
+    /**
+     * The document cache is keyed by account only, so serving from it skips DocuSign's per-user envelope visibility.
+     * Only use it when the envelope is tracked on an issue the user can browse; otherwise the request goes to DocuSign
+     * with the caller's own token.
+     */
+    private boolean canReadCachedEnvelope(String envelopeId, ApplicationUser user) {
+        if (user == null) return false;
+        String issueKey = DocusignAoStore.findIssueKeyByEnvelopeId(envelopeId);
+        if (issueKey == null) return false;
+        Issue owner = issueManager.getIssueObject(issueKey);
+        return owner != null && permissionManager.hasPermission(Permissions.BROWSE, owner, user);
+    }
+
+    /**
+     * The PDF attachment to preview, or an error {@link Response} (login, missing, not a PDF, no browse permission).
+     */
+    private Object resolvePreviewAttachment(Long attachmentId) {
+        ApplicationUser user = authContext != null ? authContext.getLoggedInUser() : null;
+        if (user == null) {
+            return Response.status(Response.Status.UNAUTHORIZED)
+                    .type(MediaType.APPLICATION_JSON)
+                    .entity(errorJson("Login required"))
+                    .build();
+        }
+        Attachment attachment = null;
+        try {
+            attachment = attachmentId != null ? ComponentAccessor.getAttachmentManager().getAttachment(attachmentId) : null;
+        } catch (Exception ignore) {
+            attachment = null;
+        }
+        if (attachment == null || attachment.getIssue() == null) {
+            return Response.status(Response.Status.NOT_FOUND)
+                    .type(MediaType.APPLICATION_JSON)
+                    .entity(errorJson("Attachment not found: " + attachmentId))
+                    .build();
+        }
+        if (!permissionManager.hasPermission(Permissions.BROWSE, attachment.getIssue(), user)) {
+            return Response.status(Response.Status.FORBIDDEN)
+                    .type(MediaType.APPLICATION_JSON)
+                    .entity(errorJson("You don't have permission to view this issue"))
+                    .build();
+        }
+        String name = attachment.getFilename() != null ? attachment.getFilename().toLowerCase(Locale.ROOT) : "";
+        if (!name.endsWith(".pdf")) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .type(MediaType.APPLICATION_JSON)
+                    .entity(errorJson("Attachment is not a PDF"))
+                    .build();
+        }
+        return attachment;
+    }
+
+    /**
+     * ZIP of the signed documents of every completed envelope on one issue ({@code issueKey}) or a JQL result
+     * ({@code jql}), with a {@code manifest.csv} of envelope, signer and completion metadata.
+     */
+    @GET
+    @Path("/signed/export")
+    @Produces({"application/zip", MediaType.APPLICATION_JSON})
+    public Response exportSigned(@QueryParam("issueKey") String issueKey,
+                                 @QueryParam("jql") String jql) {
+        ApplicationUser user = authContext != null ? authContext.getLoggedInUser() : null;
+        if (user == null) {
+            return Response.status(Response.Status.UNAUTHORIZED)
+                    .type(MediaType.APPLICATION_JSON)
+                    .entity(errorJson("Login required"))
+                    .build();
+        }
+        try {
+            List<String> issueKeys;
+            String archiveBase;
+            if (issueKey != null && !issueKey.trim().isEmpty()) {
+                Issue issue = issueManager.getIssueObject(issueKey.trim());
+                if (issue == null) {
+                    return Response.status(Response.Status.BAD_REQUEST)
+                            .type(MediaType.APPLICATION_JSON)
+                            .entity(errorJson("Invalid issue key: " + issueKey))
+                            .build();
+                }
+                if (!permissionManager.hasPermission(Permissions.BROWSE, issue, user)) {
+                    return Response.status(Response.Status.FORBIDDEN)
+                            .type(MediaType.APPLICATION_JSON)
+                            .entity(errorJson("You don't have permission to view this issue"))
+                            .build();
+                }
+                issueKeys = Collections.singletonList(issue.getKey());
+                archiveBase = sanitize(issue.getKey());
+            } else if (jql != null && !jql.trim().isEmpty()) {
+                issueKeys = DocusignSignedExportService.resolveIssueKeys(user, jql);
+                archiveBase = "signed-documents";
+            } else {
+                return Response.status(Response.Status.BAD_REQUEST)
+                        .type(MediaType.APPLICATION_JSON)
+                        .entity(errorJson("issueKey or jql is required"))
+                        .build();
+            }
+
+            List<DocusignAoStore.CompletedEnvelope> envelopes = DocusignAoStore.loadCompletedEnvelopes(issueKeys);
+            if (envelopes.isEmpty()) {
+                return Response.status(Response.Status.NOT_FOUND)
+                        .type(MediaType.APPLICATION_JSON)
+                        .entity(errorJson("No completed DocuSign envelopes found"))
+                        .build();
+            }
+            // Envelopes already attached in Jira or cached don't need DocuSign; without a connection only the rest are
+            // reported as missing (in the manifest) instead of failing the whole export.
+            String accessToken = null;
+            String exportAccountId = resolveAccountIdForUser(user);
+            if (exportAccountId != null && !exportAccountId.trim().isEmpty()) {
+                try {
+                    accessToken = resolveAccessTokenForUser(user);
+                } catch (Exception e) {
+                    log.debug("exportSigned: no DocuSign token for {}: {}", user.getKey(), e.getMessage());
+                }
+            }
+            DocusignSignedExportService export = new DocusignSignedExportService(resolveRestBaseForUser(user), exportAccountId);
+            String exportToken = accessToken;
+            StreamingOutput body = out -> export.writeZip(envelopes, exportToken, out);
+            return Response.ok(body)
+                    .type("application/zip")
+                    .header("Content-Disposition", "attachment; filename=\"" + archiveBase + "-signed.zip\"")
+                    .build();
+        } catch (IllegalArgumentException e) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .type(MediaType.APPLICATION_JSON)
+                    .entity(errorJson(e.getMessage()))
+                    .build();
+        } catch (Exception e) {
+            String msg = e.getMessage() != null ? e.getMessage() : "Failed to export signed documents";
+            log.error("exportSigned failed: {}", msg, e);
+            return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
+                    .type(MediaType.APPLICATION_JSON)
+                    .entity(errorJson(msg))
+                    .build();
+        }
+    }
+
+    /**
+     * Serve a cached document, honouring a single {@code Range: bytes=...} request so interrupted downloads can resume.
+     * The content hash doubles as a strong ETag; a stale {@code If-Range} gets the full document.
+     */
+    private Response cachedDocumentResponse(DocusignDocumentCache.CachedDocument doc, String filename, String range, String ifRange) {
+        final String etag = "\"" + doc.hash + "\"";
+        final String type = doc.contentType != null && !doc.contentType.trim().isEmpty() ? doc.contentType : "application/pdf";
+        long[] span = null;
+        if (range != null && (ifRange == null || ifRange.trim().isEmpty() || etag.equals(ifRange.trim()))) {
+            span = parseByteRange(range, doc.size);
+        }
+        if (span != null && span.length == 0) {
+            return Response.status(416)
+                    .header("Content-Range", "bytes */" + doc.size)
+                    .header("Accept-Ranges", "bytes")
+                    .header("ETag", etag)
+                    .build();
+        }
+        final long offset = span != null ? span[0] : 0L;
+        final long length = span != null ? span[1] - span[0] + 1 : doc.size;
+        StreamingOutput body = out -> doc.transferTo(out, offset, length);
+        Response.ResponseBuilder rb = (span != null ? Response.status(206) : Response.ok())
+                .entity(body)
+                .type(type)
+                .header("Content-Disposition", "inline; filename=\"" + filename + "\"")
+                .header("Content-Length", length)
+                .header("Accept-Ranges", "bytes")
+                .header("ETag", etag);
+        if (span != null) {
+            rb.header("Content-Range", "bytes " + span[0] + "-" + span[1] + "/" + doc.size);
+        }
+        return rb.build();
+    }
+
+    /**
+     * Parse a single byte range against {@code size}: {@code {first, last}} inclusive, an empty array when the range
+     * cannot be satisfied, or null to ignore the header (missing, malformed, or multi-range) and send the whole file.
+     */
+    static long[] parseByteRange(String header, long size) {
+        if (header == null) return null;
+        String h = header.trim();
+        if (!h.regionMatches(true, 0, "bytes=", 0, 6)) return null;
+        String spec = h.substring(6).trim();
+        if (spec.isEmpty() || spec.indexOf(',') >= 0) return null;
+        int dash = spec.indexOf('-');
+        if (dash < 0) return null;
+        String a = spec.substring(0, dash).trim();
+        String b = spec.substring(dash + 1).trim();
+        try {
+            long first;
+            long last;
+            if (a.isEmpty()) {
+                // Suffix range: the last N bytes.
+                if (b.isEmpty()) return null;
+                long n = Long.parseLong(b);
+                if (n <= 0) return new long[0];
+                first = Math.max(0L, size - n);
+                last = size - 1;
+            } else {
+                first = Long.parseLong(a);
+                long requestedLast = b.isEmpty() ? Long.MAX_VALUE : Long.parseLong(b);
+                if (requestedLast < first) return null;
+                last = Math.min(requestedLast, size - 1);
+            }
+            if (first < 0 || first >= size || last < first) return new long[0];
+            return new long[]{first, last};
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
     public static class AttachRequest {
         private String issueKey;
         private String envelopeId;
@@ -1859,7 +2367,7 @@ public class DocusignRestResource {
             HttpGet get = new HttpGet(url);
             get.setHeader("Authorization", "Bearer " + accessToken);
             get.setHeader("Accept", "application/json");
-            try (CloseableHttpResponse resp = client.execute(get)) {
+            try (CloseableHttpResponse resp = DocusignRequestScheduler.execute(client, get, aid)) {
                 int code = resp.getStatusLine().getStatusCode();
                 String body = EntityUtils.toString(resp.getEntity(), StandardCharsets.UTF_8);
                 if (code < 200 || code >= 300) {
@@ -1874,6 +2382,11 @@ public class DocusignRestResource {
         }
     }
 
+    private boolean isDownloadStreamingEnabled() {
+        String v = readCfg("DOCUSIGN_DOWNLOAD_STREAMING", false, "true");
+        return v == null || !"false".equalsIgnoreCase(v.trim());
+    }
+
     private static String readCfg(String key, boolean required) {
         return readCfg(key, required, null);
     }
@@ -2093,6 +2606,9 @@ public class DocusignRestResource {
             msg = parsed;
         }
         String lower = msg.toLowerCase();
+        if (e instanceof DocusignCircuitBreaker.OpenException) {
+            return "DocuSign is currently degraded (repeated failures); please try again in a minute.";
+        }
         if (lower.contains("401") || lower.contains("invalid_token") || lower.contains("unauthorized")) {
             return "DocuSign token expired or unauthorized. Please reconnect.";
         }
@@ -2200,106 +2716,10 @@ public class DocusignRestResource {
         return obj.toString();
     }
 
-    private Attachment findAttachmentByFilename(Issue issue, String filename) {
-        try {
-            if (issue == null || filename == null || filename.trim().isEmpty()) return null;
-            String target = filename.trim();
-            AttachmentManager am = ComponentAccessor.getAttachmentManager();
-            List<Attachment> atts = am.getAttachments(issue);
-            if (atts == null) return null;
-            for (Attachment a : atts) {
-                if (a == null || a.getFilename() == null) continue;
-                if (a.getFilename().equalsIgnoreCase(target)) return a;
-            }
-        } catch (Exception ignore) {
-        }
-        return null;
-    }
-
-    private boolean looksLikePdf(byte[] data) {
-        try {
-            if (data == null || data.length < 5) return false;
-            return data[0] == '%' && data[1] == 'P' && data[2] == 'D' && data[3] == 'F' && data[4] == '-';
-        } catch (Exception e) {
-            return false;
-        }
-    }
-
-    private boolean looksLikeZip(byte[] data) {
-        try {
-            if (data == null || data.length < 4) return false;
-            return (data[0] == 'P' && data[1] == 'K' && data[2] == 3 && data[3] == 4)
-                    || (data[0] == 'P' && data[1] == 'K' && data[2] == 5 && data[3] == 6)
-                    || (data[0] == 'P' && data[1] == 'K' && data[2] == 7 && data[3] == 8);
-        } catch (Exception e) {
-            return false;
-        }
-    }
-
-    private String detectExtension(byte[] bytes, String docName) {
-        if (looksLikePdf(bytes)) return "pdf";
-        String name = docName != null ? docName.trim() : "";
-        int dot = name.lastIndexOf('.');
-        if (dot >= 0 && dot < name.length() - 1) {
-            String ext = name.substring(dot + 1).toLowerCase(Locale.ROOT);
-            ext = ext.replaceAll("[^a-z0-9]", "");
-            if (!ext.isEmpty() && ext.length() <= 10) return ext;
-        }
-        if (looksLikeZip(bytes)) return "zip";
-        return "bin";
-    }
-
-    private String stripExtension(String name) {
-        if (name == null) return "";
-        String s = name.trim();
-        int dot = s.lastIndexOf('.');
-        if (dot > 0) return s.substring(0, dot);
-        return s;
-    }
-
-    private String contentTypeForExt(String ext) {
-        if (ext == null) return "application/octet-stream";
-        String e = ext.toLowerCase(Locale.ROOT);
-        if ("pdf".equals(e)) return "application/pdf";
-        if ("docx".equals(e)) return "application/vnd.openxmlformats-officedocument.wordprocessingml.document";
-        if ("doc".equals(e)) return "application/msword";
-        if ("xlsx".equals(e)) return "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
-        if ("xls".equals(e)) return "application/vnd.ms-excel";
-        if ("pptx".equals(e)) return "application/vnd.openxmlformats-officedocument.presentationml.presentation";
-        if ("ppt".equals(e)) return "application/vnd.ms-powerpoint";
-        if ("txt".equals(e)) return "text/plain";
-        if ("png".equals(e)) return "image/png";
-        if ("jpg".equals(e) || "jpeg".equals(e)) return "image/jpeg";
-        if ("zip".equals(e)) return "application/zip";
-        return "application/octet-stream";
-    }
-
-    private DocusignDocumentFetchService.DownloadedDocument downloadEnvelopeDocumentWithFallback(DocusignDocumentFetchService fetch,
-                                                                                               String envelopeId,
-                                                                                               String documentId,
-                                                                                               String accessToken) throws Exception {
-        // Some DocuSign accounts/envelopes require an explicit Accept header; try raw first for "original",
-        // then fall back to PDF so we still get per-document files rather than combined-only.
-        try {
-            return fetch.downloadEnvelopeDocument(envelopeId, documentId, accessToken, null);
-        } catch (Exception first) {
-            return fetch.downloadEnvelopeDocument(envelopeId, documentId, accessToken, "application/pdf");
-        }
-    }
-
     private Attachment findSignedAttachment(Issue issue) {
         try {
-            if (issue == null) return null;
-            AttachmentManager am = ComponentAccessor.getAttachmentManager();
-            List<Attachment> atts = am.getAttachments(issue);
-            if (atts == null) return null;
-            for (Attachment a : atts) {
-                if (a == null || a.getFilename() == null) continue;
-                String name = a.getFilename();
-                if (name.startsWith("Signed_")) {
-                    return a;
-                }
-            }
+            List<Attachment> signed = signedAttachService.findSignedAttachments(issue);
+            return signed.isEmpty() ? null : signed.get(0);
         } catch (Exception e) {
             log.debug("Failed to locate signed attachment for issue {}: {}", issue != null ? issue.getKey() : "null", e.getMessage());
         }
@@ -2309,17 +2729,10 @@ public class DocusignRestResource {
     private JsonArray collectSignedAttachments(Issue issue) {
         JsonArray arr = new JsonArray();
         try {
-            if (issue == null) return arr;
-            AttachmentManager am = ComponentAccessor.getAttachmentManager();
-            List<Attachment> atts = am.getAttachments(issue);
-            if (atts == null) return arr;
-            for (Attachment a : atts) {
-                if (a == null || a.getFilename() == null) continue;
-                String name = a.getFilename();
-                if (name == null || !name.startsWith("Signed_")) continue;
+            for (Attachment a : signedAttachService.findSignedAttachments(issue)) {
                 JsonObject obj = new JsonObject();
                 obj.addProperty("id", a.getId());
-                obj.addProperty("name", name);
+                obj.addProperty("name", a.getFilename());
                 arr.add(obj);
             }
         } catch (Exception ignore) {
@@ -2327,53 +2740,6 @@ public class DocusignRestResource {
         return arr;
     }
 
-    private String signedFileBaseNameForDoc(Issue issue, String envelopeId, String documentId, String docName) {
-        String issueKey = issue != null ? issue.getKey() : null;
-        String env = envelopeId != null ? envelopeId.trim() : "";
-        String envShort = env.length() >= 8 ? env.substring(0, 8) : env;
-        String docId = (documentId != null && !documentId.trim().isEmpty()) ? documentId.trim() : "doc";
-
-        String base = (docName != null && !docName.trim().isEmpty()) ? docName.trim() : ("document-" + docId);
-        int dot = base.lastIndexOf('.');
-        if (dot > 0) base = base.substring(0, dot);
-        base = sanitize(base);
-        base = stripSignedByNoise(base);
-        if (base == null || base.isEmpty()) base = "document-" + docId;
-
-        StringBuilder sb = new StringBuilder();
-        sb.append("Signed_");
-        if (issueKey != null && !issueKey.trim().isEmpty()) {
-            sb.append(sanitize(issueKey.trim())).append("_");
-        }
-        if (envShort != null && !envShort.isEmpty()) {
-            sb.append(envShort).append("_");
-        }
-        sb.append("doc").append(docId).append("_").append(base);
-        String name = sb.toString();
-        if (name.length() > 160) {
-            name = name.substring(0, 160);
-        }
-        return name;
-    }
-
-    private String stripSignedByNoise(String s) {
-        if (s == null) return null;
-        String t = s;
-        // Remove common "Signed by <email>" style suffixes/prefixes.
-        t = t.replaceAll("(?i)\\bsigned\\s*by\\b.*$", "").trim();
-        // Remove any embedded email addresses (leaves rest of filename intact).
-        t = t.replaceAll("(?i)[A-Z0-9._%+-]+@[A-Z0-9.-]+\\.[A-Z]{2,}", "").trim();
-        // Collapse leftover punctuation/spaces.
-        t = t.replaceAll("[\\s._-]{2,}", "_");
-        t = t.replaceAll("^[_\\-\\.\\s]+|[_\\-\\.\\s]+$", "").trim();
-        return t;
-    }
-
-    private String signedFileNameForDocPdf(Issue issue, String envelopeId, String documentId, String docName) {
-        String base = signedFileBaseNameForDoc(issue, envelopeId, documentId, docName);
-        return base + ".pdf";
-    }
-
     private String buildSignedDownloadUrl(String envelopeId, String issueKey) {
         if (envelopeId == null || envelopeId.trim().isEmpty()) {
             return null;
@@ -2395,19 +2761,6 @@ public class DocusignRestResource {
         }
     }
 
-    private String defaultSignedFileName(Issue issue, String envelopeId) {
-        String base = issue != null ? issue.getKey() : envelopeId;
-        base = sanitize(base);
-        if (base == null || base.isEmpty()) {
-            base = "signed-document";
-        }
-        String name = "Signed_" + base + "_combined";
-        if (!name.toLowerCase(Locale.ROOT).endsWith(".pdf")) {
-            name = name + ".pdf";
-        }
-        return name;
-    }
-
     private String errorJson(String message) {
         JsonObject obj = new JsonObject();
         obj.addProperty("error", message != null ? message : "Internal server error");
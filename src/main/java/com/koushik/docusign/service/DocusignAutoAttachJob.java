@@ -0,0 +1,277 @@
+package com.koushik.docusign.service;
+
+import com.atlassian.beehive.ClusterLock;
+import com.atlassian.beehive.ClusterLockService;
+import com.atlassian.jira.component.ComponentAccessor;
+import com.atlassian.jira.issue.Issue;
+import com.atlassian.jira.security.JiraAuthenticationContext;
+import com.atlassian.jira.user.ApplicationUser;
+import com.atlassian.jira.user.util.UserManager;
+import com.atlassian.jira.util.thread.JiraThreadLocalUtil;
+import com.atlassian.plugin.spring.scanner.annotation.imports.ComponentImport;
+import com.atlassian.scheduler.JobRunner;
+import com.atlassian.scheduler.JobRunnerRequest;
+import com.atlassian.scheduler.JobRunnerResponse;
+import com.atlassian.scheduler.SchedulerService;
+import com.atlassian.scheduler.config.JobConfig;
+import com.atlassian.scheduler.config.JobId;
+import com.atlassian.scheduler.config.JobRunnerKey;
+import com.atlassian.scheduler.config.RunMode;
+import com.atlassian.scheduler.config.Schedule;
+import com.google.gson.JsonArray;
+import com.koushik.docusign.config.DocusignConfig;
+import com.koushik.docusign.http.DocusignRequestScheduler;
+import com.koushik.docusign.oauth.DocusignTokenStore;
+import com.koushik.docusign.persistence.DocusignAoStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+import javax.inject.Named;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Attaches signed documents to the issue in the background once an envelope completes.
+ *
+ * The webhook and the status pollers queue an AO job when they record {@code completed}; this job drains the queue on
+ * a small worker pool, so signed files appear without anyone opening the issue and the download cost stays off
+ * interactive requests. Jobs use the envelope sender's stored DocuSign token, falling back to the token of
+ * {@code DOCUSIGN_SERVICE_USER}; failed jobs are retried with exponential backoff.
+ *
+ * Config (plugin setting / -D / env):
+ *   DOCUSIGN_AUTO_ATTACH_ENABLED        (default true)
+ *   DOCUSIGN_AUTO_ATTACH_MODE           (default individual; "combined" attaches the combined PDF)
+ *   DOCUSIGN_AUTO_ATTACH_INTERVAL_MS    (default 30000)
+ *   DOCUSIGN_AUTO_ATTACH_THREADS        (default 2)
+ *   DOCUSIGN_AUTO_ATTACH_BATCH_SIZE     (default 20)   jobs claimed per run
+ *   DOCUSIGN_AUTO_ATTACH_MAX_ATTEMPTS   (default 5)
+ *   DOCUSIGN_AUTO_ATTACH_RETRY_BASE_MS  (default 60000, doubled per attempt, capped at 1h)
+ *   DOCUSIGN_SERVICE_USER               user key/name whose token is used when the sender has none
+ */
+@Named
+public class DocusignAutoAttachJob implements JobRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(DocusignAutoAttachJob.class);
+
+    private static final JobRunnerKey JOB_RUNNER_KEY = JobRunnerKey.of(DocusignAutoAttachJob.class.getName());
+    private static final JobId JOB_ID = JobId.of(DocusignAutoAttachJob.class.getName() + ".job");
+    private static final String CLAIM_LOCK = "com.koushik.docusign.autoAttach.claim";
+    // A RUNNING job older than this is assumed lost (node restart) and is made due again.
+    private static final long STALE_RUNNING_MS = 15 * 60_000L;
+    private static final long MAX_RETRY_DELAY_MS = 60 * 60_000L;
+
+    private final SchedulerService schedulerService;
+    private final ClusterLockService clusterLockService;
+    private final DocusignSignedAttachService attachService = new DocusignSignedAttachService();
+    private ExecutorService workers;
+
+    @Inject
+    public DocusignAutoAttachJob(@ComponentImport SchedulerService schedulerService,
+                                 @ComponentImport ClusterLockService clusterLockService) {
+        this.schedulerService = schedulerService;
+        this.clusterLockService = clusterLockService;
+    }
+
+    /**
+     * Queue background attachment for a completed envelope. Safe to call repeatedly for the same envelope.
+     */
+    public static void enqueue(String issueKey, String envelopeId) {
+        if (!isEnabled()) return;
+        try {
+            if (DocusignAoStore.enqueueAttachJob(issueKey, envelopeId)) {
+                log.debug("Queued signed-document attach for {} envelope {}", issueKey, envelopeId);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to queue signed-document attach for {} envelope {}: {}", issueKey, envelopeId, e.getMessage());
+        }
+    }
+
+    @PostConstruct
+    public void onStart() {
+        int threads = DocusignConfig.getInt("DOCUSIGN_AUTO_ATTACH_THREADS", 2);
+        AtomicInteger seq = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "docusign-auto-attach-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        schedulerService.registerJobRunner(JOB_RUNNER_KEY, this);
+        long intervalMs = DocusignConfig.getInt("DOCUSIGN_AUTO_ATTACH_INTERVAL_MS", 30_000);
+        try {
+            schedulerService.scheduleJob(JOB_ID, JobConfig.forJobRunnerKey(JOB_RUNNER_KEY)
+                    .withRunMode(RunMode.RUN_ONCE_PER_CLUSTER)
+                    .withSchedule(Schedule.forInterval(intervalMs, new Date(System.currentTimeMillis() + intervalMs))));
+        } catch (Exception e) {
+            log.error("Failed to schedule DocuSign auto-attach job: {}", e.getMessage(), e);
+        }
+    }
+
+    @PreDestroy
+    public void onStop() {
+        schedulerService.unregisterJobRunner(JOB_RUNNER_KEY);
+        if (workers != null) {
+            workers.shutdownNow();
+        }
+    }
+
+    @Override
+    public JobRunnerResponse runJob(JobRunnerRequest request) {
+        if (!isEnabled()) {
+            return JobRunnerResponse.aborted("Disabled via DOCUSIGN_AUTO_ATTACH_ENABLED");
+        }
+        List<DocusignAoStore.AttachJob> jobs;
+        ClusterLock lock = clusterLockService.getLockForName(CLAIM_LOCK);
+        if (!lock.tryLock()) {
+            return JobRunnerResponse.success("Another node is claiming attach jobs");
+        }
+        try {
+            jobs = DocusignAoStore.claimAttachJobs(DocusignConfig.getInt("DOCUSIGN_AUTO_ATTACH_BATCH_SIZE", 20), STALE_RUNNING_MS);
+        } finally {
+            lock.unlock();
+        }
+        if (jobs.isEmpty()) {
+            return JobRunnerResponse.success("No attach jobs due");
+        }
+
+        AtomicInteger done = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (DocusignAoStore.AttachJob job : jobs) {
+            tasks.add(() -> {
+                if (process(job)) {
+                    done.incrementAndGet();
+                } else {
+                    failed.incrementAndGet();
+                }
+                return null;
+            });
+        }
+        try {
+            workers.invokeAll(tasks);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            // Unfinished jobs stay RUNNING and are picked up again once stale.
+        }
+        return JobRunnerResponse.success("Attached " + done.get() + " envelope(s), " + failed.get() + " failed");
+    }
+
+    private boolean process(DocusignAoStore.AttachJob job) {
+        JiraThreadLocalUtil threadLocalUtil = null;
+        JiraAuthenticationContext authContext = null;
+        try {
+            try {
+                threadLocalUtil = ComponentAccessor.getComponent(JiraThreadLocalUtil.class);
+                if (threadLocalUtil != null) {
+                    threadLocalUtil.preCall();
+                }
+            } catch (Exception ignore) {
+                threadLocalUtil = null;
+            }
+
+            Issue issue = ComponentAccessor.getIssueManager().getIssueObject(job.issueKey);
+            if (issue == null) {
+                DocusignAoStore.failAttachJob(job.id, "Issue not found: " + job.issueKey);
+                return false;
+            }
+
+            UserManager userManager = ComponentAccessor.getUserManager();
+            ApplicationUser tokenUser = null;
+            String accessToken = null;
+            String senderKey = DocusignAoStore.findEnvelopeSenderUserKey(job.issueKey, job.envelopeId);
+            ApplicationUser sender = senderKey != null ? userManager.getUserByKey(senderKey) : null;
+            if (sender != null) {
+                accessToken = DocusignTokenStore.getValidAccessToken(sender, null);
+                tokenUser = sender;
+            }
+            if (accessToken == null || accessToken.trim().isEmpty()) {
+                ApplicationUser serviceUser = resolveServiceUser(userManager);
+                accessToken = serviceUser != null ? DocusignTokenStore.getValidAccessToken(serviceUser, null) : null;
+                tokenUser = serviceUser;
+            }
+            if (accessToken == null || accessToken.trim().isEmpty()) {
+                throw new IllegalStateException("No stored DocuSign token for the envelope sender or DOCUSIGN_SERVICE_USER");
+            }
+
+            String restBase = firstNonBlank(DocusignTokenStore.getRestBaseOverride(tokenUser),
+                    DocusignConfig.getString("DOCUSIGN_REST_BASE", "https://demo.docusign.net/restapi"));
+            String accountId = firstNonBlank(DocusignTokenStore.getAccountIdOverride(tokenUser),
+                    DocusignConfig.getString("DOCUSIGN_ACCOUNT_ID", null));
+            if (accountId == null) {
+                throw new IllegalStateException("DocuSign account context is missing for " + tokenUser.getName());
+            }
+            boolean combined = "combined".equalsIgnoreCase(DocusignConfig.getString("DOCUSIGN_AUTO_ATTACH_MODE", "individual").trim());
+
+            // Attachments are authored by the user whose token fetched them.
+            authContext = ComponentAccessor.getJiraAuthenticationContext();
+            if (authContext != null) {
+                authContext.setLoggedInUser(tokenUser);
+            }
+            final String token = accessToken;
+            JsonArray attached = DocusignRequestScheduler.runInBackground(() ->
+                    attachService.attachSigned(issue, job.envelopeId, token, restBase, accountId, combined));
+            if (attached.size() == 0) {
+                throw new IllegalStateException("No signed documents could be attached");
+            }
+            DocusignAoStore.completeAttachJob(job.id);
+            log.info("Auto-attached {} signed document(s) to {} for envelope {}", attached.size(), job.issueKey, job.envelopeId);
+            return true;
+        } catch (Exception e) {
+            String msg = e.getMessage() != null ? e.getMessage() : e.toString();
+            try {
+                if (job.attempts >= DocusignConfig.getInt("DOCUSIGN_AUTO_ATTACH_MAX_ATTEMPTS", 5)) {
+                    DocusignAoStore.failAttachJob(job.id, msg);
+                    log.warn("Giving up auto-attach for {} envelope {} after {} attempts: {}", job.issueKey, job.envelopeId, job.attempts, msg);
+                } else {
+                    long delayMs = Math.min(MAX_RETRY_DELAY_MS, (long) DocusignConfig.getInt("DOCUSIGN_AUTO_ATTACH_RETRY_BASE_MS", 60_000) << Math.min(20, job.attempts - 1));
+                    DocusignAoStore.retryAttachJob(job.id, msg, System.currentTimeMillis() + delayMs);
+                    log.debug("Auto-attach for {} envelope {} failed (attempt {}), retrying in {} ms: {}", job.issueKey, job.envelopeId, job.attempts, delayMs, msg);
+                }
+            } catch (Exception storeEx) {
+                log.warn("Failed to record auto-attach failure for {}: {}", job.issueKey, storeEx.getMessage());
+            }
+            return false;
+        } finally {
+            if (authContext != null) {
+                try {
+                    authContext.clearLoggedInUser();
+                } catch (Exception ignore) {
+                    // ignore cleanup errors
+                }
+            }
+            if (threadLocalUtil != null) {
+                try {
+                    threadLocalUtil.postCall();
+                } catch (Exception ignore) {
+                    // ignore cleanup errors
+                }
+            }
+        }
+    }
+
+    private static ApplicationUser resolveServiceUser(UserManager userManager) {
+        String configured = DocusignConfig.getString("DOCUSIGN_SERVICE_USER", null);
+        if (configured == null || configured.trim().isEmpty()) return null;
+        String v = configured.trim();
+        ApplicationUser user = userManager.getUserByKey(v);
+        return user != null ? user : userManager.getUserByName(v);
+    }
+
+    private static boolean isEnabled() {
+        String v = DocusignConfig.getString("DOCUSIGN_AUTO_ATTACH_ENABLED", "true");
+        return v == null || !"false".equalsIgnoreCase(v.trim());
+    }
+
+    private static String firstNonBlank(String a, String b) {
+        if (a != null && !a.trim().isEmpty()) return a.trim();
+        if (b != null && !b.trim().isEmpty()) return b.trim();
+        return null;
+    }
+}
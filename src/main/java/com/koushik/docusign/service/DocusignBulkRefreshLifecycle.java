@@ -0,0 +1,17 @@
+package com.koushik.docusign.service;
+
+import javax.annotation.PreDestroy;
+import javax.inject.Named;
+
+/**
+ * Ties {@link DocusignBulkRefreshService}'s worker threads to the plugin lifecycle, so a disable / upgrade doesn't
+ * leave a job running against the old bundle. Stopped jobs keep their checkpoint and can be resumed.
+ */
+@Named
+public class DocusignBulkRefreshLifecycle {
+
+    @PreDestroy
+    public void onStop() {
+        DocusignBulkRefreshService.shutdown();
+    }
+}
@@ -0,0 +1,602 @@
+package com.koushik.docusign.service;
+
+import com.atlassian.beehive.ClusterLock;
+import com.atlassian.beehive.ClusterLockService;
+import com.atlassian.jira.bc.issue.search.SearchService;
+import com.atlassian.jira.component.ComponentAccessor;
+import com.atlassian.jira.issue.Issue;
+import com.atlassian.jira.issue.search.SearchResults;
+import com.atlassian.jira.user.ApplicationUser;
+import com.atlassian.jira.util.thread.JiraThreadLocalUtil;
+import com.atlassian.jira.web.bean.PagerFilter;
+import com.atlassian.query.Query;
+import com.atlassian.sal.api.pluginsettings.PluginSettings;
+import com.atlassian.sal.api.pluginsettings.PluginSettingsFactory;
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.koushik.docusign.config.DocusignConfig;
+import com.koushik.docusign.http.DocusignRequestScheduler;
+import com.koushik.docusign.oauth.DocusignTokenStore;
+import com.koushik.docusign.persistence.DocusignAoStore;
+import com.koushik.docusign.persistence.DocusignAoStore.EnvelopeRef;
+import com.koushik.docusign.service.DocusignEnvelopeStatusService.EnvelopeStatusChange;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Re-syncs DocuSign state for every issue matched by a JQL query (e.g. after a webhook outage).
+ *
+ * Active envelopes are resolved from AO in bulk, statuses are fetched in batches via listStatusChanges and applied
+ * with bounded parallelism at background priority. Progress is checkpointed to plugin settings after each contiguous
+ * run of finished batches so an interrupted job (node restart, cancel) can be resumed from where it stopped; the
+ * checkpoint is deleted once a job completes.
+ *
+ * Only one job runs per cluster: the running job's id is recorded in plugin settings under a cluster lock, and a
+ * job whose checkpoint hasn't been updated for {@link #STALE_RUNNING_MS} is assumed lost. Workers are stopped when
+ * the plugin is disabled (see {@link DocusignBulkRefreshLifecycle}); the job then reads as interrupted and resumable.
+ */
+public final class DocusignBulkRefreshService {
+
+    private static final Logger log = LoggerFactory.getLogger(DocusignBulkRefreshService.class);
+    private static final String PLUGIN_KEY = "com.koushik.docusign.jira-docusign-plugin";
+    private static final String PREFIX = PLUGIN_KEY + ".bulkRefresh.";
+    private static final String ACTIVE_KEY = PREFIX + "active";
+    private static final String START_LOCK = "com.koushik.docusign.bulkRefresh.start";
+    // A running job whose checkpoint is older than this is assumed lost (node restart).
+    private static final long STALE_RUNNING_MS = 15 * 60_000L;
+    private static final Gson GSON = new Gson();
+    private static final Map<String, Job> JOBS = new ConcurrentHashMap<>();
+
+    private DocusignBulkRefreshService() {}
+
+    public enum State {
+        QUEUED,
+        RESOLVING,
+        RUNNING,
+        COMPLETED,
+        FAILED,
+        INTERRUPTED
+    }
+
+    /**
+     * Start a new bulk refresh, or resume {@code resumeJobId} from its checkpoint.
+     *
+     * @throws IllegalArgumentException when the JQL is invalid or the checkpoint does not exist
+     * @throws IllegalStateException    when another bulk refresh is already running
+     */
+    public static synchronized Job start(ApplicationUser user, String jql, boolean includeFinal, String resumeJobId,
+                                         String restBase, String accountId) {
+        ClusterLock lock = startLock();
+        if (lock != null) {
+            lock.lock();
+        }
+        try {
+            return startLocked(user, jql, includeFinal, resumeJobId, restBase, accountId);
+        } finally {
+            if (lock != null) {
+                lock.unlock();
+            }
+        }
+    }
+
+    private static Job startLocked(ApplicationUser user, String jql, boolean includeFinal, String resumeJobId,
+                                   String restBase, String accountId) {
+        for (Job j : JOBS.values()) {
+            if (!j.isFinished()) {
+                throw new IllegalStateException("A bulk refresh is already running (jobId=" + j.jobId + ")");
+            }
+        }
+        String activeId = readActiveJobId();
+        if (activeId != null) {
+            Checkpoint active = readCheckpoint(activeId);
+            if (active != null && isRunningState(active.state)
+                    && System.currentTimeMillis() - active.updatedAtMs < STALE_RUNNING_MS) {
+                throw new IllegalStateException("A bulk refresh is already running on another node (jobId=" + activeId + ")");
+            }
+        }
+        // Only the latest finished job stays reportable from memory; older ones fall back to their checkpoint.
+        JOBS.values().removeIf(Job::isFinished);
+
+        Checkpoint cp;
+        if (resumeJobId != null && !resumeJobId.trim().isEmpty()) {
+            cp = readCheckpoint(resumeJobId.trim());
+            if (cp == null) {
+                throw new IllegalArgumentException("No checkpoint found for jobId " + resumeJobId.trim());
+            }
+        } else {
+            if (jql == null || jql.trim().isEmpty()) {
+                throw new IllegalArgumentException("jql is required");
+            }
+            cp = new Checkpoint();
+            cp.jobId = UUID.randomUUID().toString();
+            cp.jql = jql.trim();
+            cp.includeFinal = includeFinal;
+        }
+        cp.userKey = user.getKey();
+
+        SearchService.ParseResult parsed = searchService().parseQuery(user, cp.jql);
+        if (!parsed.isValid()) {
+            throw new IllegalArgumentException("Invalid JQL: " + parsed.getErrors().getErrorMessages());
+        }
+
+        Job job = new Job(cp, user, parsed.getQuery(), restBase, accountId);
+        JOBS.put(job.jobId, job);
+        cp.state = State.QUEUED.name();
+        cp.updatedAtMs = System.currentTimeMillis();
+        writeCheckpoint(cp);
+        writeActiveJobId(job.jobId);
+
+        Thread t = new Thread(job::run, "docusign-bulk-refresh-" + job.jobId.substring(0, 8));
+        t.setDaemon(true);
+        job.runner = t;
+        t.start();
+        return job;
+    }
+
+    /**
+     * Stop every job running on this node (plugin disable / upgrade). Jobs are left INTERRUPTED with their checkpoint,
+     * so they can be resumed.
+     */
+    static void shutdown() {
+        for (Job job : JOBS.values()) {
+            job.stop();
+        }
+        for (Job job : JOBS.values()) {
+            Thread t = job.runner;
+            if (t == null) continue;
+            try {
+                t.join(5_000L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        JOBS.clear();
+    }
+
+    /**
+     * Progress for a job; falls back to the persisted checkpoint when the job is not running on this node.
+     */
+    public static JsonObject progress(String jobId) {
+        if (jobId == null || jobId.trim().isEmpty()) return null;
+        Job job = JOBS.get(jobId.trim());
+        if (job != null) {
+            return job.toJson();
+        }
+        Checkpoint cp = readCheckpoint(jobId.trim());
+        if (cp == null) return null;
+        JsonObject obj = GSON.toJsonTree(cp).getAsJsonObject();
+        if (isRunningState(cp.state)) {
+            // Persisted as running but no live job here: the node was restarted mid-run.
+            obj.addProperty("state", State.INTERRUPTED.name());
+        }
+        obj.addProperty("resumable", !State.COMPLETED.name().equals(cp.state));
+        return obj;
+    }
+
+    public static final class Job {
+        private final String jobId;
+        private final Checkpoint cp;
+        private final ApplicationUser user;
+        private final Query query;
+        private final String restBase;
+        private final String accountId;
+
+        private volatile State state = State.QUEUED;
+        private volatile int totalIssues;
+        private volatile int totalEnvelopes;
+        private volatile int skippedFinal;
+        private volatile int skippedByCheckpoint;
+        private final AtomicInteger processed = new AtomicInteger();
+        private final AtomicInteger changed = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private final AtomicInteger failedBatches = new AtomicInteger();
+        private volatile String lastError;
+        private final long startedAtMs = System.currentTimeMillis();
+        private volatile long finishedAtMs;
+        private volatile boolean stopped;
+        private volatile Thread runner;
+        private volatile ExecutorService pool;
+
+        private Job(Checkpoint cp, ApplicationUser user, Query query, String restBase, String accountId) {
+            this.jobId = cp.jobId;
+            this.cp = cp;
+            this.user = user;
+            this.query = query;
+            this.restBase = restBase;
+            this.accountId = accountId;
+        }
+
+        public String getJobId() {
+            return jobId;
+        }
+
+        boolean isFinished() {
+            return state == State.COMPLETED || state == State.FAILED || state == State.INTERRUPTED;
+        }
+
+        private void stop() {
+            stopped = true;
+            ExecutorService p = pool;
+            if (p != null) {
+                p.shutdownNow();
+            }
+            Thread t = runner;
+            if (t != null) {
+                t.interrupt();
+            }
+        }
+
+        private void run() {
+            withJiraThreadLocals(() -> {
+                try {
+                    setState(State.RESOLVING);
+                    List<EnvelopeRef> refs = resolveEnvelopes();
+                    totalEnvelopes = refs.size();
+                    setState(State.RUNNING);
+                    refreshAll(refs);
+                    // Failed batches don't advance the checkpoint; leave the job resumable.
+                    state = stopped ? State.INTERRUPTED : failedBatches.get() > 0 ? State.FAILED : State.COMPLETED;
+                } catch (Exception e) {
+                    if (stopped) {
+                        log.info("DocuSign bulk refresh {} stopped; resumable from its checkpoint", jobId);
+                        state = State.INTERRUPTED;
+                    } else {
+                        lastError = e.getMessage() != null ? e.getMessage() : e.toString();
+                        log.error("DocuSign bulk refresh {} failed: {}", jobId, lastError, e);
+                        state = State.FAILED;
+                    }
+                } finally {
+                    // Clear a stop() interrupt so the final checkpoint write and lock aren't aborted by it.
+                    Thread.interrupted();
+                    finishedAtMs = System.currentTimeMillis();
+                    if (state == State.COMPLETED) {
+                        // Nothing left to resume.
+                        deleteCheckpoint(jobId);
+                    } else {
+                        writeProgress();
+                    }
+                    clearActiveJobId(jobId);
+                }
+            });
+        }
+
+        private List<EnvelopeRef> resolveEnvelopes() throws Exception {
+            int maxIssues = DocusignConfig.getInt("DOCUSIGN_BULK_REFRESH_MAX_ISSUES", 10_000);
+            int pageSize = 500;
+            List<String> issueKeys = new ArrayList<>();
+            SearchService search = searchService();
+            for (int start = 0; issueKeys.size() < maxIssues; start += pageSize) {
+                SearchResults<Issue> page = search.search(user, query, PagerFilter.newPageAlignedFilter(start, pageSize));
+                List<Issue> results = page != null ? page.getResults() : null;
+                if (results == null || results.isEmpty()) break;
+                for (Issue issue : results) {
+                    if (issueKeys.size() >= maxIssues) break;
+                    issueKeys.add(issue.getKey());
+                }
+                if (results.size() < pageSize) break;
+            }
+            totalIssues = issueKeys.size();
+
+            List<EnvelopeRef> refs = new ArrayList<>();
+            int finals = 0;
+            int done = 0;
+            for (EnvelopeRef ref : DocusignAoStore.loadActiveEnvelopes(issueKeys)) {
+                if (!cp.includeFinal && isFinalStatus(ref.status)) {
+                    finals++;
+                    continue;
+                }
+                if (cp.cursor != null && ref.envelopeId.compareTo(cp.cursor) <= 0) {
+                    done++;
+                    continue;
+                }
+                refs.add(ref);
+            }
+            skippedFinal = finals;
+            skippedByCheckpoint = done;
+            // Stable order so the checkpoint cursor (last finished envelopeId) is meaningful on resume.
+            refs.sort(Comparator.comparing(r -> r.envelopeId));
+            return refs;
+        }
+
+        private void refreshAll(List<EnvelopeRef> refs) throws Exception {
+            int batchSize = Math.max(1, Math.min(100, DocusignConfig.getInt("DOCUSIGN_BULK_REFRESH_BATCH_SIZE", 50)));
+            int parallelism = Math.max(1, DocusignConfig.getInt("DOCUSIGN_BULK_REFRESH_PARALLELISM", 4));
+
+            List<List<EnvelopeRef>> batches = new ArrayList<>();
+            for (int i = 0; i < refs.size(); i += batchSize) {
+                batches.add(refs.subList(i, Math.min(refs.size(), i + batchSize)));
+            }
+            boolean[] finished = new boolean[batches.size()];
+            int[] contiguous = {0};
+
+            ExecutorService pool = Executors.newFixedThreadPool(parallelism, r -> {
+                Thread t = new Thread(r, "docusign-bulk-refresh-worker");
+                t.setDaemon(true);
+                return t;
+            });
+            this.pool = pool;
+            if (stopped) {
+                pool.shutdownNow();
+            }
+            try {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int i = 0; i < batches.size(); i++) {
+                    final int idx = i;
+                    final List<EnvelopeRef> batch = batches.get(i);
+                    futures.add(pool.submit(() -> {
+                        boolean[] ok = {false};
+                        withJiraThreadLocals(() -> ok[0] = refreshBatch(batch));
+                        if (!ok[0]) {
+                            failedBatches.incrementAndGet();
+                            return null;
+                        }
+                        synchronized (finished) {
+                            finished[idx] = true;
+                            while (contiguous[0] < finished.length && finished[contiguous[0]]) {
+                                contiguous[0]++;
+                            }
+                            if (contiguous[0] > 0) {
+                                List<EnvelopeRef> last = batches.get(contiguous[0] - 1);
+                                cp.cursor = last.get(last.size() - 1).envelopeId;
+                            }
+                            writeProgress();
+                        }
+                        return null;
+                    }));
+                }
+                for (Future<?> f : futures) {
+                    f.get();
+                }
+            } finally {
+                pool.shutdownNow();
+                this.pool = null;
+            }
+        }
+
+        /**
+         * Returns false when the batch as a whole failed (e.g. DocuSign unreachable) and should be retried on resume.
+         */
+        private boolean refreshBatch(List<EnvelopeRef> batch) {
+            Map<String, EnvelopeRef> byId = new HashMap<>();
+            List<String> ids = new ArrayList<>();
+            for (EnvelopeRef ref : batch) {
+                byId.put(ref.envelopeId, ref);
+                ids.add(ref.envelopeId);
+            }
+            try {
+                List<EnvelopeStatusChange> changes = DocusignRequestScheduler.runInBackground(() -> {
+                    String token = DocusignTokenStore.getValidAccessToken(user, null);
+                    if (token == null || token.trim().isEmpty()) {
+                        throw new IllegalStateException("DocuSign is not connected or token expired for " + user.getName());
+                    }
+                    return new DocusignEnvelopeStatusService(restBase, accountId).listStatusChanges(ids, token);
+                });
+                for (EnvelopeStatusChange c : changes) {
+                    EnvelopeRef ref = byId.remove(c.getEnvelopeId());
+                    if (ref == null) continue;
+                    try {
+                        DocusignAoStore.recordStatusUpdate(ref.issueKey, ref.envelopeId, c.getStatus(), c.getRecipients(), "status.refresh-bulk", null);
+                        if ("completed".equalsIgnoreCase(c.getStatus())) {
+                            DocusignAutoAttachJob.enqueue(ref.issueKey, ref.envelopeId);
+                        }
+                        if (ref.status == null || !ref.status.equalsIgnoreCase(c.getStatus())) {
+                            changed.incrementAndGet();
+                        }
+                        processed.incrementAndGet();
+                    } catch (Exception e) {
+                        failed.incrementAndGet();
+                        lastError = ref.issueKey + ": " + e.getMessage();
+                        log.warn("DocuSign bulk refresh {} failed to store status for {}: {}", jobId, ref.issueKey, e.getMessage());
+                    }
+                }
+                // Envelopes DocuSign didn't return (deleted / other account).
+                failed.addAndGet(byId.size());
+                return true;
+            } catch (Exception e) {
+                failed.addAndGet(batch.size());
+                lastError = e.getMessage() != null ? e.getMessage() : e.toString();
+                log.warn("DocuSign bulk refresh {} batch failed: {}", jobId, lastError);
+                return false;
+            }
+        }
+
+        private void setState(State s) {
+            state = s;
+            writeProgress();
+        }
+
+        private void writeProgress() {
+            cp.state = state.name();
+            cp.totalIssues = totalIssues;
+            cp.totalEnvelopes = totalEnvelopes;
+            cp.processed = processed.get();
+            cp.changed = changed.get();
+            cp.failed = failed.get();
+            cp.lastError = lastError;
+            cp.updatedAtMs = System.currentTimeMillis();
+            try {
+                writeCheckpoint(cp);
+            } catch (Exception e) {
+                log.debug("Failed to persist bulk refresh checkpoint {}: {}", jobId, e.getMessage());
+            }
+        }
+
+        JsonObject toJson() {
+            JsonObject obj = new JsonObject();
+            obj.addProperty("jobId", jobId);
+            obj.addProperty("jql", cp.jql);
+            obj.addProperty("state", state.name());
+            obj.addProperty("totalIssues", totalIssues);
+            obj.addProperty("totalEnvelopes", totalEnvelopes);
+            obj.addProperty("skippedFinal", skippedFinal);
+            obj.addProperty("skippedByCheckpoint", skippedByCheckpoint);
+            obj.addProperty("processed", processed.get());
+            obj.addProperty("changed", changed.get());
+            obj.addProperty("failed", failed.get());
+            obj.addProperty("failedBatches", failedBatches.get());
+            int total = totalEnvelopes;
+            int done = processed.get() + failed.get();
+            obj.addProperty("percent", total > 0 ? Math.min(100, (done * 100) / total) : (isFinished() ? 100 : 0));
+            obj.addProperty("cursor", cp.cursor);
+            obj.addProperty("startedAtMs", startedAtMs);
+            obj.addProperty("finishedAtMs", finishedAtMs);
+            if (lastError != null) {
+                obj.addProperty("lastError", lastError);
+            }
+            obj.addProperty("resumable", isFinished() && state != State.COMPLETED);
+            return obj;
+        }
+    }
+
+    private static final class Checkpoint {
+        String jobId;
+        String jql;
+        String userKey;
+        boolean includeFinal;
+        // Last envelopeId (in sorted order) up to which every batch has been applied.
+        String cursor;
+        String state;
+        int totalIssues;
+        int totalEnvelopes;
+        int processed;
+        int changed;
+        int failed;
+        String lastError;
+        long updatedAtMs;
+    }
+
+    private static boolean isRunningState(String state) {
+        return State.RUNNING.name().equals(state) || State.RESOLVING.name().equals(state) || State.QUEUED.name().equals(state);
+    }
+
+    private static boolean isFinalStatus(String status) {
+        if (status == null) return false;
+        String s = status.trim().toLowerCase(Locale.ROOT);
+        return "completed".equals(s) || "declined".equals(s) || "voided".equals(s);
+    }
+
+    /**
+     * Jira thread-locals aren't set up on our own threads; some entity/property code relies on them.
+     */
+    private static void withJiraThreadLocals(Runnable work) {
+        JiraThreadLocalUtil threadLocalUtil = null;
+        try {
+            threadLocalUtil = ComponentAccessor.getComponent(JiraThreadLocalUtil.class);
+            if (threadLocalUtil != null) {
+                threadLocalUtil.preCall();
+            }
+        } catch (Exception ignore) {
+            threadLocalUtil = null;
+        }
+        try {
+            work.run();
+        } finally {
+            if (threadLocalUtil != null) {
+                try {
+                    threadLocalUtil.postCall();
+                } catch (Exception ignore) {
+                    // ignore cleanup errors
+                }
+            }
+        }
+    }
+
+    private static SearchService searchService() {
+        return ComponentAccessor.getComponent(SearchService.class);
+    }
+
+    private static Checkpoint readCheckpoint(String jobId) {
+        PluginSettings settings = getGlobalSettings();
+        if (settings == null) return null;
+        Object raw = settings.get(PREFIX + jobId);
+        if (raw == null) return null;
+        try {
+            return GSON.fromJson(String.valueOf(raw), Checkpoint.class);
+        } catch (Exception ignore) {
+            return null;
+        }
+    }
+
+    private static void writeCheckpoint(Checkpoint cp) {
+        PluginSettings settings = getGlobalSettings();
+        if (settings == null) return;
+        settings.put(PREFIX + cp.jobId, GSON.toJson(cp));
+    }
+
+    private static void deleteCheckpoint(String jobId) {
+        PluginSettings settings = getGlobalSettings();
+        if (settings == null) return;
+        try {
+            settings.remove(PREFIX + jobId);
+        } catch (Exception e) {
+            log.debug("Failed to delete bulk refresh checkpoint {}: {}", jobId, e.getMessage());
+        }
+    }
+
+    private static String readActiveJobId() {
+        PluginSettings settings = getGlobalSettings();
+        if (settings == null) return null;
+        Object raw = settings.get(ACTIVE_KEY);
+        return raw != null && !String.valueOf(raw).trim().isEmpty() ? String.valueOf(raw).trim() : null;
+    }
+
+    private static void writeActiveJobId(String jobId) {
+        PluginSettings settings = getGlobalSettings();
+        if (settings == null) return;
+        settings.put(ACTIVE_KEY, jobId);
+    }
+
+    private static void clearActiveJobId(String jobId) {
+        ClusterLock lock = startLock();
+        if (lock != null) {
+            lock.lock();
+        }
+        try {
+            if (jobId.equals(readActiveJobId())) {
+                PluginSettings settings = getGlobalSettings();
+                if (settings != null) {
+                    settings.remove(ACTIVE_KEY);
+                }
+            }
+        } catch (Exception e) {
+            log.debug("Failed to clear active bulk refresh {}: {}", jobId, e.getMessage());
+        } finally {
+            if (lock != null) {
+                lock.unlock();
+            }
+        }
+    }
+
+    private static ClusterLock startLock() {
+        try {
+            ClusterLockService service = ComponentAccessor.getComponent(ClusterLockService.class);
+            return service != null ? service.getLockForName(START_LOCK) : null;
+        } catch (Exception ignore) {
+            return null;
+        }
+    }
+
+    private static PluginSettings getGlobalSettings() {
+        try {
+            PluginSettingsFactory factory = ComponentAccessor.getOSGiComponentInstanceOfType(PluginSettingsFactory.class);
+            if (factory == null) return null;
+            return factory.createGlobalSettings();
+        } catch (Exception ignore) {
+            return null;
+        }
+    }
+}
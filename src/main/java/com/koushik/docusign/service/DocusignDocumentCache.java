@@ -0,0 +1,394 @@
+package com.koushik.docusign.service;
+
+import com.atlassian.jira.component.ComponentAccessor;
+import com.atlassian.jira.config.util.JiraHome;
+import com.google.gson.Gson;
+import com.koushik.docusign.config.DocusignConfig;
+import com.koushik.docusign.oauth.ExpiringLruCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * On-disk, content-addressed cache of signed documents of completed envelopes (which DocuSign never changes).
+ *
+ * Layout under {@code <jira.shared.home>/docusign-plugin/cache}:
+ *   blobs/ab/abcdef...   document bytes, named by SHA-256 (identical documents are stored once)
+ *   index/<key>.json     (accountId, envelopeId, documentId) -> {hash, contentType, size}
+ *
+ * Blob modification time is bumped on every hit and the least recently used blobs are deleted once the cache grows
+ * past {@code DOCUSIGN_DOC_CACHE_MAX_BYTES}; eviction also deletes the index files that pointed at them. An index
+ * entry whose blob was evicted by another node reads as a miss and is deleted then.
+ * The shared home keeps the cache valid for every node of a Data Center cluster.
+ *
+ * Index entries read from disk are kept in a bounded in-memory LRU so hot documents don't re-read their JSON.
+ *
+ * Config (plugin setting / -D / env):
+ *   DOCUSIGN_DOC_CACHE_ENABLED         (default true)
+ *   DOCUSIGN_DOC_CACHE_MAX_BYTES       (default 1073741824)
+ *   DOCUSIGN_DOC_CACHE_INDEX_ENTRIES   (default 10000)
+ */
+public final class DocusignDocumentCache {
+
+    private static final Logger log = LoggerFactory.getLogger(DocusignDocumentCache.class);
+    private static final Gson GSON = new Gson();
+    private static final long DEFAULT_MAX_BYTES = 1024L * 1024L * 1024L;
+    // Don't rewrite mtime on every hit of a hot document.
+    private static final long TOUCH_INTERVAL_MS = 60_000L;
+
+    private static final long INDEX_TTL_MS = TimeUnit.HOURS.toMillis(1);
+
+    private static final ExpiringLruCache<String, IndexEntry> INDEX =
+            new ExpiringLruCache<>(DocusignConfig.getInt("DOCUSIGN_DOC_CACHE_INDEX_ENTRIES", 10_000));
+    private static final AtomicLong TOTAL_BYTES = new AtomicLong(-1L);
+    private static final Object EVICT_LOCK = new Object();
+    private static volatile Path root;
+
+    private DocusignDocumentCache() {}
+
+    /**
+     * A cached document. The file must be treated as read-only; it may be shared by several index entries.
+     */
+    public static final class CachedDocument {
+        public final File file;
+        public final long size;
+        public final String hash;
+        public final String contentType;
+
+        private CachedDocument(File file, long size, String hash, String contentType) {
+            this.file = file;
+            this.size = size;
+            this.hash = hash;
+            this.contentType = contentType;
+        }
+
+        /**
+         * Copy {@code length} bytes starting at {@code offset} to {@code out} with {@link FileChannel#transferTo},
+         * letting the OS move the bytes without copying them through the Java heap.
+         */
+        public void transferTo(OutputStream out, long offset, long length) throws IOException {
+            try (FileChannel ch = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+                WritableByteChannel target = Channels.newChannel(out);
+                long pos = offset;
+                long end = offset + length;
+                while (pos < end) {
+                    long n = ch.transferTo(pos, end - pos, target);
+                    if (n <= 0) {
+                        break;
+                    }
+                    pos += n;
+                }
+            }
+            out.flush();
+        }
+    }
+
+    private static final class IndexEntry {
+        String hash;
+        String contentType;
+        long size;
+    }
+
+    public static boolean isEnabled() {
+        String v = DocusignConfig.getString("DOCUSIGN_DOC_CACHE_ENABLED", "true");
+        return v == null || !"false".equalsIgnoreCase(v.trim());
+    }
+
+    /**
+     * @return the cached document, or null on a miss (or when the cache is unavailable)
+     */
+    public static CachedDocument lookup(String accountId, String envelopeId, String documentId) {
+        Path dir = root();
+        if (dir == null) return null;
+        String key = indexKey(accountId, envelopeId, documentId);
+        try {
+            IndexEntry entry = INDEX.get(key);
+            if (entry == null) {
+                Path ref = indexFile(dir, key);
+                if (!Files.isRegularFile(ref)) return null;
+                entry = GSON.fromJson(new String(Files.readAllBytes(ref), StandardCharsets.UTF_8), IndexEntry.class);
+                if (entry == null || entry.hash == null) return null;
+                INDEX.put(key, entry, System.currentTimeMillis() + INDEX_TTL_MS);
+            }
+            Path blob = blobFile(dir, entry.hash);
+            if (!Files.isRegularFile(blob)) {
+                // Evicted (possibly by another node).
+                INDEX.remove(key);
+                Files.deleteIfExists(indexFile(dir, key));
+                return null;
+            }
+            touch(blob);
+            return new CachedDocument(blob.toFile(), Files.size(blob), entry.hash, entry.contentType);
+        } catch (Exception e) {
+            log.debug("DocuSign document cache lookup failed for {}/{}: {}", envelopeId, documentId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Copy {@code source} into the cache and index it under (accountId, envelopeId, documentId).
+     * Only call this for documents of completed envelopes. The source file is left in place.
+     *
+     * @return the cached document, or null when the cache is unavailable
+     */
+    public static CachedDocument store(String accountId, String envelopeId, String documentId, File source, String contentType) {
+        Path dir = root();
+        if (dir == null || source == null) return null;
+        String key = indexKey(accountId, envelopeId, documentId);
+        try {
+            String hash = sha256Hex(source.toPath());
+            Path blob = blobFile(dir, hash);
+            if (!Files.isRegularFile(blob)) {
+                Files.createDirectories(blob.getParent());
+                Path tmp = Files.createTempFile(dir.resolve("tmp"), "blob-", ".part");
+                try {
+                    Files.copy(source.toPath(), tmp, StandardCopyOption.REPLACE_EXISTING);
+                    moveAtomically(tmp, blob);
+                    addBytes(dir, Files.size(blob));
+                } finally {
+                    Files.deleteIfExists(tmp);
+                }
+            } else {
+                touch(blob);
+            }
+
+            IndexEntry entry = new IndexEntry();
+            entry.hash = hash;
+            entry.contentType = contentType;
+            entry.size = Files.size(blob);
+            Path ref = indexFile(dir, key);
+            Path tmpRef = Files.createTempFile(dir.resolve("tmp"), "ref-", ".part");
+            try {
+                Files.write(tmpRef, GSON.toJson(entry).getBytes(StandardCharsets.UTF_8));
+                moveAtomically(tmpRef, ref);
+            } finally {
+                Files.deleteIfExists(tmpRef);
+            }
+            INDEX.put(key, entry, System.currentTimeMillis() + INDEX_TTL_MS);
+
+            evictIfNeeded(dir);
+            return Files.isRegularFile(blob) ? new CachedDocument(blob.toFile(), entry.size, hash, contentType) : null;
+        } catch (Exception e) {
+            log.warn("Failed to cache DocuSign document {}/{}: {}", envelopeId, documentId, e.getMessage());
+            return null;
+        }
+    }
+
+    private static Path root() {
+        Path r = root;
+        if (r != null) return r;
+        synchronized (DocusignDocumentCache.class) {
+            if (root != null) return root;
+            try {
+                File base = null;
+                JiraHome jiraHome = ComponentAccessor.getComponent(JiraHome.class);
+                if (jiraHome != null) {
+                    base = jiraHome.getSharedHome();
+                }
+                if (base == null) {
+                    base = new File(System.getProperty("java.io.tmpdir"));
+                }
+                Path dir = base.toPath().resolve("docusign-plugin").resolve("cache");
+                Files.createDirectories(dir.resolve("blobs"));
+                Files.createDirectories(dir.resolve("index"));
+                Files.createDirectories(dir.resolve("tmp"));
+                root = dir;
+            } catch (Exception e) {
+                log.warn("DocuSign document cache unavailable: {}", e.getMessage());
+                return null;
+            }
+            return root;
+        }
+    }
+
+    private static void addBytes(Path dir, long n) throws IOException {
+        if (TOTAL_BYTES.get() < 0) {
+            synchronized (EVICT_LOCK) {
+                if (TOTAL_BYTES.get() < 0) {
+                    long total = 0;
+                    for (BlobInfo b : listBlobs(dir)) {
+                        total += b.size;
+                    }
+                    TOTAL_BYTES.set(total);
+                    return;
+                }
+            }
+        }
+        TOTAL_BYTES.addAndGet(n);
+    }
+
+    private static void evictIfNeeded(Path dir) throws IOException {
+        long max = DocusignConfig.getLong("DOCUSIGN_DOC_CACHE_MAX_BYTES", DEFAULT_MAX_BYTES);
+        if (TOTAL_BYTES.get() <= max) return;
+        synchronized (EVICT_LOCK) {
+            // Rescan: other nodes share the directory, so the local counter is only an estimate.
+            List<BlobInfo> blobs = listBlobs(dir);
+            long total = 0;
+            for (BlobInfo b : blobs) {
+                total += b.size;
+            }
+            // Evict down to 90% so we don't rescan on every store at the boundary.
+            long target = max - max / 10;
+            blobs.sort(Comparator.comparingLong(b -> b.lastUsedMs));
+            int evicted = 0;
+            for (BlobInfo b : blobs) {
+                if (total <= target) break;
+                try {
+                    if (Files.deleteIfExists(b.path)) {
+                        total -= b.size;
+                        evicted++;
+                    }
+                } catch (IOException e) {
+                    log.debug("Failed to evict cached DocuSign document {}: {}", b.path, e.getMessage());
+                }
+            }
+            TOTAL_BYTES.set(total);
+            if (evicted > 0) {
+                int refs = deleteOrphanedIndexFiles(dir);
+                log.info("Evicted {} cached DocuSign document(s) and {} index entries; cache is now {} bytes",
+                        evicted, refs, total);
+            }
+        }
+    }
+
+    /**
+     * Delete index files whose blob no longer exists (evicted here or by another node). Caller holds {@link #EVICT_LOCK}.
+     */
+    private static int deleteOrphanedIndexFiles(Path dir) {
+        int deleted = 0;
+        try (DirectoryStream<Path> refs = Files.newDirectoryStream(dir.resolve("index"), "*.json")) {
+            for (Path ref : refs) {
+                try {
+                    IndexEntry entry = GSON.fromJson(new String(Files.readAllBytes(ref), StandardCharsets.UTF_8), IndexEntry.class);
+                    if (entry != null && entry.hash != null && Files.isRegularFile(blobFile(dir, entry.hash))) continue;
+                    if (Files.deleteIfExists(ref)) {
+                        String name = ref.getFileName().toString();
+                        INDEX.remove(name.substring(0, name.length() - ".json".length()));
+                        deleted++;
+                    }
+                } catch (NoSuchFileException ignore) {
+                    // deleted concurrently
+                } catch (Exception e) {
+                    log.debug("Failed to check cached DocuSign index entry {}: {}", ref, e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            log.debug("Failed to sweep DocuSign document cache index: {}", e.getMessage());
+        }
+        return deleted;
+    }
+
+    private static final class BlobInfo {
+        final Path path;
+        final long size;
+        final long lastUsedMs;
+
+        BlobInfo(Path path, long size, long lastUsedMs) {
+            this.path = path;
+            this.size = size;
+            this.lastUsedMs = lastUsedMs;
+        }
+    }
+
+    private static List<BlobInfo> listBlobs(Path dir) throws IOException {
+        List<BlobInfo> out = new ArrayList<>();
+        try (DirectoryStream<Path> shards = Files.newDirectoryStream(dir.resolve("blobs"))) {
+            for (Path shard : shards) {
+                if (!Files.isDirectory(shard)) continue;
+                try (DirectoryStream<Path> files = Files.newDirectoryStream(shard)) {
+                    for (Path f : files) {
+                        try {
+                            out.add(new BlobInfo(f, Files.size(f), Files.getLastModifiedTime(f).toMillis()));
+                        } catch (NoSuchFileException ignore) {
+                            // evicted concurrently
+                        }
+                    }
+                }
+            }
+        }
+        return out;
+    }
+
+    private static void touch(Path blob) {
+        try {
+            long now = System.currentTimeMillis();
+            if (now - Files.getLastModifiedTime(blob).toMillis() > TOUCH_INTERVAL_MS) {
+                Files.setLastModifiedTime(blob, FileTime.fromMillis(now));
+            }
+        } catch (Exception ignore) {
+        }
+    }
+
+    private static void moveAtomically(Path from, Path to) throws IOException {
+        try {
+            Files.move(from, to, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(from, to, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static Path blobFile(Path dir, String hash) {
+        return dir.resolve("blobs").resolve(hash.substring(0, 2)).resolve(hash);
+    }
+
+    private static Path indexFile(Path dir, String key) {
+        return dir.resolve("index").resolve(key + ".json");
+    }
+
+    private static String indexKey(String accountId, String envelopeId, String documentId) {
+        // Account is part of the key so a connected user of another account can't read documents by envelopeId.
+        String raw = nz(accountId) + "/" + nz(envelopeId) + "/" + nz(documentId);
+        try {
+            return hex(MessageDigest.getInstance("SHA-256").digest(raw.getBytes(StandardCharsets.UTF_8)));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String sha256Hex(Path file) throws Exception {
+        MessageDigest md = MessageDigest.getInstance("SHA-256");
+        byte[] buf = new byte[64 * 1024];
+        try (InputStream in = Files.newInputStream(file)) {
+            int n;
+            while ((n = in.read(buf)) != -1) {
+                md.update(buf, 0, n);
+            }
+        }
+        return hex(md.digest());
+    }
+
+    private static String hex(byte[] digest) {
+        StringBuilder sb = new StringBuilder(digest.length * 2);
+        for (byte b : digest) {
+            sb.append(Character.forDigit((b >>> 4) & 0xF, 16));
+            sb.append(Character.forDigit(b & 0xF, 16));
+        }
+        return sb.toString();
+    }
+
+    private static String nz(String s) {
+        return s != null ? s.trim() : "";
+    }
+}
@@ -4,14 +4,16 @@ import com.atlassian.jira.component.ComponentAccessor;
 import com.atlassian.jira.issue.Issue;
 import com.atlassian.jira.issue.AttachmentManager;
 import com.atlassian.jira.issue.attachment.Attachment;
+import com.atlassian.jira.issue.history.ChangeItemBean;
 import com.atlassian.jira.security.JiraAuthenticationContext;
 import com.atlassian.jira.user.ApplicationUser;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 
 /**
@@ -42,55 +44,49 @@ public class DocusignDocumentDownloadService {
         if (issue == null || pdfBytes == null) {
             return;
         }
+        attachPdfIfMissing(issue, pdfBytes, signedPdfFileName(issue, originalFilename));
+    }
 
-        // Prefer provided original filename, else fall back to first issue attachment name, else issue key
-        String baseName = (originalFilename != null && !originalFilename.trim().isEmpty())
-                ? originalFilename.trim()
-                : resolveFirstAttachmentName(issue);
-        if (baseName == null || baseName.trim().isEmpty()) {
-            baseName = issue.getKey();
-        }
-        String fileName = "Signed_" + baseName;
-        if (!fileName.toLowerCase().endsWith(".pdf")) {
-            fileName = fileName + ".pdf";
+    /**
+     * Same as {@link #attachSignedPdfIfMissing(Issue, byte[], String)} for a PDF already on disk.
+     * The file is not deleted; the caller owns it.
+     */
+    public void attachSignedPdfIfMissing(Issue issue, File pdfFile, String originalFilename) throws Exception {
+        if (issue == null || pdfFile == null) {
+            return;
         }
+        attachPdfIfMissing(issue, pdfFile, signedPdfFileName(issue, originalFilename));
+    }
 
-        attachPdfIfMissing(issue, pdfBytes, fileName);
+    /**
+     * Same as {@link #attachSignedPdfIfMissing(Issue, File, String)}, checking for duplicates against {@code index}.
+     *
+     * @return the new or already present attachment
+     */
+    public Attachment attachSignedPdfIfMissing(IssueAttachmentIndex index, File pdfFile, String originalFilename) throws Exception {
+        if (index == null || index.getIssue() == null || pdfFile == null) {
+            return null;
+        }
+        return attachFileIfMissing(index, pdfFile, signedPdfFileName(index.getIssue(), originalFilename), "application/pdf");
     }
 
     /**
      * Attach a PDF to an issue if an attachment with the same filename is not already present.
      */
     public boolean attachPdfIfMissing(Issue issue, byte[] pdfBytes, String fileName) throws Exception {
-        if (issue == null || pdfBytes == null) return false;
-        if (fileName == null || fileName.trim().isEmpty()) return false;
-        String targetName = fileName.trim();
+        return attachFileIfMissing(issue, pdfBytes, fileName, "application/pdf");
+    }
 
-        // Idempotency check: exact filename match only (supports multiple signed docs per issue).
-        List<Attachment> attachments = attachmentManager.getAttachments(issue);
-        if (attachments != null) {
-            for (Attachment att : attachments) {
-                if (att == null) continue;
-                String name = att.getFilename();
-                if (name == null) continue;
-                if (name.equalsIgnoreCase(targetName)) {
-                    log.info("Attachment already present for issue {}. Skipping duplicate: {}", issue.getKey(), name);
-                    return true;
-                }
-            }
-        }
+    /**
+     * Attach a PDF file to an issue if an attachment with the same filename is not already present.
+     * The file is not deleted; the caller owns it.
+     */
+    public boolean attachPdfIfMissing(Issue issue, File pdfFile, String fileName) throws Exception {
+        return attachFileIfMissing(issue, pdfFile, fileName, "application/pdf");
+    }
 
-        ApplicationUser user = authContext != null ? authContext.getLoggedInUser() : null;
-        File temp = writeTempFile(pdfBytes);
-        try {
-            attachmentManager.createAttachment(temp, targetName, "application/pdf", user, issue);
-            log.info("Attached PDF {} to issue {}", targetName, issue.getKey());
-            return true;
-        } finally {
-            if (temp != null && temp.exists()) {
-                temp.delete();
-            }
-        }
+    public Attachment attachPdfIfMissing(IssueAttachmentIndex index, File pdfFile, String fileName) throws Exception {
+        return attachFileIfMissing(index, pdfFile, fileName, "application/pdf");
     }
 
     /**
@@ -99,42 +95,89 @@ public class DocusignDocumentDownloadService {
     public boolean attachFileIfMissing(Issue issue, byte[] bytes, String fileName, String contentType) throws Exception {
         if (issue == null || bytes == null) return false;
         if (fileName == null || fileName.trim().isEmpty()) return false;
+        IssueAttachmentIndex index = IssueAttachmentIndex.build(issue, attachmentManager);
+        if (index.byFilename(fileName) != null) return true;
+
+        File temp = writeTempFile(bytes);
+        try {
+            return attachFileIfMissing(index, temp, fileName, contentType) != null;
+        } finally {
+            Files.deleteIfExists(temp.toPath());
+        }
+    }
+
+    /**
+     * Attach a file (e.g. a document streamed from DocuSign into a temp file) to the issue if an attachment with the
+     * same filename is not already present. The file is not deleted; the caller owns it.
+     */
+    public boolean attachFileIfMissing(Issue issue, File file, String fileName, String contentType) throws Exception {
+        if (issue == null || file == null) return false;
+        return attachFileIfMissing(IssueAttachmentIndex.build(issue, attachmentManager), file, fileName, contentType) != null;
+    }
+
+    /**
+     * Same as {@link #attachFileIfMissing(Issue, File, String, String)}, checking for duplicates against {@code index}
+     * (which is updated with the new attachment) instead of re-reading the issue's attachments.
+     *
+     * @return the new or already present attachment, or null when nothing could be attached
+     */
+    public Attachment attachFileIfMissing(IssueAttachmentIndex index, File file, String fileName, String contentType) throws Exception {
+        Issue issue = index != null ? index.getIssue() : null;
+        if (issue == null || file == null) return null;
+        if (fileName == null || fileName.trim().isEmpty()) return null;
         String targetName = fileName.trim();
         String mime = (contentType != null && !contentType.trim().isEmpty()) ? contentType.trim() : "application/octet-stream";
 
-        List<Attachment> attachments = attachmentManager.getAttachments(issue);
-        if (attachments != null) {
-            for (Attachment att : attachments) {
-                if (att == null) continue;
-                String name = att.getFilename();
-                if (name == null) continue;
-                if (name.equalsIgnoreCase(targetName)) {
-                    log.info("Attachment already present for issue {}. Skipping duplicate: {}", issue.getKey(), name);
-                    return true;
-                }
-            }
+        // Idempotency check: exact filename match only (supports multiple signed docs per issue).
+        Attachment existing = index.byFilename(targetName);
+        if (existing != null) {
+            log.info("Attachment already present for issue {}. Skipping duplicate: {}", issue.getKey(), existing.getFilename());
+            return existing;
         }
 
         ApplicationUser user = authContext != null ? authContext.getLoggedInUser() : null;
-        File temp = writeTempFile(bytes);
+        ChangeItemBean change = attachmentManager.createAttachment(file, targetName, mime, user, issue);
+        log.info("Attached file {} ({}) to issue {}", targetName, mime, issue.getKey());
+        Attachment created = loadCreatedAttachment(change, issue, targetName);
+        index.add(created);
+        return created;
+    }
+
+    private Attachment loadCreatedAttachment(ChangeItemBean change, Issue issue, String targetName) {
         try {
-            attachmentManager.createAttachment(temp, targetName, mime, user, issue);
-            log.info("Attached file {} ({}) to issue {}", targetName, mime, issue.getKey());
-            return true;
-        } finally {
-            if (temp != null && temp.exists()) {
-                temp.delete();
+            if (change != null && change.getTo() != null) {
+                return attachmentManager.getAttachment(Long.valueOf(change.getTo()));
             }
+        } catch (Exception e) {
+            log.debug("Unable to load new attachment {} on {} by id: {}", targetName, issue.getKey(), e.getMessage());
         }
+        return IssueAttachmentIndex.build(issue, attachmentManager).byFilename(targetName);
+    }
+
+    private String signedPdfFileName(Issue issue, String originalFilename) {
+        // Prefer provided original filename, else fall back to first issue attachment name, else issue key
+        String baseName = (originalFilename != null && !originalFilename.trim().isEmpty())
+                ? originalFilename.trim()
+                : resolveFirstAttachmentName(issue);
+        if (baseName == null || baseName.trim().isEmpty()) {
+            baseName = issue.getKey();
+        }
+        String fileName = "Signed_" + baseName;
+        if (!fileName.toLowerCase().endsWith(".pdf")) {
+            fileName = fileName + ".pdf";
+        }
+        return fileName;
     }
 
     private File writeTempFile(byte[] data) throws IOException {
-        File temp = File.createTempFile("docusign-signed-", ".pdf");
-        try (FileOutputStream fos = new FileOutputStream(temp)) {
-            fos.write(data);
-            fos.flush();
+        Path temp = Files.createTempFile("docusign-signed-", ".pdf");
+        try {
+            Files.write(temp, data);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
         }
-        return temp;
+        return temp.toFile();
     }
 
     private String resolveFirstAttachmentName(Issue issue) {
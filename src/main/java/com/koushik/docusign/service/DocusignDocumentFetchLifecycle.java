@@ -0,0 +1,17 @@
+package com.koushik.docusign.service;
+
+import javax.annotation.PreDestroy;
+import javax.inject.Named;
+
+/**
+ * Stops {@link DocusignDocumentFetchService}'s shared download pool with the plugin, so a disable / upgrade doesn't
+ * leave its threads pinning the old bundle.
+ */
+@Named
+public class DocusignDocumentFetchLifecycle {
+
+    @PreDestroy
+    public void onStop() {
+        DocusignDocumentFetchService.shutdown();
+    }
+}
@@ -2,6 +2,7 @@ package com.koushik.docusign.service;
 
 import com.koushik.docusign.config.DocusignConfig;
 import com.koushik.docusign.http.DocusignHttpClientFactory;
+import com.koushik.docusign.http.DocusignRequestScheduler;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
@@ -12,9 +13,25 @@ import org.apache.http.Header;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.util.EntityUtils;
 
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Service to fetch the final signed document (combined PDF) from DocuSign.
@@ -23,6 +40,10 @@ public class DocusignDocumentFetchService {
 
     private static final Gson GSON = new Gson();
 
+    // Shared across requests so concurrent attach calls can't multiply outbound connections without bound;
+    // shut down by DocusignDocumentFetchLifecycle when the plugin stops.
+    private static ExecutorService downloadPool;
+
     private final String accountId;
     private final String restBase;
 
@@ -101,7 +122,7 @@ public class DocusignDocumentFetchService {
             HttpGet get = new HttpGet(url);
             get.setHeader("Authorization", "Bearer " + accessToken.trim());
             get.setHeader("Accept", "application/json");
-            try (CloseableHttpResponse resp = client.execute(get)) {
+            try (CloseableHttpResponse resp = DocusignRequestScheduler.execute(client, get, accountId)) {
                 int code = resp.getStatusLine().getStatusCode();
                 String body = EntityUtils.toString(resp.getEntity(), StandardCharsets.UTF_8);
                 if (code < 200 || code >= 300) {
@@ -162,7 +183,7 @@ public class DocusignDocumentFetchService {
             if (accept != null && !accept.trim().isEmpty()) {
                 get.setHeader("Accept", accept.trim());
             }
-            try (CloseableHttpResponse resp = client.execute(get)) {
+            try (CloseableHttpResponse resp = DocusignRequestScheduler.execute(client, get, accountId)) {
                 int code = resp.getStatusLine().getStatusCode();
                 Header ct = resp.getFirstHeader("Content-Type");
                 Header cd = resp.getFirstHeader("Content-Disposition");
@@ -177,6 +198,317 @@ public class DocusignDocumentFetchService {
         }
     }
 
+    public boolean isEnvelopeCompleted(String envelopeId, String accessToken) throws Exception {
+        String status = new DocusignEnvelopeStatusService(restBase, accountId).getEnvelopeStatus(envelopeId, accessToken);
+        return status != null && status.equalsIgnoreCase("completed");
+    }
+
+    /**
+     * Combined signed PDF as an open stream (see {@link #openDocumentStream}). Throws if envelope is not completed.
+     */
+    public DocumentStream openSignedPdfStream(String envelopeId, String accessToken) throws Exception {
+        if (envelopeId == null || envelopeId.trim().isEmpty()) {
+            throw new IllegalArgumentException("envelopeId is required");
+        }
+        if (accessToken == null || accessToken.trim().isEmpty()) {
+            throw new IllegalArgumentException("accessToken is required");
+        }
+        requireCompleted(envelopeId, accessToken);
+        return openDocumentStream(envelopeId, "combined", accessToken, "application/pdf");
+    }
+
+    /**
+     * Throws {@link IllegalStateException} (with the current status) unless the envelope is completed.
+     */
+    public void requireCompleted(String envelopeId, String accessToken) throws Exception {
+        String status = new DocusignEnvelopeStatusService(restBase, accountId).getEnvelopeStatus(envelopeId, accessToken);
+        if (status == null || !status.equalsIgnoreCase("completed")) {
+            throw new IllegalStateException("Envelope is not completed; current status: " + status);
+        }
+    }
+
+    /**
+     * Open an envelope document without buffering it: the returned stream reads straight from the DocuSign response.
+     * The caller must close the {@link DocumentStream}, which releases the HTTP connection.
+     */
+    public DocumentStream openDocumentStream(String envelopeId, String documentId, String accessToken, String accept) throws Exception {
+        if (envelopeId == null || envelopeId.trim().isEmpty()) {
+            throw new IllegalArgumentException("envelopeId is required");
+        }
+        if (documentId == null || documentId.trim().isEmpty()) {
+            throw new IllegalArgumentException("documentId is required");
+        }
+        if (accessToken == null || accessToken.trim().isEmpty()) {
+            throw new IllegalArgumentException("accessToken is required");
+        }
+        String url = restBase + "/v2.1/accounts/" + accountId + "/envelopes/" + envelopeId.trim() + "/documents/" + documentId.trim();
+        CloseableHttpClient client = DocusignHttpClientFactory.create();
+        CloseableHttpResponse resp = null;
+        try {
+            HttpGet get = new HttpGet(url);
+            get.setHeader("Authorization", "Bearer " + accessToken.trim());
+            if (accept != null && !accept.trim().isEmpty()) {
+                get.setHeader("Accept", accept.trim());
+            }
+            resp = DocusignRequestScheduler.execute(client, get, accountId);
+            int code = resp.getStatusLine().getStatusCode();
+            if (code < 200 || code >= 300 || resp.getEntity() == null) {
+                throw new RuntimeException("HTTP " + code + " from DocuSign when downloading signed PDF");
+            }
+            Header ct = resp.getFirstHeader("Content-Type");
+            Header cd = resp.getFirstHeader("Content-Disposition");
+            DocumentStream ds = new DocumentStream(client, resp, resp.getEntity().getContent(),
+                    ct != null ? ct.getValue() : null,
+                    resp.getEntity().getContentLength(),
+                    cd != null ? cd.getValue() : null);
+            client = null;
+            resp = null;
+            return ds;
+        } finally {
+            if (resp != null) {
+                try { resp.close(); } catch (Exception ignore) {}
+            }
+            if (client != null) {
+                try { client.close(); } catch (Exception ignore) {}
+            }
+        }
+    }
+
+    /**
+     * Combined signed PDF downloaded into a temp file (see {@link #downloadEnvelopeDocumentToFile}).
+     * Throws if envelope is not completed.
+     */
+    public DownloadedFile downloadSignedPdfToFile(String envelopeId, String accessToken) throws Exception {
+        try (DocumentStream ds = openSignedPdfStream(envelopeId, accessToken)) {
+            return copyToTempFile(ds);
+        }
+    }
+
+    /**
+     * Download an envelope document straight from the HTTP entity into a temp file, so the document never sits in heap.
+     * The caller must close the returned {@link DownloadedFile}, which deletes the temp file.
+     */
+    public DownloadedFile downloadEnvelopeDocumentToFile(String envelopeId, String documentId, String accessToken, String accept) throws Exception {
+        try (DocumentStream ds = openDocumentStream(envelopeId, documentId, accessToken, accept)) {
+            return copyToTempFile(ds);
+        }
+    }
+
+    /**
+     * Download an envelope document into a temp file, trying the raw format first and falling back to PDF.
+     * Some DocuSign accounts/envelopes require an explicit Accept header; raw first keeps the "original" format,
+     * the PDF fallback still gets per-document files rather than combined-only.
+     */
+    public DownloadedFile downloadEnvelopeDocumentToFileWithFallback(String envelopeId, String documentId, String accessToken) throws Exception {
+        try {
+            return downloadEnvelopeDocumentToFile(envelopeId, documentId, accessToken, null);
+        } catch (Exception first) {
+            return downloadEnvelopeDocumentToFile(envelopeId, documentId, accessToken, "application/pdf");
+        }
+    }
+
+    /**
+     * Download several envelope documents concurrently (see {@link #downloadEnvelopeDocumentToFileWithFallback}).
+     *
+     * Work runs on a shared pool of {@code DOCUSIGN_DOWNLOAD_THREADS} threads with at most
+     * {@code DOCUSIGN_DOWNLOAD_PER_ENVELOPE_CONCURRENCY} documents of this envelope in flight, so wall-clock time
+     * tracks the slowest document rather than the sum. Results are returned in the order of {@code documentIds};
+     * failures are reported per document. The caller must close every returned file.
+     */
+    public List<DocumentDownload> downloadDocumentsToFiles(String envelopeId, List<String> documentIds, String accessToken) throws InterruptedException {
+        int n = documentIds != null ? documentIds.size() : 0;
+        DocumentDownload[] results = new DocumentDownload[n];
+        if (n == 0) return new ArrayList<>();
+
+        int cap = Math.max(1, DocusignConfig.getInt("DOCUSIGN_DOWNLOAD_PER_ENVELOPE_CONCURRENCY", 4));
+        DocusignRequestScheduler.Priority priority = DocusignRequestScheduler.currentPriority();
+        // Every file a task hands back is recorded here under the lock, so an abandoned call can close the files of
+        // tasks that finished after it stopped waiting; tasks finishing later see abandoned and close their own.
+        AtomicBoolean abandoned = new AtomicBoolean(false);
+        List<DownloadedFile> handedOver = new ArrayList<>();
+        List<Future<DocumentDownload>> futures = new ArrayList<>();
+        CompletionService<DocumentDownload> ecs = new ExecutorCompletionService<>(downloadPool());
+        int next = 0;
+        int inFlight = 0;
+        boolean ok = false;
+        try {
+            while (next < n || inFlight > 0) {
+                while (inFlight < cap && next < n) {
+                    final int idx = next++;
+                    final String docId = documentIds.get(idx);
+                    futures.add(ecs.submit(() -> {
+                        DownloadedFile file;
+                        try {
+                            file = priority == DocusignRequestScheduler.Priority.BACKGROUND
+                                    ? DocusignRequestScheduler.runInBackground(() -> downloadEnvelopeDocumentToFileWithFallback(envelopeId, docId, accessToken))
+                                    : downloadEnvelopeDocumentToFileWithFallback(envelopeId, docId, accessToken);
+                        } catch (Exception e) {
+                            return new DocumentDownload(idx, docId, null, e);
+                        }
+                        synchronized (handedOver) {
+                            if (abandoned.get()) {
+                                closeQuietly(file);
+                                return new DocumentDownload(idx, docId, null, null);
+                            }
+                            handedOver.add(file);
+                        }
+                        return new DocumentDownload(idx, docId, file, null);
+                    }));
+                    inFlight++;
+                }
+                DocumentDownload done;
+                try {
+                    done = ecs.take().get();
+                } catch (ExecutionException e) {
+                    throw new IllegalStateException("Document download task failed", e.getCause());
+                }
+                inFlight--;
+                results[done.index] = done;
+            }
+            ok = true;
+        } finally {
+            if (!ok) {
+                synchronized (handedOver) {
+                    abandoned.set(true);
+                    for (DownloadedFile f : handedOver) {
+                        closeQuietly(f);
+                    }
+                }
+                for (Future<DocumentDownload> f : futures) {
+                    f.cancel(true);
+                }
+            }
+        }
+        return new ArrayList<>(Arrays.asList(results));
+    }
+
+    /**
+     * Result of one document in {@link #downloadDocumentsToFiles}: either {@code file} or {@code error} is set.
+     */
+    public static final class DocumentDownload {
+        private final int index;
+        public final String documentId;
+        public final DownloadedFile file;
+        public final Exception error;
+
+        private DocumentDownload(int index, String documentId, DownloadedFile file, Exception error) {
+            this.index = index;
+            this.documentId = documentId;
+            this.file = file;
+            this.error = error;
+        }
+
+        public void closeQuietly() {
+            DocusignDocumentFetchService.closeQuietly(file);
+        }
+    }
+
+    private static void closeQuietly(DownloadedFile file) {
+        if (file == null) return;
+        try {
+            file.close();
+        } catch (Exception ignore) {
+        }
+    }
+
+    private static synchronized ExecutorService downloadPool() {
+        if (downloadPool == null || downloadPool.isShutdown()) {
+            int threads = Math.max(1, DocusignConfig.getInt("DOCUSIGN_DOWNLOAD_THREADS", 8));
+            AtomicInteger seq = new AtomicInteger();
+            downloadPool = Executors.newFixedThreadPool(threads, r -> {
+                Thread t = new Thread(r, "docusign-document-download-" + seq.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            });
+        }
+        return downloadPool;
+    }
+
+    /**
+     * Stop the shared download pool, interrupting downloads in flight. Called when the plugin stops.
+     */
+    static synchronized void shutdown() {
+        if (downloadPool != null) {
+            downloadPool.shutdownNow();
+            downloadPool = null;
+        }
+    }
+
+    private static DownloadedFile copyToTempFile(DocumentStream ds) throws IOException {
+        Path temp = Files.createTempFile("docusign-signed-", ".tmp");
+        try {
+            long size = Files.copy(ds.content, temp, StandardCopyOption.REPLACE_EXISTING);
+            byte[] head = new byte[8];
+            int n = 0;
+            try (InputStream in = Files.newInputStream(temp)) {
+                int r;
+                while (n < head.length && (r = in.read(head, n, head.length - n)) != -1) {
+                    n += r;
+                }
+            }
+            return new DownloadedFile(temp.toFile(), size, Arrays.copyOf(head, n), ds.contentType, ds.contentDisposition);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+    }
+
+    /**
+     * A document downloaded to a temp file. {@code head} holds the first bytes for content sniffing.
+     * Closing deletes the file.
+     */
+    public static final class DownloadedFile implements Closeable {
+        public final File file;
+        public final long size;
+        public final byte[] head;
+        public final String contentType;
+        public final String contentDisposition;
+
+        private DownloadedFile(File file, long size, byte[] head, String contentType, String contentDisposition) {
+            this.file = file;
+            this.size = size;
+            this.head = head;
+            this.contentType = contentType;
+            this.contentDisposition = contentDisposition;
+        }
+
+        @Override
+        public void close() throws IOException {
+            Files.deleteIfExists(file.toPath());
+        }
+    }
+
+    /**
+     * An open DocuSign document download. {@code contentLength} is -1 when DocuSign didn't send one.
+     */
+    public static final class DocumentStream implements Closeable {
+        public final InputStream content;
+        public final String contentType;
+        public final long contentLength;
+        public final String contentDisposition;
+        private final CloseableHttpClient client;
+        private final CloseableHttpResponse response;
+
+        private DocumentStream(CloseableHttpClient client, CloseableHttpResponse response, InputStream content,
+                               String contentType, long contentLength, String contentDisposition) {
+            this.client = client;
+            this.response = response;
+            this.content = content;
+            this.contentType = contentType;
+            this.contentLength = contentLength;
+            this.contentDisposition = contentDisposition;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                response.close();
+            } finally {
+                client.close();
+            }
+        }
+    }
+
     private static String safeStr(JsonElement el) {
         if (el == null) return null;
         try {
@@ -2,14 +2,20 @@ package com.koushik.docusign.service;
 
 import com.koushik.docusign.config.DocusignConfig;
 import com.google.gson.Gson;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.koushik.docusign.http.DocusignHttpClientFactory;
+import com.koushik.docusign.http.DocusignRequestScheduler;
+import com.koushik.docusign.service.DocusignRecipientStatusService.RecipientStatus;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.util.EntityUtils;
 
+import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Service to fetch envelope-level status from DocuSign.
@@ -49,7 +55,7 @@ public class DocusignEnvelopeStatusService {
             HttpGet get = new HttpGet(url);
             get.setHeader("Authorization", "Bearer " + accessToken.trim());
             get.setHeader("Accept", "application/json");
-            try (CloseableHttpResponse resp = client.execute(get)) {
+            try (CloseableHttpResponse resp = DocusignRequestScheduler.execute(client, get, accountId)) {
                 int code = resp.getStatusLine().getStatusCode();
                 String body = EntityUtils.toString(resp.getEntity(), StandardCharsets.UTF_8);
                 if (code < 200 || code >= 300) {
@@ -64,6 +70,88 @@ public class DocusignEnvelopeStatusService {
         }
     }
 
+    /**
+     * Fetch status (and signer statuses) for many envelopes in one call via listStatusChanges
+     * ({@code GET /envelopes?envelope_ids=...&include=recipients}).
+     *
+     * @param envelopeIds DocuSign envelope IDs (callers should batch; DocuSign caps the listing page size)
+     * @param accessToken OAuth token (Bearer)
+     * @return one entry per envelope DocuSign returned; envelopes it does not know about are omitted
+     */
+    public List<EnvelopeStatusChange> listStatusChanges(List<String> envelopeIds, String accessToken) throws Exception {
+        if (envelopeIds == null || envelopeIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        if (accessToken == null || accessToken.trim().isEmpty()) {
+            throw new IllegalArgumentException("accessToken is required");
+        }
+        StringBuilder ids = new StringBuilder();
+        for (String id : envelopeIds) {
+            if (id == null || id.trim().isEmpty()) continue;
+            if (ids.length() > 0) ids.append(',');
+            ids.append(id.trim());
+        }
+        String url = restBase + "/v2.1/accounts/" + accountId + "/envelopes"
+                + "?envelope_ids=" + URLEncoder.encode(ids.toString(), "UTF-8")
+                + "&include=recipients";
+        try (CloseableHttpClient client = DocusignHttpClientFactory.create()) {
+            HttpGet get = new HttpGet(url);
+            get.setHeader("Authorization", "Bearer " + accessToken.trim());
+            get.setHeader("Accept", "application/json");
+            try (CloseableHttpResponse resp = DocusignRequestScheduler.execute(client, get, accountId)) {
+                int code = resp.getStatusLine().getStatusCode();
+                String body = EntityUtils.toString(resp.getEntity(), StandardCharsets.UTF_8);
+                if (code < 200 || code >= 300) {
+                    throw new RuntimeException("HTTP " + code + " from DocuSign: " + body);
+                }
+                JsonObject json = GSON.fromJson(body, JsonObject.class);
+                List<EnvelopeStatusChange> out = new ArrayList<>();
+                if (json == null || !json.has("envelopes") || !json.get("envelopes").isJsonArray()) {
+                    return out;
+                }
+                for (JsonElement el : json.getAsJsonArray("envelopes")) {
+                    if (!el.isJsonObject()) continue;
+                    JsonObject env = el.getAsJsonObject();
+                    if (!env.has("envelopeId") || env.get("envelopeId").isJsonNull()) continue;
+                    String status = env.has("status") && !env.get("status").isJsonNull() ? env.get("status").getAsString() : "unknown";
+                    JsonObject recipients = env.has("recipients") && env.get("recipients").isJsonObject()
+                            ? env.getAsJsonObject("recipients") : null;
+                    out.add(new EnvelopeStatusChange(env.get("envelopeId").getAsString(), status,
+                            recipients != null ? DocusignRecipientStatusService.parseRecipients(recipients) : null));
+                }
+                return out;
+            }
+        }
+    }
+
+    /**
+     * Envelope status DTO returned by {@link #listStatusChanges}. {@code recipients} is null when DocuSign
+     * did not include them.
+     */
+    public static class EnvelopeStatusChange {
+        private final String envelopeId;
+        private final String status;
+        private final List<RecipientStatus> recipients;
+
+        public EnvelopeStatusChange(String envelopeId, String status, List<RecipientStatus> recipients) {
+            this.envelopeId = envelopeId;
+            this.status = status;
+            this.recipients = recipients;
+        }
+
+        public String getEnvelopeId() {
+            return envelopeId;
+        }
+
+        public String getStatus() {
+            return status;
+        }
+
+        public List<RecipientStatus> getRecipients() {
+            return recipients;
+        }
+    }
+
     private static String readCfg(String key, boolean required) {
         return readCfg(key, required, null);
     }
@@ -0,0 +1,228 @@
+package com.koushik.docusign.service;
+
+import com.atlassian.jira.component.ComponentAccessor;
+import com.atlassian.jira.issue.AttachmentManager;
+import com.atlassian.jira.issue.attachment.Attachment;
+import com.koushik.docusign.config.DocusignConfig;
+import com.koushik.docusign.oauth.ExpiringLruCache;
+import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.rendering.ImageType;
+import org.apache.pdfbox.rendering.PDFRenderer;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Page metadata and low-resolution PNG thumbnails of PDF attachments, rendered server-side with PDFBox so the
+ * placement modal doesn't have to download and parse whole PDFs in the browser.
+ *
+ * Jira attachment content never changes for a given id, so results are cached by attachment id (and thumbnail width)
+ * without invalidation. Everything is computed lazily on first request; concurrent renders are bounded to keep heap
+ * use predictable, and thumbnails are cached up to a total byte budget rather than an entry count. A request that
+ * can't get a render slot within DOCUSIGN_PREVIEW_RENDER_WAIT_MS (default 10000) fails with {@link BusyException}
+ * instead of queueing indefinitely.
+ *
+ * Each parse is reused as far as it can be: rendering a page on a cold cache also records the page metadata and
+ * renders the next few pages at the same width, since the placement modal pages through a document in order.
+ */
+public final class DocusignPdfPreviewService {
+
+    public static final int MIN_THUMBNAIL_WIDTH = 100;
+    public static final int MAX_THUMBNAIL_WIDTH = 1200;
+    private static final long CACHE_TTL_MS = TimeUnit.HOURS.toMillis(24);
+
+    private static final ExpiringLruCache<Long, PdfInfo> INFO_CACHE =
+            new ExpiringLruCache<>(DocusignConfig.getInt("DOCUSIGN_PREVIEW_INFO_CACHE_ENTRIES", 1000));
+    private static final ThumbnailCache THUMBNAIL_CACHE =
+            new ThumbnailCache(DocusignConfig.getInt("DOCUSIGN_PREVIEW_THUMBNAIL_CACHE_MB", 32) * 1024L * 1024L);
+    private static final int PREFETCH_PAGES = DocusignConfig.getInt("DOCUSIGN_PREVIEW_PREFETCH_PAGES", 3);
+    private static final Semaphore RENDER_PERMITS = new Semaphore(DocusignConfig.getInt("DOCUSIGN_PREVIEW_MAX_RENDERS", 2), true);
+    private static final long RENDER_WAIT_MS = DocusignConfig.getLong("DOCUSIGN_PREVIEW_RENDER_WAIT_MS", 10_000L);
+
+    private DocusignPdfPreviewService() {}
+
+    /**
+     * Thrown when every render slot stayed busy for the whole wait; the request can be retried shortly.
+     */
+    public static final class BusyException extends IOException {
+        public BusyException(String message) {
+            super(message);
+        }
+
+        public long getRetryAfterSeconds() {
+            return Math.max(1L, TimeUnit.MILLISECONDS.toSeconds(RENDER_WAIT_MS));
+        }
+    }
+
+    public static final class PageSize {
+        public final float width;
+        public final float height;
+
+        PageSize(float width, float height) {
+            this.width = width;
+            this.height = height;
+        }
+    }
+
+    /**
+     * Page sizes in PDF points as displayed (crop box, with the page rotation applied), in page order.
+     */
+    public static final class PdfInfo {
+        public final List<PageSize> pages;
+
+        PdfInfo(List<PageSize> pages) {
+            this.pages = Collections.unmodifiableList(pages);
+        }
+
+        public int getPageCount() {
+            return pages.size();
+        }
+    }
+
+    public static PdfInfo info(Attachment attachment) throws Exception {
+        Long id = attachment.getId();
+        PdfInfo cached = INFO_CACHE.get(id);
+        if (cached != null) return cached;
+        return withDocument(attachment, doc -> infoOf(id, doc));
+    }
+
+    /**
+     * PNG of one page (1-based) scaled to {@code width} pixels, or null when the page doesn't exist.
+     * Callers should pass a bucketed width (see {@link #bucketWidth}) so the cache isn't split per pixel.
+     */
+    public static byte[] thumbnail(Attachment attachment, int pageNumber, int width) throws Exception {
+        int w = bucketWidth(width);
+        Long id = attachment.getId();
+        byte[] cached = THUMBNAIL_CACHE.get(thumbnailKey(id, pageNumber, w));
+        if (cached != null) return cached;
+
+        PdfInfo known = INFO_CACHE.get(id);
+        if (known != null && (pageNumber < 1 || pageNumber > known.getPageCount())) return null;
+
+        return withDocument(attachment, doc -> {
+            PdfInfo info = known != null ? known : infoOf(id, doc);
+            if (pageNumber < 1 || pageNumber > info.getPageCount()) return null;
+            PDFRenderer renderer = new PDFRenderer(doc);
+            byte[] requested = null;
+            int last = Math.min(info.getPageCount(), pageNumber + PREFETCH_PAGES - 1);
+            for (int p = pageNumber; p <= last; p++) {
+                String key = thumbnailKey(id, p, w);
+                byte[] png = p == pageNumber ? null : THUMBNAIL_CACHE.get(key);
+                if (png == null) {
+                    png = render(renderer, info.pages.get(p - 1), p, w);
+                    THUMBNAIL_CACHE.put(key, png);
+                }
+                if (p == pageNumber) requested = png;
+            }
+            return requested;
+        });
+    }
+
+    /**
+     * Clamp to [{@link #MIN_THUMBNAIL_WIDTH}, {@link #MAX_THUMBNAIL_WIDTH}] and round up to a multiple of 100.
+     */
+    public static int bucketWidth(int width) {
+        int w = Math.max(MIN_THUMBNAIL_WIDTH, Math.min(MAX_THUMBNAIL_WIDTH, width));
+        return Math.min(MAX_THUMBNAIL_WIDTH, ((w + 99) / 100) * 100);
+    }
+
+    private static PdfInfo infoOf(Long id, PDDocument doc) {
+        List<PageSize> pages = new ArrayList<>();
+        for (PDPage page : doc.getPages()) {
+            pages.add(displayedSize(page));
+        }
+        PdfInfo info = new PdfInfo(pages);
+        INFO_CACHE.put(id, info, System.currentTimeMillis() + CACHE_TTL_MS);
+        return info;
+    }
+
+    private static byte[] render(PDFRenderer renderer, PageSize size, int pageNumber, int width) throws Exception {
+        float scale = size.width > 0 ? width / size.width : 1f;
+        BufferedImage img = renderer.renderImage(pageNumber - 1, scale, ImageType.RGB);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(img, "png", out);
+        return out.toByteArray();
+    }
+
+    private static String thumbnailKey(Long id, int pageNumber, int width) {
+        return id + ":" + pageNumber + ":" + width;
+    }
+
+    /**
+     * LRU of rendered PNGs bounded by their total size, so a few large thumbnails can't hold hundreds of MB.
+     */
+    private static final class ThumbnailCache {
+        private final long maxBytes;
+        private final LinkedHashMap<String, byte[]> map = new LinkedHashMap<>(16, 0.75f, true);
+        private long totalBytes;
+
+        ThumbnailCache(long maxBytes) {
+            this.maxBytes = maxBytes;
+        }
+
+        synchronized byte[] get(String key) {
+            return map.get(key);
+        }
+
+        synchronized void put(String key, byte[] png) {
+            if (png == null || png.length > maxBytes) return;
+            byte[] old = map.put(key, png);
+            totalBytes += png.length - (old != null ? old.length : 0);
+            Iterator<Map.Entry<String, byte[]>> it = map.entrySet().iterator();
+            while (totalBytes > maxBytes && it.hasNext()) {
+                totalBytes -= it.next().getValue().length;
+                it.remove();
+            }
+        }
+    }
+
+    private interface DocumentWork<T> {
+        T apply(PDDocument doc) throws Exception;
+    }
+
+    private static <T> T withDocument(Attachment attachment, DocumentWork<T> work) throws Exception {
+        AttachmentManager attachmentManager = ComponentAccessor.getAttachmentManager();
+        if (attachmentManager == null) {
+            throw new IllegalStateException("Attachment manager not available");
+        }
+        if (!RENDER_PERMITS.tryAcquire(RENDER_WAIT_MS, TimeUnit.MILLISECONDS)) {
+            throw new BusyException("PDF preview is busy; try again shortly");
+        }
+        try {
+            // Parse into a temp scratch file rather than heap; large PDFs only cost disk while they're open.
+            PDDocument doc = attachmentManager.streamAttachmentContent(attachment,
+                    in -> PDDocument.load(in, MemoryUsageSetting.setupTempFileOnly()));
+            try {
+                return work.apply(doc);
+            } finally {
+                doc.close();
+            }
+        } finally {
+            RENDER_PERMITS.release();
+        }
+    }
+
+    private static PageSize displayedSize(PDPage page) {
+        PDRectangle box = page.getCropBox();
+        float w = box != null ? box.getWidth() : 612f;
+        float h = box != null ? box.getHeight() : 792f;
+        int rotation = ((page.getRotation() % 360) + 360) % 360;
+        if (rotation == 90 || rotation == 270) {
+            return new PageSize(h, w);
+        }
+        return new PageSize(w, h);
+    }
+}
@@ -6,6 +6,7 @@ import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.koushik.docusign.http.DocusignHttpClientFactory;
+import com.koushik.docusign.http.DocusignRequestScheduler;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.impl.client.CloseableHttpClient;
@@ -53,8 +54,18 @@ public class DocusignRecipientStatusService {
 
         String url = restBase + "/v2.1/accounts/" + accountId + "/envelopes/" + envelopeId.trim() + "/recipients";
         JsonObject json = httpGetJson(url, accessToken.trim());
+        return parseRecipients(json);
+    }
 
+    /**
+     * Parse a DocuSign recipients object ({@code {"signers":[...]}}), as returned by the recipients endpoint
+     * or embedded in envelope listings with {@code include=recipients}.
+     */
+    public static List<RecipientStatus> parseRecipients(JsonObject json) {
         List<RecipientStatus> recipients = new ArrayList<>();
+        if (json == null) {
+            return recipients;
+        }
         // DocuSign groups recipients by type; we only care about signers for now
         if (json.has("signers") && json.get("signers").isJsonArray()) {
             JsonArray signers = json.getAsJsonArray("signers");
@@ -80,7 +91,7 @@ public class DocusignRecipientStatusService {
             get.setHeader("Authorization", "Bearer " + bearerToken);
             get.setHeader("Accept", "application/json");
 
-            try (CloseableHttpResponse resp = client.execute(get)) {
+            try (CloseableHttpResponse resp = DocusignRequestScheduler.execute(client, get, accountId)) {
                 int code = resp.getStatusLine().getStatusCode();
                 String body = EntityUtils.toString(resp.getEntity(), StandardCharsets.UTF_8);
                 if (code < 200 || code >= 300) {
@@ -91,14 +102,14 @@ public class DocusignRecipientStatusService {
         }
     }
 
-    private String getString(JsonObject obj, String key) {
+    private static String getString(JsonObject obj, String key) {
         if (obj == null || !obj.has(key) || obj.get(key).isJsonNull()) {
             return "";
         }
         return obj.get(key).getAsString();
     }
 
-    private int parseIntSafe(String val, int def) {
+    private static int parseIntSafe(String val, int def) {
         try {
             return Integer.parseInt(val);
         } catch (Exception e) {
@@ -0,0 +1,354 @@
+package com.koushik.docusign.service;
+
+import com.atlassian.jira.component.ComponentAccessor;
+import com.atlassian.jira.entity.property.JsonEntityPropertyManager;
+import com.atlassian.jira.issue.AttachmentManager;
+import com.atlassian.jira.issue.Issue;
+import com.atlassian.jira.issue.attachment.Attachment;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.koushik.docusign.persistence.DocusignAoStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Attaches the signed documents of a completed envelope to its Jira issue.
+ *
+ * Shared by the interactive {@code /send/status/attach} endpoint and the background auto-attach worker.
+ * Attachments are created as the current thread's logged-in user; callers off a request thread must set one.
+ */
+public class DocusignSignedAttachService {
+
+    private static final Logger log = LoggerFactory.getLogger(DocusignSignedAttachService.class);
+    private static final String ISSUE_PROPERTY_ENTITY_NAME = "IssueProperty";
+
+    private final DocusignDocumentDownloadService documentDownloadService;
+
+    public DocusignSignedAttachService() {
+        this(new DocusignDocumentDownloadService());
+    }
+
+    public DocusignSignedAttachService(DocusignDocumentDownloadService documentDownloadService) {
+        this.documentDownloadService = documentDownloadService;
+    }
+
+    /**
+     * Download and attach the signed documents (one file per envelope document, or the combined PDF when
+     * {@code combined}). Already attached files are skipped by name, so this is safe to repeat.
+     *
+     * @return the attachments created or found, as {@code [{id,name}]}
+     */
+    public JsonArray attachSigned(Issue issue,
+                                  String envelopeId,
+                                  String accessToken,
+                                  String restBase,
+                                  String accountId,
+                                  boolean combined) throws Exception {
+        DocusignDocumentFetchService fetch = new DocusignDocumentFetchService(restBase, accountId);
+        JsonArray attachedArr = new JsonArray();
+        // Loaded once; duplicate checks and new attachments go through the index instead of re-reading the issue.
+        IssueAttachmentIndex index = IssueAttachmentIndex.build(issue);
+
+        if (combined) {
+            String fn = defaultSignedFileName(issue, envelopeId);
+            Attachment a;
+            try (DocusignDocumentFetchService.DownloadedFile pdf = fetch.downloadSignedPdfToFile(envelopeId, accessToken)) {
+                a = documentDownloadService.attachPdfIfMissing(index, pdf.file, fn);
+            }
+            addAttachment(attachedArr, issue, envelopeId, "combined", a);
+        } else {
+            // Default: attach one PDF per envelope document (not combined).
+            List<DocusignAoStore.DocumentMeta> docs = null;
+            try {
+                docs = DocusignAoStore.loadEnvelopeDocuments(issue.getKey(), envelopeId);
+            } catch (Exception ignore) {
+                docs = null;
+            }
+            if (docs == null || docs.isEmpty()) {
+                // Envelopes sent before document metadata was recorded: list once and keep it for the next run.
+                docs = new ArrayList<>();
+                try {
+                    for (DocusignDocumentFetchService.EnvelopeDocument d : fetch.listEnvelopeDocuments(envelopeId, accessToken)) {
+                        if (d == null || "summary".equalsIgnoreCase(d.type)) continue;
+                        docs.add(new DocusignAoStore.DocumentMeta(d.documentId, d.name));
+                    }
+                } catch (Exception e) {
+                    log.warn("Failed to list documents of envelope {}: {}", envelopeId, e.getMessage());
+                    docs = new ArrayList<>();
+                }
+                try {
+                    DocusignAoStore.recordEnvelopeDocuments(issue.getKey(), envelopeId, docs);
+                } catch (Exception e) {
+                    log.debug("Could not store document metadata for envelope {}: {}", envelopeId, e.getMessage());
+                }
+            }
+
+            List<DocusignAoStore.DocumentMeta> contentDocs = new ArrayList<>();
+            for (DocusignAoStore.DocumentMeta d : docs) {
+                if (d == null || d.documentId == null) continue;
+                String id = d.documentId.trim();
+                if (id.isEmpty()) continue;
+                String lid = id.toLowerCase(Locale.ROOT);
+                if ("combined".equals(lid) || "certificate".equals(lid) || "summary".equals(lid)) continue;
+                contentDocs.add(d);
+            }
+
+            if (contentDocs.isEmpty()) {
+                // DocuSign exposed no content documents: attach the combined PDF instead of guessing documentIds.
+                String fn = defaultSignedFileName(issue, envelopeId);
+                Attachment a;
+                try (DocusignDocumentFetchService.DownloadedFile pdf = fetch.downloadSignedPdfToFile(envelopeId, accessToken)) {
+                    a = documentDownloadService.attachPdfIfMissing(index, pdf.file, fn);
+                }
+                addAttachment(attachedArr, issue, envelopeId, "combined", a);
+            } else {
+                // Download concurrently (bounded per envelope), then attach on this thread in documentId order.
+                contentDocs.sort((a, b) -> compareDocumentIds(a.documentId, b.documentId));
+                List<String> docIds = new ArrayList<>();
+                for (DocusignAoStore.DocumentMeta d : contentDocs) {
+                    docIds.add(d.documentId);
+                }
+                List<DocusignDocumentFetchService.DocumentDownload> downloads = fetch.downloadDocumentsToFiles(envelopeId, docIds, accessToken);
+                try {
+                    for (int i = 0; i < contentDocs.size(); i++) {
+                        DocusignAoStore.DocumentMeta d = contentDocs.get(i);
+                        DocusignDocumentFetchService.DocumentDownload dl = downloads.get(i);
+                        if (dl.error != null) {
+                            log.warn("Failed to download document {} of envelope {}: {}", d.documentId, envelopeId, dl.error.getMessage());
+                            continue;
+                        }
+                        DocusignDocumentFetchService.DownloadedFile doc = dl.file;
+                        if (doc.size == 0) continue;
+                        String docName = d.filename != null ? d.filename : ("document-" + d.documentId);
+                        String ext = detectExtension(doc.head, docName);
+                        String base = stripExtension(docName);
+                        String fn = signedFileBaseNameForDoc(issue, envelopeId, d.documentId, base) + "." + ext;
+                        Attachment a = documentDownloadService.attachFileIfMissing(index, doc.file, fn, doc.contentType != null ? doc.contentType : contentTypeForExt(ext));
+                        addAttachment(attachedArr, issue, envelopeId, d.documentId, a);
+                    }
+                } finally {
+                    for (DocusignDocumentFetchService.DocumentDownload dl : downloads) {
+                        dl.closeQuietly();
+                    }
+                }
+            }
+        }
+
+        if (attachedArr.size() > 0) {
+            try {
+                setIssuePropertyJson(issue, "docusign.signedAttachments", attachedArr.toString());
+                JsonObject flag = new JsonObject();
+                flag.addProperty("value", true);
+                setIssuePropertyJson(issue, "docusign.signedAttached", flag.toString());
+            } catch (Exception ignore) {
+            }
+        }
+        return attachedArr;
+    }
+
+    public static String defaultSignedFileName(Issue issue, String envelopeId) {
+        String base = issue != null ? issue.getKey() : envelopeId;
+        base = sanitize(base);
+        if (base == null || base.isEmpty()) {
+            base = "signed-document";
+        }
+        String name = "Signed_" + base + "_combined";
+        if (!name.toLowerCase(Locale.ROOT).endsWith(".pdf")) {
+            name = name + ".pdf";
+        }
+        return name;
+    }
+
+    public static String signedFileNameForDocPdf(Issue issue, String envelopeId, String documentId, String docName) {
+        String base = signedFileBaseNameForDoc(issue, envelopeId, documentId, docName);
+        return base + ".pdf";
+    }
+
+    private static String signedFileBaseNameForDoc(Issue issue, String envelopeId, String documentId, String docName) {
+        String issueKey = issue != null ? issue.getKey() : null;
+        String env = envelopeId != null ? envelopeId.trim() : "";
+        String envShort = env.length() >= 8 ? env.substring(0, 8) : env;
+        String docId = (documentId != null && !documentId.trim().isEmpty()) ? documentId.trim() : "doc";
+
+        String base = (docName != null && !docName.trim().isEmpty()) ? docName.trim() : ("document-" + docId);
+        int dot = base.lastIndexOf('.');
+        if (dot > 0) base = base.substring(0, dot);
+        base = sanitize(base);
+        base = stripSignedByNoise(base);
+        if (base == null || base.isEmpty()) base = "document-" + docId;
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("Signed_");
+        if (issueKey != null && !issueKey.trim().isEmpty()) {
+            sb.append(sanitize(issueKey.trim())).append("_");
+        }
+        if (envShort != null && !envShort.isEmpty()) {
+            sb.append(envShort).append("_");
+        }
+        sb.append("doc").append(docId).append("_").append(base);
+        String name = sb.toString();
+        if (name.length() > 160) {
+            name = name.substring(0, 160);
+        }
+        return name;
+    }
+
+    private static String stripSignedByNoise(String s) {
+        if (s == null) return null;
+        String t = s;
+        // Remove common "Signed by <email>" style suffixes/prefixes.
+        t = t.replaceAll("(?i)\\bsigned\\s*by\\b.*$", "").trim();
+        // Remove any embedded email addresses (leaves rest of filename intact).
+        t = t.replaceAll("(?i)[A-Z0-9._%+-]+@[A-Z0-9.-]+\\.[A-Z]{2,}", "").trim();
+        // Collapse leftover punctuation/spaces.
+        t = t.replaceAll("[\\s._-]{2,}", "_");
+        t = t.replaceAll("^[_\\-\\.\\s]+|[_\\-\\.\\s]+$", "").trim();
+        return t;
+    }
+
+    private static String sanitize(String input) {
+        if (input == null) return "";
+        String cleaned = input.replaceAll("[\\p{Cntrl}]", "");
+        cleaned = cleaned.replace("\"", "").replace("\\", "");
+        return cleaned.trim();
+    }
+
+    /**
+     * Signed attachments of an issue. Uses the attachment ids recorded in AO (primary-key reads) and falls back to
+     * a {@code Signed_} filename scan for issues signed before ids were recorded.
+     */
+    public List<Attachment> findSignedAttachments(Issue issue) {
+        List<Attachment> out = new ArrayList<>();
+        if (issue == null) return out;
+        List<Long> ids;
+        try {
+            ids = DocusignAoStore.loadSignedAttachmentIds(issue.getKey());
+        } catch (Exception e) {
+            ids = new ArrayList<>();
+        }
+        if (!ids.isEmpty()) {
+            AttachmentManager am = ComponentAccessor.getAttachmentManager();
+            for (Long id : ids) {
+                try {
+                    Attachment a = am.getAttachment(id);
+                    if (a != null) {
+                        out.add(a);
+                        continue;
+                    }
+                } catch (Exception ignore) {
+                    // deleted from the issue
+                }
+                try {
+                    DocusignAoStore.removeSignedAttachment(id);
+                } catch (Exception ignore) {
+                }
+            }
+            if (!out.isEmpty()) return out;
+        }
+        out.addAll(IssueAttachmentIndex.build(issue).signed());
+        return out;
+    }
+
+    private static void addAttachment(JsonArray arr, Issue issue, String envelopeId, String documentId, Attachment a) {
+        if (a == null) return;
+        JsonObject obj = new JsonObject();
+        obj.addProperty("id", a.getId());
+        obj.addProperty("name", a.getFilename());
+        arr.add(obj);
+        try {
+            DocusignAoStore.recordSignedAttachment(issue.getKey(), envelopeId, documentId, a.getId(), a.getFilename());
+        } catch (Exception e) {
+            log.debug("Failed to record signed attachment {} for {}: {}", a.getId(), issue.getKey(), e.getMessage());
+        }
+    }
+
+    private static void setIssuePropertyJson(Issue issue, String key, String json) {
+        JsonEntityPropertyManager manager = ComponentAccessor.getComponent(JsonEntityPropertyManager.class);
+        if (manager == null) {
+            throw new IllegalStateException("JsonEntityPropertyManager not available");
+        }
+        if (issue == null || issue.getId() == null) {
+            throw new IllegalArgumentException("Issue is required");
+        }
+        manager.put(ISSUE_PROPERTY_ENTITY_NAME, issue.getId(), key, json == null ? "null" : json);
+    }
+
+    private static boolean looksLikePdf(byte[] data) {
+        try {
+            if (data == null || data.length < 5) return false;
+            return data[0] == '%' && data[1] == 'P' && data[2] == 'D' && data[3] == 'F' && data[4] == '-';
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private static boolean looksLikeZip(byte[] data) {
+        try {
+            if (data == null || data.length < 4) return false;
+            return (data[0] == 'P' && data[1] == 'K' && data[2] == 3 && data[3] == 4)
+                    || (data[0] == 'P' && data[1] == 'K' && data[2] == 5 && data[3] == 6)
+                    || (data[0] == 'P' && data[1] == 'K' && data[2] == 7 && data[3] == 8);
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private static String detectExtension(byte[] bytes, String docName) {
+        if (looksLikePdf(bytes)) return "pdf";
+        String name = docName != null ? docName.trim() : "";
+        int dot = name.lastIndexOf('.');
+        if (dot >= 0 && dot < name.length() - 1) {
+            String ext = name.substring(dot + 1).toLowerCase(Locale.ROOT);
+            ext = ext.replaceAll("[^a-z0-9]", "");
+            if (!ext.isEmpty() && ext.length() <= 10) return ext;
+        }
+        if (looksLikeZip(bytes)) return "zip";
+        return "bin";
+    }
+
+    private static String stripExtension(String name) {
+        if (name == null) return "";
+        String s = name.trim();
+        int dot = s.lastIndexOf('.');
+        if (dot > 0) return s.substring(0, dot);
+        return s;
+    }
+
+    private static String contentTypeForExt(String ext) {
+        if (ext == null) return "application/octet-stream";
+        String e = ext.toLowerCase(Locale.ROOT);
+        if ("pdf".equals(e)) return "application/pdf";
+        if ("docx".equals(e)) return "application/vnd.openxmlformats-officedocument.wordprocessingml.document";
+        if ("doc".equals(e)) return "application/msword";
+        if ("xlsx".equals(e)) return "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+        if ("xls".equals(e)) return "application/vnd.ms-excel";
+        if ("pptx".equals(e)) return "application/vnd.openxmlformats-officedocument.presentationml.presentation";
+        if ("ppt".equals(e)) return "application/vnd.ms-powerpoint";
+        if ("txt".equals(e)) return "text/plain";
+        if ("png".equals(e)) return "image/png";
+        if ("jpg".equals(e) || "jpeg".equals(e)) return "image/jpeg";
+        if ("zip".equals(e)) return "application/zip";
+        return "application/octet-stream";
+    }
+
+    private static int compareDocumentIds(String a, String b) {
+        // DocuSign documentIds are usually numeric; order them numerically ("2" before "10"), others after.
+        int na = parseIntSafe(a, Integer.MAX_VALUE);
+        int nb = parseIntSafe(b, Integer.MAX_VALUE);
+        if (na != nb) return Integer.compare(na, nb);
+        return String.valueOf(a).compareTo(String.valueOf(b));
+    }
+
+    private static int parseIntSafe(String val, int def) {
+        try {
+            if (val == null) return def;
+            return Integer.parseInt(val.trim());
+        } catch (Exception e) {
+            return def;
+        }
+    }
+}
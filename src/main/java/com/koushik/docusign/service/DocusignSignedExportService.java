@@ -0,0 +1,411 @@
+package com.koushik.docusign.service;
+
+import com.atlassian.jira.bc.issue.search.SearchService;
+import com.atlassian.jira.component.ComponentAccessor;
+import com.atlassian.jira.issue.AttachmentManager;
+import com.atlassian.jira.issue.Issue;
+import com.atlassian.jira.issue.attachment.Attachment;
+import com.atlassian.jira.issue.search.SearchResults;
+import com.atlassian.jira.user.ApplicationUser;
+import com.atlassian.jira.web.bean.PagerFilter;
+import com.koushik.docusign.config.DocusignConfig;
+import com.koushik.docusign.http.DocusignRequestScheduler;
+import com.koushik.docusign.persistence.DocusignAoStore;
+import com.koushik.docusign.persistence.DocusignAoStore.CompletedEnvelope;
+import com.koushik.docusign.persistence.DocusignAoStore.SignerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PushbackInputStream;
+import java.nio.charset.StandardCharsets;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TimeZone;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Streams a ZIP of the signed documents of completed envelopes, plus a {@code manifest.csv} of envelope/signer metadata.
+ *
+ * Documents come from the Jira attachments recorded for the envelope, then from the signed-document cache; only
+ * envelopes with neither are fetched from DocuSign (combined PDF, bounded parallelism, background priority). The ZIP is
+ * written as entries become available, so nothing is buffered beyond one temp file per in-flight download.
+ */
+public final class DocusignSignedExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(DocusignSignedExportService.class);
+    private static final String MANIFEST_NAME = "manifest.csv";
+    private static final int COPY_BUFFER_BYTES = 64 * 1024;
+
+    private final String restBase;
+    private final String accountId;
+
+    public DocusignSignedExportService(String restBase, String accountId) {
+        this.restBase = restBase;
+        this.accountId = accountId;
+    }
+
+    /**
+     * Issue keys matched by {@code jql} for {@code user} (Jira applies browse permissions), capped by
+     * {@code DOCUSIGN_EXPORT_MAX_ISSUES}.
+     *
+     * @throws IllegalArgumentException when the JQL is invalid
+     */
+    public static List<String> resolveIssueKeys(ApplicationUser user, String jql) throws Exception {
+        if (jql == null || jql.trim().isEmpty()) {
+            throw new IllegalArgumentException("jql is required");
+        }
+        SearchService search = ComponentAccessor.getComponent(SearchService.class);
+        SearchService.ParseResult parsed = search.parseQuery(user, jql.trim());
+        if (!parsed.isValid()) {
+            throw new IllegalArgumentException("Invalid JQL: " + parsed.getErrors().getErrorMessages());
+        }
+        int maxIssues = DocusignConfig.getInt("DOCUSIGN_EXPORT_MAX_ISSUES", 1000);
+        int pageSize = 500;
+        List<String> keys = new ArrayList<>();
+        for (int start = 0; keys.size() < maxIssues; start += pageSize) {
+            SearchResults<Issue> page = search.search(user, parsed.getQuery(), PagerFilter.newPageAlignedFilter(start, pageSize));
+            List<Issue> results = page != null ? page.getResults() : null;
+            if (results == null || results.isEmpty()) break;
+            for (Issue issue : results) {
+                if (keys.size() >= maxIssues) break;
+                keys.add(issue.getKey());
+            }
+            if (results.size() < pageSize) break;
+        }
+        return keys;
+    }
+
+    /**
+     * Write the export archive to {@code out}. Per-envelope failures don't abort the export; they are reported in
+     * the manifest's {@code error} column. The stream is finished but not closed.
+     */
+    public void writeZip(List<CompletedEnvelope> envelopes, String accessToken, OutputStream out) throws IOException {
+        ZipOutputStream zip = new ZipOutputStream(out);
+        Map<CompletedEnvelope, EntryLog> logs = new IdentityHashMap<>();
+        Set<String> names = new HashSet<>();
+        AttachmentManager attachmentManager = ComponentAccessor.getAttachmentManager();
+
+        List<CompletedEnvelope> misses = new ArrayList<>();
+        for (CompletedEnvelope env : envelopes) {
+            EntryLog entry = new EntryLog();
+            logs.put(env, entry);
+            try {
+                if (writeFromAttachments(zip, names, env, entry, attachmentManager)) continue;
+                if (writeFromCache(zip, names, env, entry)) continue;
+            } catch (IOException e) {
+                throw e;
+            } catch (Exception e) {
+                log.debug("Local copy of envelope {} unavailable: {}", env.envelopeId, e.getMessage());
+            }
+            if (accessToken == null || accessToken.trim().isEmpty()) {
+                entry.error = "DocuSign is not connected";
+            } else {
+                misses.add(env);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            writeFetched(zip, names, misses, logs, new DocusignDocumentFetchService(restBase, accountId), accessToken);
+        }
+
+        zip.putNextEntry(new ZipEntry(MANIFEST_NAME));
+        zip.write(manifest(envelopes, logs).getBytes(StandardCharsets.UTF_8));
+        zip.closeEntry();
+        zip.finish();
+        zip.flush();
+    }
+
+    private boolean writeFromAttachments(ZipOutputStream zip, Set<String> names, CompletedEnvelope env, EntryLog entry,
+                                         AttachmentManager attachmentManager) throws Exception {
+        if (attachmentManager == null) return false;
+        List<Attachment> atts = new ArrayList<>();
+        for (Long id : DocusignAoStore.loadSignedAttachmentIds(env.issueKey, env.envelopeId)) {
+            try {
+                Attachment a = attachmentManager.getAttachment(id);
+                if (a != null) atts.add(a);
+            } catch (Exception ignore) {
+                // deleted from Jira; fall through to the cache / DocuSign
+            }
+        }
+        if (atts.isEmpty()) return false;
+        List<String> failed = new ArrayList<>();
+        for (Attachment a : atts) {
+            String[] opened = new String[1];
+            try {
+                attachmentManager.streamAttachmentContent(a, in -> {
+                    // Only open the ZIP entry once content is readable, so a missing file leaves no empty entry.
+                    PushbackInputStream content = new PushbackInputStream(in, 1);
+                    int first = content.read();
+                    if (first != -1) content.unread(first);
+                    opened[0] = entryName(names, env, a.getFilename());
+                    zip.putNextEntry(new ZipEntry(opened[0]));
+                    copy(content, zip);
+                    zip.closeEntry();
+                    return null;
+                });
+                entry.files.add(opened[0]);
+            } catch (Exception e) {
+                log.debug("Jira attachment {} of envelope {} unreadable: {}", a.getId(), env.envelopeId, e.getMessage());
+                if (opened[0] == null) {
+                    failed.add(a.getFilename());
+                    continue;
+                }
+                // Truncated mid-copy: finish the entry (this rethrows if the response itself is broken) and say so.
+                zip.closeEntry();
+                entry.files.add(opened[0]);
+                failed.add(opened[0] + " (incomplete)");
+            }
+        }
+        if (entry.files.isEmpty()) {
+            // Nothing readable locally; let the cache / DocuSign supply the envelope instead.
+            return false;
+        }
+        if (!failed.isEmpty()) {
+            entry.error = "Unreadable Jira attachment(s): " + String.join("; ", failed);
+        }
+        entry.source = "jira";
+        return true;
+    }
+
+    private boolean writeFromCache(ZipOutputStream zip, Set<String> names, CompletedEnvelope env, EntryLog entry) throws IOException {
+        if (!DocusignDocumentCache.isEnabled()) return false;
+        DocusignDocumentCache.CachedDocument doc = DocusignDocumentCache.lookup(accountId, env.envelopeId, "combined");
+        if (doc == null) return false;
+        writeCached(zip, names, env, entry, doc);
+        entry.source = "cache";
+        return true;
+    }
+
+    private void writeCached(ZipOutputStream zip, Set<String> names, CompletedEnvelope env, EntryLog entry,
+                             DocusignDocumentCache.CachedDocument doc) throws IOException {
+        String name = entryName(names, env, combinedFileName(env));
+        zip.putNextEntry(new ZipEntry(name));
+        doc.transferTo(zip, 0, doc.size);
+        zip.closeEntry();
+        entry.files.add(name);
+    }
+
+    private void writeFetched(ZipOutputStream zip, Set<String> names, List<CompletedEnvelope> misses,
+                              Map<CompletedEnvelope, EntryLog> logs, DocusignDocumentFetchService fetch,
+                              String accessToken) throws IOException {
+        int parallelism = Math.max(1, Math.min(misses.size(), DocusignConfig.getInt("DOCUSIGN_EXPORT_PARALLELISM", 4)));
+        AtomicInteger seq = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(parallelism, r -> {
+            Thread t = new Thread(r, "docusign-export-download-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        // Set when the client goes away: downloads that finish afterwards delete their own temp files. Results handed
+        // over before that are tracked in handedOver (guarded by abandoned) so they can be released here.
+        AtomicBoolean abandoned = new AtomicBoolean(false);
+        List<Fetched> handedOver = new ArrayList<>();
+        CompletionService<Fetched> done = new ExecutorCompletionService<>(pool);
+        try {
+            for (CompletedEnvelope env : misses) {
+                done.submit(() -> handOver(DocusignRequestScheduler.runInBackground(() -> fetchCombined(fetch, env, accessToken)),
+                        handedOver, abandoned));
+            }
+            for (int i = 0; i < misses.size(); i++) {
+                Fetched f;
+                try {
+                    f = done.take().get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Export interrupted", e);
+                } catch (ExecutionException e) {
+                    // fetchCombined reports its own failures; this only happens on unexpected errors
+                    log.warn("Export download failed: {}", e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+                    continue;
+                }
+                EntryLog entry = logs.get(f.env);
+                try {
+                    if (f.error != null) {
+                        entry.error = f.error;
+                    } else if (f.cached != null) {
+                        writeCached(zip, names, f.env, entry, f.cached);
+                        entry.source = "docusign";
+                    } else if (f.file != null) {
+                        String name = entryName(names, f.env, combinedFileName(f.env));
+                        zip.putNextEntry(new ZipEntry(name));
+                        try (InputStream in = new FileInputStream(f.file.file)) {
+                            copy(in, zip);
+                        }
+                        zip.closeEntry();
+                        entry.files.add(name);
+                        entry.source = "docusign";
+                    }
+                } finally {
+                    f.closeQuietly();
+                }
+            }
+        } finally {
+            synchronized (abandoned) {
+                abandoned.set(true);
+                for (Fetched f : handedOver) {
+                    f.closeQuietly();
+                }
+            }
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Give {@code f} to the writer, or delete its temp file if the writer has already gone. Checking the flag and
+     * recording the result under one lock leaves no window in which a finished download is owned by nobody.
+     */
+    private static Fetched handOver(Fetched f, List<Fetched> handedOver, AtomicBoolean abandoned) {
+        synchronized (abandoned) {
+            if (abandoned.get()) {
+                f.closeQuietly();
+            } else {
+                handedOver.add(f);
+            }
+        }
+        return f;
+    }
+
+    private Fetched fetchCombined(DocusignDocumentFetchService fetch, CompletedEnvelope env, String accessToken) {
+        Fetched f = new Fetched(env);
+        DocusignDocumentFetchService.DownloadedFile file = null;
+        try {
+            // AO already says "completed", so skip the status round trip of downloadSignedPdfToFile.
+            file = fetch.downloadEnvelopeDocumentToFile(env.envelopeId, "combined", accessToken, "application/pdf");
+            if (DocusignDocumentCache.isEnabled()) {
+                f.cached = DocusignDocumentCache.store(accountId, env.envelopeId, "combined", file.file, file.contentType);
+            }
+            if (f.cached == null) {
+                f.file = file;
+                file = null;
+            }
+        } catch (Exception e) {
+            f.error = e.getMessage() != null ? e.getMessage() : "Download failed";
+        } finally {
+            closeQuietly(file);
+        }
+        return f;
+    }
+
+    private static String manifest(List<CompletedEnvelope> envelopes, Map<CompletedEnvelope, EntryLog> logs) {
+        StringBuilder sb = new StringBuilder();
+        csvRow(sb, "issueKey", "envelopeId", "sentAt", "completedAt", "sender", "senderEmail",
+                "signerName", "signerEmail", "signerStatus", "routingOrder", "files", "source", "error");
+        SimpleDateFormat iso = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss'Z'");
+        iso.setTimeZone(TimeZone.getTimeZone("UTC"));
+        for (CompletedEnvelope env : envelopes) {
+            EntryLog entry = logs.get(env);
+            String files = entry != null ? String.join(";", entry.files) : "";
+            String source = entry != null && entry.source != null ? entry.source : "";
+            String error = entry != null && entry.error != null ? entry.error : "";
+            String sentAt = formatDate(iso, env.sentAt);
+            String completedAt = formatDate(iso, env.completedAt);
+            if (env.signers.isEmpty()) {
+                csvRow(sb, env.issueKey, env.envelopeId, sentAt, completedAt, env.senderName, env.senderEmail,
+                        "", "", "", "", files, source, error);
+                continue;
+            }
+            for (SignerRecord s : env.signers) {
+                csvRow(sb, env.issueKey, env.envelopeId, sentAt, completedAt, env.senderName, env.senderEmail,
+                        s.name, s.email, s.status, String.valueOf(s.routingOrder), files, source, error);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static void csvRow(StringBuilder sb, String... cells) {
+        for (int i = 0; i < cells.length; i++) {
+            if (i > 0) sb.append(',');
+            sb.append(csvCell(cells[i]));
+        }
+        sb.append("\r\n");
+    }
+
+    private static String csvCell(String v) {
+        if (v == null || v.isEmpty()) return "";
+        String s = v;
+        // Keep spreadsheet apps from evaluating names/emails as formulas.
+        char c = s.charAt(0);
+        if (c == '=' || c == '+' || c == '-' || c == '@') {
+            s = "'" + s;
+        }
+        if (s.indexOf(',') >= 0 || s.indexOf('"') >= 0 || s.indexOf('\n') >= 0 || s.indexOf('\r') >= 0) {
+            s = "\"" + s.replace("\"", "\"\"") + "\"";
+        }
+        return s;
+    }
+
+    private static String formatDate(SimpleDateFormat fmt, Date d) {
+        return d != null ? fmt.format(d) : "";
+    }
+
+    private static String combinedFileName(CompletedEnvelope env) {
+        return "Signed_" + env.issueKey + "_combined.pdf";
+    }
+
+    private static String entryName(Set<String> names, CompletedEnvelope env, String filename) {
+        String file = filename != null && !filename.trim().isEmpty() ? filename.trim() : "document.pdf";
+        file = file.replaceAll("[\\\\/:*?\"<>|]", "_");
+        String dir = env.issueKey + "/" + env.envelopeId + "/";
+        String name = dir + file;
+        int dot = file.lastIndexOf('.');
+        for (int n = 2; !names.add(name); n++) {
+            name = dot > 0 ? dir + file.substring(0, dot) + " (" + n + ")" + file.substring(dot) : dir + file + " (" + n + ")";
+        }
+        return name;
+    }
+
+    private static void copy(InputStream in, OutputStream out) throws IOException {
+        byte[] buf = new byte[COPY_BUFFER_BYTES];
+        int n;
+        while ((n = in.read(buf)) != -1) {
+            out.write(buf, 0, n);
+        }
+    }
+
+    private static void closeQuietly(DocusignDocumentFetchService.DownloadedFile file) {
+        if (file == null) return;
+        try {
+            file.close();
+        } catch (Exception ignore) {
+        }
+    }
+
+    private static final class EntryLog {
+        final List<String> files = new ArrayList<>();
+        String source;
+        String error;
+    }
+
+    private static final class Fetched {
+        final CompletedEnvelope env;
+        DocusignDocumentCache.CachedDocument cached;
+        DocusignDocumentFetchService.DownloadedFile file;
+        String error;
+
+        Fetched(CompletedEnvelope env) {
+            this.env = env;
+        }
+
+        synchronized void closeQuietly() {
+            DocusignSignedExportService.closeQuietly(file);
+            file = null;
+        }
+    }
+}
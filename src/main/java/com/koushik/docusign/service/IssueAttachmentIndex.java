@@ -0,0 +1,80 @@
+package com.koushik.docusign.service;
+
+import com.atlassian.jira.component.ComponentAccessor;
+import com.atlassian.jira.issue.AttachmentManager;
+import com.atlassian.jira.issue.Issue;
+import com.atlassian.jira.issue.attachment.Attachment;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Attachments of one issue, loaded once and indexed by lower-cased filename and by the {@code Signed_} prefix.
+ *
+ * Meant to live for a single request/job: build it once, pass it through the attach pipeline and {@link #add}
+ * attachments as they are created, instead of re-reading {@code AttachmentManager.getAttachments} per lookup.
+ */
+public final class IssueAttachmentIndex {
+
+    public static final String SIGNED_PREFIX = "Signed_";
+
+    private final Issue issue;
+    private final Map<String, Attachment> byName = new HashMap<>();
+    private final List<Attachment> signed = new ArrayList<>();
+
+    private IssueAttachmentIndex(Issue issue) {
+        this.issue = issue;
+    }
+
+    public static IssueAttachmentIndex build(Issue issue) {
+        return build(issue, ComponentAccessor.getAttachmentManager());
+    }
+
+    public static IssueAttachmentIndex build(Issue issue, AttachmentManager attachmentManager) {
+        IssueAttachmentIndex index = new IssueAttachmentIndex(issue);
+        if (issue == null || attachmentManager == null) return index;
+        List<Attachment> atts = attachmentManager.getAttachments(issue);
+        if (atts != null) {
+            for (Attachment a : atts) {
+                index.add(a);
+            }
+        }
+        return index;
+    }
+
+    public Issue getIssue() {
+        return issue;
+    }
+
+    /**
+     * Case-insensitive filename lookup (matches how duplicate signed files have always been detected).
+     */
+    public Attachment byFilename(String filename) {
+        if (filename == null || filename.trim().isEmpty()) return null;
+        return byName.get(key(filename));
+    }
+
+    /**
+     * Attachments whose filename starts with {@code Signed_}, in attachment order.
+     */
+    public List<Attachment> signed() {
+        return Collections.unmodifiableList(signed);
+    }
+
+    public void add(Attachment a) {
+        if (a == null || a.getFilename() == null) return;
+        // First attachment with a given name wins, like the linear scans this replaces.
+        byName.putIfAbsent(key(a.getFilename()), a);
+        if (a.getFilename().startsWith(SIGNED_PREFIX)) {
+            signed.add(a);
+        }
+    }
+
+    private static String key(String filename) {
+        return filename.trim().toLowerCase(Locale.ROOT);
+    }
+}
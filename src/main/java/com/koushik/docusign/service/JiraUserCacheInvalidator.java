@@ -0,0 +1,97 @@
+package com.koushik.docusign.service;
+
+import com.atlassian.crowd.event.directory.RemoteDirectorySynchronisedEvent;
+import com.atlassian.crowd.event.group.GroupMembershipCreatedEvent;
+import com.atlassian.crowd.event.group.GroupMembershipDeletedEvent;
+import com.atlassian.crowd.event.group.GroupMembershipsCreatedEvent;
+import com.atlassian.crowd.event.user.UserDeletedEvent;
+import com.atlassian.crowd.event.user.UserEditedEvent;
+import com.atlassian.event.api.EventListener;
+import com.atlassian.event.api.EventPublisher;
+import com.atlassian.jira.event.ProjectDeletedEvent;
+import com.atlassian.jira.event.role.ProjectRoleDeletedEvent;
+import com.atlassian.jira.event.role.ProjectRoleUpdatedEvent;
+import com.atlassian.plugin.spring.scanner.annotation.imports.ComponentImport;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+/**
+ * Drops cached signer candidates ({@link JiraUserService}) when the data they were built from changes.
+ *
+ * Role actor changes only affect one project. Group membership and user changes can affect any project whose roles
+ * contain the group/user, which isn't cheap to work out, so those clear the whole cache.
+ */
+@Named
+public class JiraUserCacheInvalidator {
+
+    private final EventPublisher eventPublisher;
+
+    @Inject
+    public JiraUserCacheInvalidator(@ComponentImport EventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostConstruct
+    public void onStart() {
+        eventPublisher.register(this);
+    }
+
+    @PreDestroy
+    public void onStop() {
+        eventPublisher.unregister(this);
+        JiraUserService.invalidateAll();
+    }
+
+    @EventListener
+    public void onProjectRoleUpdated(ProjectRoleUpdatedEvent event) {
+        if (event.getProject() != null) {
+            JiraUserService.invalidateProject(event.getProject().getId());
+        } else {
+            JiraUserService.invalidateAll();
+        }
+    }
+
+    @EventListener
+    public void onProjectRoleDeleted(ProjectRoleDeletedEvent event) {
+        JiraUserService.invalidateAll();
+    }
+
+    @EventListener
+    public void onProjectDeleted(ProjectDeletedEvent event) {
+        JiraUserService.invalidateProject(event.getId());
+    }
+
+    @EventListener
+    public void onGroupMembershipCreated(GroupMembershipCreatedEvent event) {
+        JiraUserService.invalidateAll();
+    }
+
+    @EventListener
+    public void onGroupMembershipsCreated(GroupMembershipsCreatedEvent event) {
+        JiraUserService.invalidateAll();
+    }
+
+    @EventListener
+    public void onGroupMembershipDeleted(GroupMembershipDeletedEvent event) {
+        JiraUserService.invalidateAll();
+    }
+
+    @EventListener
+    public void onUserEdited(UserEditedEvent event) {
+        // Display names are cached; deactivated users must disappear.
+        JiraUserService.invalidateAll();
+    }
+
+    @EventListener
+    public void onUserDeleted(UserDeletedEvent event) {
+        JiraUserService.invalidateAll();
+    }
+
+    @EventListener
+    public void onDirectorySynchronised(RemoteDirectorySynchronisedEvent event) {
+        JiraUserService.invalidateAll();
+    }
+}
@@ -8,17 +8,36 @@ import com.atlassian.jira.security.roles.ProjectRoleActors;
 import com.atlassian.jira.security.roles.ProjectRoleManager;
 import com.atlassian.jira.user.ApplicationUser;
 import com.atlassian.jira.user.util.UserManager;
+import com.koushik.docusign.config.DocusignConfig;
+import com.koushik.docusign.oauth.ExpiringLruCache;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Service to fetch assignable Jira users for a given issue's project.
+ *
+ * Signer candidates (role members of a project) are cached per project, because expanding every role on every issue
+ * view is expensive on large projects. {@link JiraUserCacheInvalidator} drops entries on role/membership/user changes;
+ * the TTL bounds staleness for changes that don't raise a local event (e.g. another cluster node, directory sync).
+ *
+ * Config (plugin setting / -D / env):
+ *   DOCUSIGN_SIGNER_CACHE_PROJECTS  (default 500)      max projects kept
+ *   DOCUSIGN_SIGNER_CACHE_TTL_MS    (default 3600000)  max age of a project entry
+ *   DOCUSIGN_PANEL_EMBEDDED_USERS   (default 100)      project candidates rendered into the panel; the rest are
+ *                                                      reached through {@link #searchCandidates}
  */
 public class JiraUserService {
 
+    private static final ExpiringLruCache<Long, SignerCandidateIndex> CANDIDATES =
+            new ExpiringLruCache<>(DocusignConfig.getInt("DOCUSIGN_SIGNER_CACHE_PROJECTS", 500));
+    // Bumped on every invalidation, so a load that raced with a change event is not cached.
+    private static final AtomicLong GENERATION = new AtomicLong();
+
     private final ProjectRoleManager projectRoleManager;
     private final UserManager userManager;
 
@@ -40,8 +59,20 @@ public class JiraUserService {
             return new ArrayList<>();
         }
 
-        Set<String> seenUserKeys = new HashSet<>();
         List<JiraUser> result = new ArrayList<>();
+        for (ApplicationUser user : getProjectRoleUsers(project)) {
+            String email = user.getEmailAddress();
+            result.add(new JiraUser(user.getKey(), user.getDisplayName(), email != null ? email : ""));
+        }
+        return result;
+    }
+
+    /**
+     * Members of every role of {@code project}, resolved by key and deduplicated across roles, in role order.
+     */
+    private List<ApplicationUser> getProjectRoleUsers(Project project) {
+        Set<String> seenUserKeys = new HashSet<>();
+        List<ApplicationUser> result = new ArrayList<>();
 
         for (ProjectRole role : projectRoleManager.getProjectRoles()) {
             ProjectRoleActors actors = projectRoleManager.getProjectRoleActors(role, project);
@@ -61,14 +92,145 @@ public class JiraUserService {
                 }
 
                 seenUserKeys.add(userKey);
-                String email = resolved.getEmailAddress();
-                result.add(new JiraUser(userKey, resolved.getDisplayName(), email != null ? email : ""));
+                result.add(resolved);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Signer candidates for the issue's project (role members, deduplicated), served from the per-project cache.
+     * The returned list is shared and unmodifiable.
+     */
+    public List<SignerCandidate> getSignerCandidatesForIssue(Issue issue) {
+        return getCandidateIndex(issue).all();
+    }
+
+    /**
+     * Prefix search over the issue's project candidates by display name, display-name word or username; at most
+     * {@code limit} results, ordered by display name.
+     */
+    public List<SignerCandidate> searchCandidates(Issue issue, String query, int limit) {
+        return getCandidateIndex(issue).search(query, limit);
+    }
+
+    private SignerCandidateIndex getCandidateIndex(Issue issue) {
+        if (issue == null) {
+            throw new IllegalArgumentException("issue is required");
+        }
+        Project project = issue.getProjectObject();
+        if (project == null || project.getId() == null) {
+            return SignerCandidateIndex.build(Collections.<SignerCandidate>emptyList());
+        }
+        SignerCandidateIndex cached = CANDIDATES.get(project.getId());
+        if (cached != null) {
+            return cached;
+        }
+        long generation = GENERATION.get();
+        List<SignerCandidate> loaded = new ArrayList<>();
+        for (ApplicationUser user : getProjectRoleUsers(project)) {
+            loaded.add(toCandidate(user));
+        }
+        SignerCandidateIndex index = SignerCandidateIndex.build(loaded);
+        synchronized (GENERATION) {
+            if (GENERATION.get() == generation) {
+                CANDIDATES.put(project.getId(), index, System.currentTimeMillis() + DocusignConfig.getLong("DOCUSIGN_SIGNER_CACHE_TTL_MS", 3_600_000L));
             }
         }
+        return index;
+    }
 
+    /**
+     * Candidates for the signer picker: assignee, reporter and {@code viewer} first when role expansion missed them
+     * (common when projects grant access through groups), then up to DOCUSIGN_PANEL_EMBEDDED_USERS of the cached
+     * project candidates. Anyone past the cap is found through {@link #searchCandidates}.
+     */
+    public List<SignerCandidate> getPanelCandidates(Issue issue, ApplicationUser viewer) {
+        List<SignerCandidate> projectCandidates = getSignerCandidatesForIssue(issue);
+        Set<String> existing = new HashSet<>();
+        for (SignerCandidate c : projectCandidates) {
+            existing.add(c.getUserKey());
+        }
+        List<SignerCandidate> result = new ArrayList<>();
+        addIfMissing(result, existing, issue.getAssignee());
+        addIfMissing(result, existing, issue.getReporter());
+        addIfMissing(result, existing, viewer);
+        int embedded = DocusignConfig.getInt("DOCUSIGN_PANEL_EMBEDDED_USERS", 100);
+        if (projectCandidates.size() <= embedded) {
+            result.addAll(projectCandidates);
+            return result;
+        }
+        // Keep the pinned users visible even when they are past the cap.
+        Set<String> pinned = new HashSet<>();
+        for (ApplicationUser u : new ApplicationUser[] {issue.getAssignee(), issue.getReporter(), viewer}) {
+            if (u != null && u.getKey() != null) pinned.add(u.getKey());
+        }
+        int added = 0;
+        for (SignerCandidate c : projectCandidates) {
+            if (added < embedded || pinned.contains(c.getUserKey())) {
+                result.add(c);
+                added++;
+            }
+        }
         return result;
     }
 
+    private static void addIfMissing(List<SignerCandidate> into, Set<String> existingKeys, ApplicationUser user) {
+        if (user == null) return;
+        String userKey = user.getKey();
+        if (userKey == null || userKey.trim().isEmpty() || !existingKeys.add(userKey)) return;
+        into.add(toCandidate(user));
+    }
+
+    private static SignerCandidate toCandidate(ApplicationUser user) {
+        String displayName = user.getDisplayName();
+        return new SignerCandidate(user.getKey(), displayName != null ? displayName : user.getKey(), user.getUsername());
+    }
+
+    public static void invalidateProject(Long projectId) {
+        if (projectId == null) return;
+        synchronized (GENERATION) {
+            GENERATION.incrementAndGet();
+            CANDIDATES.remove(projectId);
+        }
+    }
+
+    public static void invalidateAll() {
+        synchronized (GENERATION) {
+            GENERATION.incrementAndGet();
+            CANDIDATES.clear();
+        }
+    }
+
+    /**
+     * Cached (userKey, displayName, username) triple; no email so the cache stays small and nothing sensitive is kept
+     * around. The username is only used for search matching and is not sent to the browser.
+     */
+    public static final class SignerCandidate {
+        private final String userKey;
+        private final String displayName;
+        private final String username;
+
+        public SignerCandidate(String userKey, String displayName, String username) {
+            this.userKey = userKey;
+            this.displayName = displayName;
+            this.username = username;
+        }
+
+        public String getUserKey() {
+            return userKey;
+        }
+
+        public String getDisplayName() {
+            return displayName;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+    }
+
     /**
      * Simple DTO for UI consumption.
      */
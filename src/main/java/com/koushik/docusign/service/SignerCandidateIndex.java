@@ -0,0 +1,158 @@
+package com.koushik.docusign.service;
+
+import com.koushik.docusign.service.JiraUserService.SignerCandidate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Immutable prefix index over a project's signer candidates, built once per cache load so typeahead lookups don't
+ * scan the whole list.
+ *
+ * Every candidate contributes several lower-cased terms (the full display name, each word of it, and the username),
+ * kept in one sorted array. A query is a binary search for the first term &gt;= the prefix followed by a forward scan
+ * while terms still start with it. Matches are collected by the candidate's rank in display-name order, so the top N
+ * come out sorted without a second sort.
+ */
+public final class SignerCandidateIndex {
+
+    private static final Comparator<SignerCandidate> BY_DISPLAY_NAME =
+            (a, b) -> {
+                int c = String.CASE_INSENSITIVE_ORDER.compare(safe(a.getDisplayName()), safe(b.getDisplayName()));
+                return c != 0 ? c : safe(a.getUserKey()).compareTo(safe(b.getUserKey()));
+            };
+
+    private final List<SignerCandidate> candidates;
+    private final SignerCandidate[] ranked;
+    private final String[] terms;
+    private final int[] owners;
+
+    private SignerCandidateIndex(List<SignerCandidate> candidates, SignerCandidate[] ranked, String[] terms, int[] owners) {
+        this.candidates = candidates;
+        this.ranked = ranked;
+        this.terms = terms;
+        this.owners = owners;
+    }
+
+    public static SignerCandidateIndex build(List<SignerCandidate> candidates) {
+        List<SignerCandidate> original = Collections.unmodifiableList(new ArrayList<>(candidates));
+        SignerCandidate[] ranked = original.toArray(new SignerCandidate[0]);
+        Arrays.sort(ranked, BY_DISPLAY_NAME);
+
+        List<Term> all = new ArrayList<>();
+        for (int rank = 0; rank < ranked.length; rank++) {
+            for (String t : termsOf(ranked[rank])) {
+                all.add(new Term(t, rank));
+            }
+        }
+        Collections.sort(all);
+
+        String[] terms = new String[all.size()];
+        int[] owners = new int[all.size()];
+        for (int i = 0; i < terms.length; i++) {
+            terms[i] = all.get(i).text;
+            owners[i] = all.get(i).owner;
+        }
+        return new SignerCandidateIndex(original, ranked, terms, owners);
+    }
+
+    /**
+     * All candidates, in the order they were loaded.
+     */
+    public List<SignerCandidate> all() {
+        return candidates;
+    }
+
+    public int size() {
+        return candidates.size();
+    }
+
+    /**
+     * Up to {@code limit} candidates whose display name, any display-name word, or username starts with
+     * {@code query} (case-insensitive), ordered by display name. A blank query returns the first {@code limit}
+     * candidates by display name.
+     */
+    public List<SignerCandidate> search(String query, int limit) {
+        if (limit <= 0 || ranked.length == 0) {
+            return Collections.emptyList();
+        }
+        String prefix = normalize(query);
+        List<SignerCandidate> result = new ArrayList<>(Math.min(limit, ranked.length));
+        if (prefix.isEmpty()) {
+            for (int i = 0; i < ranked.length && result.size() < limit; i++) {
+                result.add(ranked[i]);
+            }
+            return result;
+        }
+
+        BitSet matched = new BitSet(ranked.length);
+        for (int i = lowerBound(prefix); i < terms.length && terms[i].startsWith(prefix); i++) {
+            matched.set(owners[i]);
+        }
+        for (int rank = matched.nextSetBit(0); rank >= 0 && result.size() < limit; rank = matched.nextSetBit(rank + 1)) {
+            result.add(ranked[rank]);
+        }
+        return result;
+    }
+
+    private int lowerBound(String key) {
+        int lo = 0;
+        int hi = terms.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (terms[mid].compareTo(key) < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private static Set<String> termsOf(SignerCandidate c) {
+        Set<String> out = new LinkedHashSet<>();
+        String name = normalize(c.getDisplayName());
+        if (!name.isEmpty()) {
+            out.add(name);
+            for (String word : name.split("[\\s,.()\\-_@]+")) {
+                if (!word.isEmpty()) out.add(word);
+            }
+        }
+        String username = normalize(c.getUsername());
+        if (!username.isEmpty()) {
+            out.add(username);
+        }
+        return out;
+    }
+
+    private static String normalize(String s) {
+        return s == null ? "" : s.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private static String safe(String s) {
+        return s == null ? "" : s;
+    }
+
+    private static final class Term implements Comparable<Term> {
+        final String text;
+        final int owner;
+
+        Term(String text, int owner) {
+            this.text = text;
+            this.owner = owner;
+        }
+
+        @Override
+        public int compareTo(Term o) {
+            int c = text.compareTo(o.text);
+            return c != 0 ? c : Integer.compare(owner, o.owner);
+        }
+    }
+}
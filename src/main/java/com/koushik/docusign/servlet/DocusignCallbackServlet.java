@@ -9,6 +9,7 @@ import com.google.gson.Gson;
 import com.google.gson.JsonObject;
 import com.koushik.docusign.http.DocusignHttpClientFactory;
 import com.koushik.docusign.oauth.DocusignTokenStore;
+import com.koushik.docusign.oauth.ExpiringLruCache;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpPost;
@@ -24,8 +25,6 @@ import javax.servlet.http.HttpServletResponse;
 import javax.servlet.http.HttpSession;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Servlet that handles DocuSign OAuth callback.
@@ -58,10 +57,15 @@ public class DocusignCallbackServlet extends HttpServlet {
     public static final String SESSION_TOKEN_KEY = "docusign.token_key";
 
     /**
-     * In-memory token storage (keyed by username)
-     * TODO: Replace with persistent storage (database) in production
+     * Upper bound on in-memory token entries; persisted tokens in {@link DocusignTokenStore} are the source of truth.
      */
-    private static final Map<String, TokenInfo> tokenStore = new ConcurrentHashMap<>();
+    public static final int TOKEN_CACHE_MAX_ENTRIES = 1_000;
+
+    /**
+     * In-memory token cache keyed by Jira user key. Entries expire with the access token and the map is bounded,
+     * so it doesn't grow with every user who ever connected.
+     */
+    private static final ExpiringLruCache<String, TokenInfo> tokenStore = new ExpiringLruCache<>(TOKEN_CACHE_MAX_ENTRIES);
 
     /**
      * JSON parser
@@ -226,11 +230,14 @@ public class DocusignCallbackServlet extends HttpServlet {
                     (preferredAccountId != null ? preferredAccountId.trim() : null),
                     enforceAccount);
 
-            // Prefer Jira username to make token usable across sessions/hostnames; fallback to session id.
-            String tokenKey = getUsername(request, session);
+            // Key by the stable Jira user key; anonymous callbacks only keep the token in the session.
+            ApplicationUser user = resolveUser(request);
+            String tokenKey = user != null && user.getKey() != null ? user.getKey() : getUsername(request, session);
 
             // Store token in memory
-            tokenStore.put(tokenKey, tokenInfo);
+            if (user != null && user.getKey() != null) {
+                tokenStore.put(user.getKey(), tokenInfo, tokenInfo.getExpiresAt());
+            }
 
             // Also store token in the HTTP session so it survives plugin reloads during dev.
             session.setAttribute(SESSION_ACCESS_TOKEN, tokenInfo.getAccessToken());
@@ -239,7 +246,6 @@ public class DocusignCallbackServlet extends HttpServlet {
             session.setAttribute(SESSION_TOKEN_KEY, tokenKey);
 
             // Persist tokens per user (for production readiness)
-            ApplicationUser user = resolveUser(request);
             if (user != null) {
                 DocusignTokenStore.saveTokensFromCallback(
                         user,
@@ -507,11 +513,11 @@ public class DocusignCallbackServlet extends HttpServlet {
     /**
      * Gets the access token for a user (for use by other components).
      * 
-     * @param username Username
+     * @param userKey Jira user key
      * @return Access token or null if not found/expired
      */
-    public static String getAccessToken(String username) {
-        TokenInfo tokenInfo = tokenStore.get(username);
+    public static String getAccessToken(String userKey) {
+        TokenInfo tokenInfo = tokenStore.get(userKey);
         if (tokenInfo == null || tokenInfo.isExpired()) {
             return null;
         }
@@ -521,14 +527,23 @@ public class DocusignCallbackServlet extends HttpServlet {
     /**
      * Gets TokenInfo for a user (for use by other components).
      * 
-     * @param username Username
+     * @param userKey Jira user key
      * @return TokenInfo or null if not found/expired
      */
-    public static TokenInfo getTokenInfo(String username) {
-        TokenInfo tokenInfo = tokenStore.get(username);
+    public static TokenInfo getTokenInfo(String userKey) {
+        TokenInfo tokenInfo = tokenStore.get(userKey);
         if (tokenInfo == null || tokenInfo.isExpired()) {
             return null;
         }
         return tokenInfo;
     }
+
+    /**
+     * Drops the in-memory token for a user (on disconnect).
+     *
+     * @param userKey Jira user key
+     */
+    public static void removeToken(String userKey) {
+        tokenStore.remove(userKey);
+    }
 }
@@ -0,0 +1,95 @@
+package ut.com.koushik.docusign.oauth;
+
+import com.koushik.docusign.oauth.ExpiringLruCache;
+import com.koushik.docusign.servlet.DocusignCallbackServlet;
+import com.koushik.docusign.servlet.DocusignCallbackServlet.TokenInfo;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ExpiringLruCacheTest {
+
+    @Test
+    public void staysBoundedAfter100kConnects() {
+        int max = DocusignCallbackServlet.TOKEN_CACHE_MAX_ENTRIES;
+        ExpiringLruCache<String, TokenInfo> cache = new ExpiringLruCache<>(max);
+
+        for (int i = 0; i < 100_000; i++) {
+            TokenInfo token = new TokenInfo("access-" + i, "refresh-" + i, 3600L);
+            cache.put("user-" + i, token, token.getExpiresAt());
+            assertTrue("cache exceeded its bound at connect " + i, cache.size() <= max);
+        }
+
+        assertEquals(max, cache.size());
+        // Most recent connects are kept, the oldest were evicted.
+        assertNotNull(cache.get("user-99999"));
+        assertNull(cache.get("user-0"));
+    }
+
+    @Test
+    public void expiredEntriesAreNotReturned() {
+        AtomicLong now = new AtomicLong(1_000_000L);
+        ExpiringLruCache<String, String> cache = new ExpiringLruCache<>(3, now::get);
+
+        cache.put("short", "a", now.get() + 10);
+        cache.put("live1", "b", now.get() + 10_000);
+        cache.put("live2", "c", now.get() + 10_000);
+        now.addAndGet(100);
+
+        assertNull(cache.get("short"));
+        assertEquals(2, cache.size());
+
+        cache.put("live3", "d", now.get() + 10_000);
+        cache.put("expiredOnArrival", "e", now.get() - 1);
+        assertNull(cache.get("expiredOnArrival"));
+        assertEquals("b", cache.get("live1"));
+        assertEquals(3, cache.size());
+    }
+
+    @Test
+    public void fullCacheSweepsExpiredEntriesBeforeEvictingLiveOnes() {
+        AtomicLong now = new AtomicLong(1_000_000L);
+        ExpiringLruCache<String, String> cache = new ExpiringLruCache<>(3, now::get);
+
+        // live1 is the least recently used entry; the expired one is the most recently used.
+        cache.put("live1", "a", now.get() + 10_000);
+        cache.put("live2", "b", now.get() + 10_000);
+        cache.put("short", "c", now.get() + 10);
+        now.addAndGet(100);
+
+        // No get() first: only put()'s sweep can drop the expired entry.
+        cache.put("live3", "d", now.get() + 10_000);
+
+        assertEquals(3, cache.size());
+        assertEquals("a", cache.get("live1"));
+        assertEquals("b", cache.get("live2"));
+        assertEquals("d", cache.get("live3"));
+        assertNull(cache.get("short"));
+    }
+
+    @Test
+    public void removeDropsEntry() {
+        ExpiringLruCache<String, String> cache = new ExpiringLruCache<>(10);
+        cache.put("user", "token", System.currentTimeMillis() + 60_000L);
+        cache.remove("user");
+        assertNull(cache.get("user"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void clearDropsAllEntries() {
+        ExpiringLruCache<String, String> cache = new ExpiringLruCache<>(10);
+        cache.put("a", "1", System.currentTimeMillis() + 60_000L);
+        cache.put("b", "2", System.currentTimeMillis() + 60_000L);
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertNull(cache.get("a"));
+        cache.put("c", "3", System.currentTimeMillis() + 60_000L);
+        assertEquals("3", cache.get("c"));
+    }
+}
@@ -0,0 +1,45 @@
+package ut.com.koushik.docusign.service;
+
+import com.koushik.docusign.service.JiraUserService.SignerCandidate;
+import com.koushik.docusign.service.SignerCandidateIndex;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SignerCandidateIndexTest {
+
+    private static final SignerCandidateIndex INDEX = SignerCandidateIndex.build(Arrays.asList(
+            new SignerCandidate("k1", "Zoe Smith", "zsmith"),
+            new SignerCandidate("k2", "Adam Smithers", "asmithers"),
+            new SignerCandidate("k3", "Bob Jones", "bjones"),
+            new SignerCandidate("k4", "smith", "jsmith")));
+
+    @Test
+    public void matchesDisplayNameWordsAndUsernameOrderedByDisplayName() {
+        assertEquals(Arrays.asList("k2", "k4", "k1"), keys(INDEX.search("SMITH", 10)));
+        assertEquals(Arrays.asList("k3"), keys(INDEX.search("bjo", 10)));
+        assertEquals(Arrays.asList("k3"), keys(INDEX.search("bob  j", 10)));
+        assertTrue(INDEX.search("x", 10).isEmpty());
+    }
+
+    @Test
+    public void limitAndBlankQuery() {
+        assertEquals(Arrays.asList("k2"), keys(INDEX.search("smith", 1)));
+        assertEquals(Arrays.asList("k2", "k3"), keys(INDEX.search("  ", 2)));
+        // all() keeps load order for the embedded list.
+        assertEquals(Arrays.asList("k1", "k2", "k3", "k4"), keys(INDEX.all()));
+    }
+
+    private static List<String> keys(List<SignerCandidate> candidates) {
+        List<String> out = new ArrayList<>();
+        for (SignerCandidate c : candidates) {
+            out.add(c.getUserKey());
+        }
+        return out;
+    }
+}